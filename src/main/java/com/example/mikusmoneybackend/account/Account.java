@@ -2,11 +2,12 @@ package com.example.mikusmoneybackend.account;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.money.Money;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -23,14 +24,19 @@ public class Account {
     private Long id;
 
     @Column(name = "total_money", nullable = false, precision = 19, scale = 2)
-    private BigDecimal totalMoney;
+    private Money totalMoney;
+
+    // Part of the ledger balance reserved by pending holds; not available for spending
+    @ColumnDefault("0")
+    @Column(name = "held_money", nullable = false, precision = 19, scale = 2)
+    private Money heldMoney;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     // One-to-one relationship with Miku
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "miku_id", nullable = false, unique = true)
     private Miku miku;
 
@@ -42,31 +48,64 @@ public class Account {
     @PrePersist
     protected void onCreate() {
         if (this.totalMoney == null) {
-            this.totalMoney = BigDecimal.ZERO;
+            this.totalMoney = Money.ZERO;
+        }
+        if (this.heldMoney == null) {
+            this.heldMoney = Money.ZERO;
         }
     }
 
-    private void validatePositiveAmount(BigDecimal amount) {
-    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    private void validatePositiveAmount(Money amount) {
+    if (amount == null || !amount.isPositive()) {
         throw new IllegalArgumentException("Amount must be positive");
     }
 }
 
-    public void deposit(BigDecimal amount) {
+    public void deposit(Money amount) {
+        validatePositiveAmount(amount);
+        this.totalMoney = this.totalMoney.plus(amount);
+    }
+
+    public void withdraw(Money amount) {
         validatePositiveAmount(amount);
-        this.totalMoney = this.totalMoney.add(amount);
+        if (!hasEnoughBalance(amount)) {
+            throw new IllegalStateException("Insufficient balance. Current: " + getAvailableMoney() + ", Required: " + amount);
+        }
+        this.totalMoney = this.totalMoney.minus(amount);
     }
 
-    public void withdraw(BigDecimal amount) {
+    /**
+     * Reserves part of the available balance without moving it.
+     */
+    public void placeHold(Money amount) {
         validatePositiveAmount(amount);
         if (!hasEnoughBalance(amount)) {
-            throw new IllegalStateException("Insufficient balance. Current: " + this.totalMoney + ", Required: " + amount);
+            throw new IllegalStateException("Insufficient balance. Current: " + getAvailableMoney() + ", Required: " + amount);
         }
-        this.totalMoney = this.totalMoney.subtract(amount);
+        this.heldMoney = this.heldMoney.plus(amount);
+    }
+
+    /**
+     * Returns a reservation to the available balance.
+     */
+    public void releaseHold(Money amount) {
+        validatePositiveAmount(amount);
+        if (this.heldMoney.isLessThan(amount)) {
+            throw new IllegalStateException("Cannot release more than is held");
+        }
+        this.heldMoney = this.heldMoney.minus(amount);
+    }
+
+    /**
+     * Takes reserved money out of the ledger balance.
+     */
+    public void captureHold(Money amount) {
+        releaseHold(amount);
+        this.totalMoney = this.totalMoney.minus(amount);
     }
 
     //luego lo cambio, cosa por cosa, cosa por cosa... I wanna cry :(
-    public void transfer(Account destinationAccount, BigDecimal amount) {
+    public void transfer(Account destinationAccount, Money amount) {
         if (destinationAccount == null) {
             throw new IllegalArgumentException("Destination account cannot be null");
         }
@@ -74,11 +113,18 @@ public class Account {
         destinationAccount.deposit(amount);
     }
     
-    public boolean hasEnoughBalance(BigDecimal amount) {
-        return this.totalMoney.compareTo(amount) >= 0;
+    public boolean hasEnoughBalance(Money amount) {
+        return !getAvailableMoney().isLessThan(amount);
+    }
+
+    /**
+     * Ledger balance minus the money reserved by pending holds.
+     */
+    public Money getAvailableMoney() {
+        return this.totalMoney.minus(this.heldMoney);
     }
 
     public boolean isEmpty() {
-        return this.totalMoney.compareTo(BigDecimal.ZERO) == 0;
+        return this.totalMoney.isZero();
     }
 }
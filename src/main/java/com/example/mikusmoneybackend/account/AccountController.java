@@ -1,8 +1,12 @@
 package com.example.mikusmoneybackend.account;
 
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -37,4 +41,16 @@ public class AccountController {
     public ResponseEntity<Boolean> isAccountEmpty() {
         return ResponseEntity.ok(accountService.isAccountEmpty());
     }
+
+    /**
+     * Returns the authenticated user's balance at a point in time.
+     * 
+     * @param at ISO date-time to look at (optional, defaults to now)
+     * @return The balance at that instant
+     */
+    @GetMapping("/balance")
+    public ResponseEntity<BalanceResponse> getBalanceAt(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(accountService.getBalanceAt(at));
+    }
 }
@@ -1,10 +1,18 @@
 package com.example.mikusmoneybackend.account;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for Account entity operations.
  */
@@ -23,7 +31,19 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     /**
      * Finds an account by the associated Miku's public code.
-     * Used for transfers to locate the receiver's account.
+     * Used for transfers to locate the receiver's account; the Miku is fetched
+     * with it because the receiver's cached snapshot shows their name.
      */
+    @EntityGraph(attributePaths = "miku")
     Optional<Account> findByMiku_PublicCode(String publicCode);
+
+    /**
+     * Locks the accounts of the given users in ascending account ID order and reads them.
+     * A fixed lock order keeps concurrent multi-account updates from deadlocking. Accounts
+     * must not have been loaded earlier in the transaction: the lock does not refresh an
+     * instance the persistence context already holds.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.miku.id IN :mikuIds ORDER BY a.id")
+    List<Account> lockAllByMikuIdInOrderById(@Param("mikuIds") Collection<Long> mikuIds);
 }
@@ -2,7 +2,7 @@ package com.example.mikusmoneybackend.account;
 
 import lombok.*;
 
-import java.math.BigDecimal;
+import com.example.mikusmoneybackend.money.Money;
 
 @Data
 @NoArgsConstructor
@@ -11,7 +11,9 @@ import java.math.BigDecimal;
 public class AccountResponse {
 
     private Long id;
-    private BigDecimal totalMoney;
+    private Money totalMoney;
+    private Money availableMoney;
+    private Money heldMoney;
     private String fullName;
     private String publicCode;
     
@@ -1,11 +1,16 @@
 package com.example.mikusmoneybackend.account;
 
+import java.time.LocalDateTime;
+
 import org.springframework.stereotype.Service;
 
 import com.example.mikusmoneybackend.auth.AuthContextService;
-import com.example.mikusmoneybackend.auth.AuthContextService.AuthContext;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.ReadOnlyTransaction;
+import com.example.mikusmoneybackend.config.SingleFlight;
+import com.example.mikusmoneybackend.config.exception.AuthenticationException;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -17,35 +22,58 @@ import lombok.RequiredArgsConstructor;
 public class AccountService {
 
     private final AuthContextService authContextService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final SingleFlight singleFlight;
 
     /**
      * Retrieves the account details for the authenticated user.
      * No PIN required for read-only operation.
+     * Served from the account snapshot cache, keyed by the user ID of the token; the database
+     * (user included) is only read on a miss, and concurrent misses for the same user share a single query. Only the immutable
+     * snapshot is shared, never the entity of the leader's session.
      * 
      * @return AccountResponse with account balance and user information
      */
-    @Transactional
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
     public AccountResponse getAccountDetail() {
-        // Validate authentication (no PIN required for read-only operation)
-        AuthContext context = authContextService.validateAuth(null);
-        
-        Account account = context.account();
-        
-        return AccountResponse.builder()
-                .id(account.getId())
-                .totalMoney(account.getTotalMoney())
-                .fullName(context.miku().getFullName())
-                .publicCode(context.miku().getPublicCode())
-                .build();
+        Long userId = authContextService.getAuthenticatedUserId();
+        if (userId == null) {
+            throw AuthenticationException.notAuthenticated();
+        }
+
+        return accountSnapshotCache.get(userId, () -> singleFlight.executeForUser(
+                "account", userId, () -> accountSnapshotCache.snapshot(authContextService.getAuthenticatedAccount())));
     }
 
     /**
      * Checks if the authenticated user's account is empty.
+     * Served from the same cache as {@link #getAccountDetail()}.
      * 
      * @return true if account balance is zero
      */
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
     public boolean isAccountEmpty() {
+        return getAccountDetail().getTotalMoney().isZero();
+    }
+
+    /**
+     * Returns the authenticated user's balance at the given instant.
+     * 
+     * @param at The instant to look at (defaults to now)
+     * @return BalanceResponse with the balance at that instant
+     */
+    @Bulkhead(BulkheadPool.READS)
+    public BalanceResponse getBalanceAt(LocalDateTime at) {
         Account account = authContextService.getAuthenticatedAccount();
-        return account.isEmpty();
+        LocalDateTime instant = at != null ? at : LocalDateTime.now();
+
+        return BalanceResponse.builder()
+                .accountId(account.getId())
+                .balance(balanceSnapshotService.getBalanceAt(account.getId(), instant))
+                .at(instant)
+                .build();
     }
 }
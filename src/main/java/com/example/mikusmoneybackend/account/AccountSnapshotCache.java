@@ -0,0 +1,249 @@
+package com.example.mikusmoneybackend.account;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.config.AccountCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Bounded, per-user cache of {@link AccountResponse}.
+ * 
+ * Entries are written through by every balance mutation once its transaction
+ * commits, so a local read never observes a rolled-back balance. Each entry
+ * carries the account's optimistic-lock version: an older version never
+ * replaces a newer one, whatever order concurrent commits and loads finish in.
+ * The TTL bounds staleness for writes made by other application instances.
+ * Least recently used entries are evicted once the maximum size is reached.
+ * A transaction that has mutated an account reads it from the database until it
+ * commits, so several operations in one transaction see each other's writes.
+ */
+@Component
+public class AccountSnapshotCache {
+
+    private final AccountCacheProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Timer age;
+
+    public AccountSnapshotCache(AccountCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > properties.getMaxSize();
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hits = meterRegistry.counter("account.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("account.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("account.cache.evictions");
+        this.age = Timer.builder("account.cache.age")
+                .description("Age of the cached account snapshot when served")
+                .register(meterRegistry);
+        Gauge.builder("account.cache.size", this, AccountSnapshotCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached snapshot of a user's account, loading it on a miss.
+     * 
+     * @param mikuId The user ID
+     * @param loader Reads the account from the database and takes its {@link #snapshot(Account)}
+     * @return The account snapshot
+     */
+    public AccountResponse get(Long mikuId, Supplier<Snapshot> loader) {
+        if (isPendingInTransaction(mikuId)) {
+            return loader.get().response();
+        }
+
+        long now = System.nanoTime();
+        Entry entry = read(mikuId);
+
+        if (entry != null && now - entry.loadedAt() < properties.getTtl().toNanos()) {
+            hits.increment();
+            age.record(Duration.ofNanos(now - entry.loadedAt()));
+            return entry.response();
+        }
+
+        misses.increment();
+        Snapshot snapshot = loader.get();
+        write(mikuId, new Entry(snapshot.response(), snapshot.version(), System.nanoTime()));
+        return snapshot.response();
+    }
+
+    /**
+     * Takes an immutable snapshot of an account. Unlike the entity, it can be
+     * handed to other threads (e.g. single-flight followers) safely.
+     * 
+     * @param account The loaded account
+     * @return The response and the version it was read at
+     */
+    public Snapshot snapshot(Account account) {
+        return new Snapshot(toResponse(account), account.getVersion());
+    }
+
+    /**
+     * Writes the account's current state through to the cache once the
+     * surrounding transaction commits (immediately when there is none).
+     * Must be called after the mutation has been applied to the entity.
+     * 
+     * @param account The mutated account
+     */
+    public void refreshAfterCommit(Account account) {
+        Long mikuId = account.getMiku().getId();
+        AccountResponse response = toResponse(account);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(mikuId, new Entry(response, account.getVersion(), System.nanoTime()));
+            return;
+        }
+
+        pendingInTransaction().add(mikuId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // The version is read here: it is only incremented when the update is flushed
+                write(mikuId, new Entry(response, account.getVersion(), System.nanoTime()));
+            }
+        });
+    }
+
+    /**
+     * Returns the version of the cached snapshot without loading or counting a request.
+     * 
+     * @param mikuId The user ID
+     * @return The cached account version, or -1 when not cached
+     */
+    public long peekVersion(Long mikuId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(mikuId);
+            return entry != null ? entry.version() : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether a snapshot of the user's account was loaded or written within the TTL,
+     * without loading or counting a request. A fresh entry proves the user still exists.
+     * 
+     * @param mikuId The user ID
+     * @return true if a fresh snapshot is cached
+     */
+    public boolean isFresh(Long mikuId) {
+        Entry entry = read(mikuId);
+        return entry != null && System.nanoTime() - entry.loadedAt() < properties.getTtl().toNanos();
+    }
+
+    /**
+     * Drops the cached snapshot of a user's account.
+     */
+    public void evict(Long mikuId) {
+        lock.lock();
+        try {
+            entries.remove(mikuId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== Private Helpers ====================
+
+    private Entry read(Long mikuId) {
+        lock.lock();
+        try {
+            return entries.get(mikuId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Long mikuId, Entry entry) {
+        lock.lock();
+        try {
+            Entry current = entries.get(mikuId);
+            if (current == null || current.version() <= entry.version()) {
+                entries.put(mikuId, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isPendingInTransaction(Long mikuId) {
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        return pending != null && pending.contains(mikuId);
+    }
+
+    /**
+     * Users whose account the current transaction has mutated but not committed yet.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingInTransaction() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AccountSnapshotCache.this);
+                }
+            });
+        }
+        return pending;
+    }
+
+    private AccountResponse toResponse(Account account) {
+        return AccountResponse.builder()
+                .id(account.getId())
+                .totalMoney(account.getTotalMoney())
+                .availableMoney(account.getAvailableMoney())
+                .heldMoney(account.getHeldMoney())
+                .fullName(account.getMiku().getFullName())
+                .publicCode(account.getMiku().getPublicCode())
+                .build();
+    }
+
+    /**
+     * An account as read from the database, detached from any session.
+     */
+    public record Snapshot(AccountResponse response, long version) {
+    }
+
+    private record Entry(AccountResponse response, long version, long loadedAt) {
+    }
+}
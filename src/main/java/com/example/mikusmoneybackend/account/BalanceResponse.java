@@ -0,0 +1,18 @@
+package com.example.mikusmoneybackend.account;
+
+import lombok.*;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceResponse {
+
+    private Long accountId;
+    private Money balance;
+    private LocalDateTime at;
+}
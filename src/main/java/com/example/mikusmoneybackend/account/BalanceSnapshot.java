@@ -0,0 +1,44 @@
+package com.example.mikusmoneybackend.account;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Balance of an account right after a balance-changing operation.
+ * One row per affected account: a transfer produces two rows sharing the same transaction ID.
+ * Rows for savings pig movements have no transaction ID.
+ */
+@Entity
+@Table(name = "balance_snapshots", indexes = {
+        @Index(name = "idx_balance_snapshots_account_created", columnList = "account_id, created_at, id"),
+        @Index(name = "idx_balance_snapshots_transaction", columnList = "transaction_id, account_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 2)
+    private Money balance;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,72 @@
+package com.example.mikusmoneybackend.account;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.mikusmoneybackend.velocity.VelocitySeedRow;
+
+/**
+ * Repository for BalanceSnapshot entity operations.
+ */
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    /**
+     * Finds the latest snapshot of an account taken at or before the given instant.
+     * Served by a single seek on the (account_id, created_at, id) index.
+     */
+    Optional<BalanceSnapshot> findFirstByAccountIdAndCreatedAtLessThanEqualOrderByCreatedAtDescIdDesc(
+            Long accountId, LocalDateTime at);
+
+    /**
+     * Finds the latest snapshot of an account taken strictly before the given instant.
+     * Used to read the balance at the boundary of a statement period.
+     */
+    Optional<BalanceSnapshot> findFirstByAccountIdAndCreatedAtLessThanOrderByCreatedAtDescIdDesc(
+            Long accountId, LocalDateTime before);
+
+    /**
+     * Lists a user's deposits, withdrawals and sent transfers since the given instant,
+     * used to seed the velocity counters. Driven by the (account_id, created_at) index,
+     * so only that user's recent rows are read. A captured hold is listed once, as its withdrawal.
+     */
+    @Query("""
+        SELECT new com.example.mikusmoneybackend.velocity.VelocitySeedRow(
+            CASE WHEN d.id IS NOT NULL THEN 'DEPOSIT' WHEN w.id IS NOT NULL THEN 'WITHDRAW' ELSE 'TRANSFER' END,
+            t.amount, bs.createdAt)
+        FROM BalanceSnapshot bs
+        JOIN Account a ON a.id = bs.accountId
+        JOIN com.example.mikusmoneybackend.transactions.Transaction t ON t.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.deposit.Deposit d ON d.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.withdraw.Withdraw w ON w.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.transfer.Transfer tr ON tr.id = bs.transactionId
+        WHERE a.miku.id = :mikuId AND bs.createdAt >= :since
+          AND (d.id IS NOT NULL OR w.id IS NOT NULL OR tr.sender.id = :mikuId)
+        """)
+    List<VelocitySeedRow> findVelocitySeed(
+            @Param("mikuId") Long mikuId,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Records the current balance of every account that has no snapshot yet,
+     * so accounts created before snapshots existed get a known starting point.
+     * The snapshot is stamped with the account's creation time: an account that
+     * held money before the backfill must not read as empty at earlier instants.
+     * 
+     * @return Number of opening snapshots inserted
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO balance_snapshots (account_id, balance, created_at)
+        SELECT a.id, a.total_money, a.created_at FROM accounts a
+        WHERE NOT EXISTS (SELECT 1 FROM balance_snapshots b WHERE b.account_id = a.id)
+        """, nativeQuery = true)
+    int insertOpeningSnapshots();
+}
@@ -0,0 +1,87 @@
+package com.example.mikusmoneybackend.account;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service that keeps the running balance of each account.
+ * Every balance mutation appends a snapshot, so the balance at any instant
+ * is answered by one index seek instead of summing the whole history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotService {
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+
+    /**
+     * Records the current (post-mutation) balance of the given account.
+     * Must run in the same transaction as the mutation.
+     * 
+     * @param account The account whose balance just changed
+     * @param transactionId The transaction that caused the change, or null for non-transaction moves
+     */
+    public void record(Account account, Long transactionId) {
+        BalanceSnapshot snapshot = BalanceSnapshot.builder()
+                .accountId(account.getId())
+                .transactionId(transactionId)
+                .balance(account.getTotalMoney())
+                .build();
+
+        balanceSnapshotRepository.save(snapshot);
+    }
+
+    /**
+     * Returns the balance of an account at the given instant.
+     * Accounts start empty, so no snapshot before the instant means a zero balance.
+     * 
+     * @param accountId The account ID
+     * @param at The instant to look at
+     * @return The balance at that instant
+     */
+    public Money getBalanceAt(Long accountId, LocalDateTime at) {
+        return balanceSnapshotRepository
+                .findFirstByAccountIdAndCreatedAtLessThanEqualOrderByCreatedAtDescIdDesc(accountId, at)
+                .map(BalanceSnapshot::getBalance)
+                .orElse(Money.ZERO);
+    }
+
+    /**
+     * Returns the balance of an account right before the given instant,
+     * i.e. excluding any movement recorded exactly at that instant.
+     * 
+     * @param accountId The account ID
+     * @param before The exclusive instant to look at
+     * @return The balance just before that instant
+     */
+    public Money getBalanceBefore(Long accountId, LocalDateTime before) {
+        return balanceSnapshotRepository
+                .findFirstByAccountIdAndCreatedAtLessThanOrderByCreatedAtDescIdDesc(accountId, before)
+                .map(BalanceSnapshot::getBalance)
+                .orElse(Money.ZERO);
+    }
+
+    /**
+     * Gives accounts that predate balance snapshots an opening snapshot at startup.
+     * Their movements before the backfill are not reconstructed: from the account's
+     * creation until its first recorded movement, the opening balance is reported.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOpeningSnapshots() {
+        int inserted = balanceSnapshotRepository.insertOpeningSnapshots();
+        if (inserted > 0) {
+            log.info("Recorded opening balance snapshots for {} accounts", inserted);
+        }
+    }
+}
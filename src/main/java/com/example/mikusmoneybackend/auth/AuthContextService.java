@@ -69,11 +69,12 @@ public class AuthContextService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication != null && 
                authentication.isAuthenticated() && 
-               authentication.getPrincipal() instanceof Miku;
+               (authentication instanceof TokenAuthentication || authentication.getPrincipal() instanceof Miku);
     }
 
     /**
      * Gets the authenticated user's ID, or null if not authenticated.
+     * Does not load the user when the request carries a verified token.
      * 
      * @return User ID or null
      */
@@ -81,9 +82,28 @@ public class AuthContextService {
         if (!isAuthenticated()) {
             return null;
         }
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof TokenAuthentication token) {
+            return token.getUserId();
+        }
         return getAuthenticatedMiku().getId();
     }
 
+    /**
+     * Retrieves the verified claims of the access token, without loading the user.
+     * 
+     * @return The authentication holding the user ID and claims
+     * @throws AuthenticationException if the request is not authenticated with a token
+     */
+    public TokenAuthentication getTokenAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication instanceof TokenAuthentication token && token.isAuthenticated()) {
+            return token;
+        }
+
+        throw AuthenticationException.notAuthenticated();
+    }
+
     // ==================== Account Operations ====================
 
     /**
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
     private final AuthService authService;
+    private final PasswordRecoveryService passwordRecoveryService;
 
     /**
      * Registers a new user account.
@@ -79,6 +80,29 @@ public class AuthController {
         return ResponseEntity.ok(authService.logout(response));
     }
 
+    /**
+     * Starts password recovery by mailing a reset token.
+     * Always answers the same, whether or not the email is registered.
+     * 
+     * @param request The recovery request containing the email
+     * @return Uniform confirmation message
+     */
+    @PostMapping("/forgot-password")
+    public ResponseEntity<AuthResponse> forgotPassword(@Valid @RequestBody PasswordRecoveryRequest request) {
+        return ResponseEntity.ok(passwordRecoveryService.requestPasswordReset(request));
+    }
+
+    /**
+     * Sets a new password using a mailed reset token.
+     * 
+     * @param request The reset request containing the token and the new password
+     * @return Success message
+     */
+    @PostMapping("/reset-password")
+    public ResponseEntity<AuthResponse> resetPassword(@Valid @RequestBody PasswordResetRequest request) {
+        return ResponseEntity.ok(passwordRecoveryService.resetPassword(request));
+    }
+
     /**
      * Returns the currently authenticated user's information.
      * 
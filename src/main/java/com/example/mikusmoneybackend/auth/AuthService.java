@@ -1,6 +1,7 @@
 package com.example.mikusmoneybackend.auth;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -8,6 +9,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.mikusmoneybackend.account.Account;
 import com.example.mikusmoneybackend.account.AccountRepository;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
 import com.example.mikusmoneybackend.config.exception.AuthenticationException;
 import com.example.mikusmoneybackend.config.exception.BusinessException;
 import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
@@ -18,7 +21,9 @@ import com.example.mikusmoneybackend.miku.MikuCreateRequest;
 import com.example.mikusmoneybackend.miku.MikuMapper;
 import com.example.mikusmoneybackend.miku.MikuRepository;
 import com.example.mikusmoneybackend.miku.MikuResponse;
+import com.example.mikusmoneybackend.money.Money;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +55,7 @@ public class AuthService {
      * Sets authentication cookies upon successful registration.
      */
     @Transactional
+    @Bulkhead(BulkheadPool.AUTH)
     public AuthResponse register(MikuCreateRequest request, HttpServletResponse response) {
         log.info("Processing registration for email: {}", request.getEmail());
 
@@ -85,7 +91,7 @@ public class AuthService {
 
         // Create and persist Account
         Account account = Account.builder()
-                .totalMoney(BigDecimal.ZERO)
+                .totalMoney(Money.ZERO)
                 .miku(savedMiku)
                 .build();
 
@@ -108,6 +114,7 @@ public class AuthService {
      * Sets authentication cookies upon successful login.
      */
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPool.AUTH)
     public AuthResponse login(LoginRequest request, HttpServletResponse response) {
         log.info("Processing login for email: {}", request.getEmail());
 
@@ -143,6 +150,7 @@ public class AuthService {
      * Generates new access and refresh tokens.
      */
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPool.AUTH)
     public AuthResponse refreshToken(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = cookieService.getRefreshTokenFromCookies(request);
 
@@ -206,14 +214,47 @@ public class AuthService {
 
     /**
      * Returns the currently authenticated user's information.
+     * Built from the verified claims of the access token, without touching the database;
+     * claims are refreshed whenever the token is renewed. Tokens missing a claim (issued
+     * before it was added) fall back to loading the user.
      */
+    @Bulkhead(BulkheadPool.AUTH)
     public MikuResponse getCurrentUser() {
-        Miku miku = authContextService.getAuthenticatedMiku();
-        return mikuMapper.toResponse(miku);
+        TokenAuthentication token = authContextService.getTokenAuthentication();
+
+        MikuResponse fromClaims = fromClaims(token.getUserId(), token.getClaims());
+        if (fromClaims != null) {
+            return fromClaims;
+        }
+
+        return mikuMapper.toResponse(authContextService.getAuthenticatedMiku());
     }
 
     // ==================== Private Helpers ====================
 
+    private static MikuResponse fromClaims(Long userId, Claims claims) {
+        if (claims == null) {
+            return null;
+        }
+        String name = claims.get(JwtService.CLAIM_NAME, String.class);
+        String lastName = claims.get(JwtService.CLAIM_LAST_NAME, String.class);
+        String publicCode = claims.get(JwtService.CLAIM_PUBLIC_CODE, String.class);
+        String birthDate = claims.get(JwtService.CLAIM_BIRTH_DATE, String.class);
+        String createdAt = claims.get(JwtService.CLAIM_CREATED_AT, String.class);
+        if (name == null || lastName == null || publicCode == null || birthDate == null || createdAt == null) {
+            return null;
+        }
+
+        return MikuResponse.builder()
+                .id(userId)
+                .name(name)
+                .lastName(lastName)
+                .birthDate(LocalDate.parse(birthDate))
+                .publicCode(publicCode)
+                .createdAt(LocalDateTime.parse(createdAt))
+                .build();
+    }
+
     private void validateUniqueConstraints(MikuCreateRequest request) {
         if (credentialRepository.existsByEmail(request.getEmail())) {
             throw BusinessException.emailAlreadyExists();
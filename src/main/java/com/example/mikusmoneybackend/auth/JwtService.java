@@ -27,6 +27,15 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JwtService {
 
+    /**
+     * Profile claims carried by every token, enough to answer {@code /api/auth/me} without the database.
+     */
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_LAST_NAME = "lastName";
+    public static final String CLAIM_PUBLIC_CODE = "publicCode";
+    public static final String CLAIM_BIRTH_DATE = "birthDate";
+    public static final String CLAIM_CREATED_AT = "createdAt";
+
     private final JwtProperties jwtProperties;
     private final Key signingKey;
 
@@ -58,6 +67,16 @@ public class JwtService {
         return generateAccessToken(miku);
     }
 
+    /**
+     * Verifies the token and returns all its claims.
+     * 
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     * @throws JwtException if the token is malformed or its signature is invalid
+     */
+    public Claims parseToken(String token) {
+        return getAllClaims(token);
+    }
+
     /**
      * Extracts the user ID from the token.
      */
@@ -113,9 +132,15 @@ public class JwtService {
 
     private String generateToken(Miku miku, long expiration) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("name", miku.getName());
-        claims.put("lastName", miku.getLastName());
-        claims.put("publicCode", miku.getPublicCode());
+        claims.put(CLAIM_NAME, miku.getName());
+        claims.put(CLAIM_LAST_NAME, miku.getLastName());
+        claims.put(CLAIM_PUBLIC_CODE, miku.getPublicCode());
+        if (miku.getBirthDate() != null) {
+            claims.put(CLAIM_BIRTH_DATE, miku.getBirthDate().toString());
+        }
+        if (miku.getCreatedAt() != null) {
+            claims.put(CLAIM_CREATED_AT, miku.getCreatedAt().toString());
+        }
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
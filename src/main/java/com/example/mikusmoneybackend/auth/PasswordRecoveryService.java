@@ -0,0 +1,125 @@
+package com.example.mikusmoneybackend.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mikusmoneybackend.config.exception.BusinessException;
+import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
+import com.example.mikusmoneybackend.credentials.Credential;
+import com.example.mikusmoneybackend.credentials.CredentialRepository;
+import com.example.mikusmoneybackend.credentials.PasswordResetToken;
+import com.example.mikusmoneybackend.credentials.PasswordResetTokenRepository;
+import com.example.mikusmoneybackend.mail.MailQueueService;
+import com.example.mikusmoneybackend.mail.MailTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service handling password recovery through a mailed, single-use reset token.
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordRecoveryService {
+
+    private static final long TOKEN_TTL_MINUTES = 30;
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final CredentialRepository credentialRepository;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final MailQueueService mailQueueService;
+    private final PasswordEncoder passwordEncoder;
+
+    // ==================== Forgot Password ====================
+
+    /**
+     * Queues a reset mail if the email belongs to an account.
+     * The response is the same whether or not the email exists, and the mail is
+     * sent asynchronously, so the endpoint does not reveal registered addresses.
+     * 
+     * @param request The recovery request containing the email
+     * @return Uniform confirmation message
+     */
+    @Transactional
+    public AuthResponse requestPasswordReset(PasswordRecoveryRequest request) {
+        credentialRepository.findByEmail(request.getEmail()).ifPresent(credential -> {
+            LocalDateTime now = LocalDateTime.now();
+            Long mikuId = credential.getMiku().getId();
+
+            // 1. Only the latest requested token stays valid
+            passwordResetTokenRepository.invalidateAllByMikuId(mikuId, now);
+
+            // 2. Store the hash of a fresh token
+            String token = generateToken();
+            passwordResetTokenRepository.save(PasswordResetToken.builder()
+                    .mikuId(mikuId)
+                    .tokenHash(hash(token))
+                    .expiresAt(now.plusMinutes(TOKEN_TTL_MINUTES))
+                    .build());
+
+            // 3. Queue the mail (sent after commit by the mail dispatcher)
+            mailQueueService.enqueue(credential.getEmail(), MailTemplate.PASSWORD_RESET, Map.of(
+                    "name", credential.getMiku().getName(),
+                    "token", token,
+                    "expiresInMinutes", String.valueOf(TOKEN_TTL_MINUTES)));
+        });
+
+        return AuthResponse.builder()
+                .message("If the email is registered, a recovery message has been sent")
+                .build();
+    }
+
+    // ==================== Reset Password ====================
+
+    /**
+     * Sets a new password using a reset token. The token is consumed.
+     * 
+     * @param request The reset request containing the token and the new password
+     * @return Success message
+     */
+    @Transactional
+    public AuthResponse resetPassword(PasswordResetRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenHash(hash(request.getToken()))
+                .filter(token -> token.isUsable(now))
+                .orElseThrow(() -> BusinessException.invalidResetToken());
+
+        Credential credential = credentialRepository.findByMikuId(resetToken.getMikuId())
+                .orElseThrow(() -> ResourceNotFoundException.credentials());
+
+        credential.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        resetToken.setUsedAt(now);
+
+        return AuthResponse.builder()
+                .message("Password updated successfully")
+                .build();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.mikusmoneybackend.auth;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+import com.example.mikusmoneybackend.miku.Miku;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Authentication built from a verified access token.
+ * 
+ * The user ID and the profile claims are available right away. The {@link Miku} principal
+ * is only loaded from the database the first time it is asked for, so requests that never
+ * need the entity (the profile, conditional GETs answered with 304) do not touch the database.
+ * The principal is null if the user no longer exists.
+ * The load runs under a {@link ReentrantLock} rather than the object's monitor, so a
+ * virtual thread waiting on the database does not pin its carrier.
+ */
+public class TokenAuthentication extends AbstractAuthenticationToken {
+
+    private final Long userId;
+    private final transient Claims claims;
+    private final transient ReentrantLock loadLock = new ReentrantLock();
+    private transient volatile Supplier<Miku> loader;
+    private transient volatile Miku miku;
+
+    public TokenAuthentication(Long userId, Claims claims, Supplier<Miku> loader) {
+        super(Collections.emptyList());
+        this.userId = userId;
+        this.claims = claims;
+        this.loader = loader;
+        setAuthenticated(true);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * Loads the user on first access.
+     */
+    @Override
+    public Object getPrincipal() {
+        if (loader == null) {
+            return miku;
+        }
+        loadLock.lock();
+        try {
+            Supplier<Miku> pending = loader;
+            if (pending != null) {
+                miku = pending.get();
+                loader = null;
+            }
+            return miku;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    /**
+     * The user ID, without loading the user.
+     */
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TokenAuthentication that
+                && userId.equals(that.userId)
+                && Objects.equals(getDetails(), that.getDetails());
+    }
+
+    @Override
+    public int hashCode() {
+        return userId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [UserId=" + userId + ", Details=" + getDetails() + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.mikusmoneybackend.batch;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for batch requests.
+ * Runs several transaction, savings pig and account operations in one round-trip.
+ */
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * Runs up to {@value BatchRequest#MAX_OPERATIONS} operations in order.
+     * 
+     * @param request The operations and whether they are all-or-nothing
+     * @param httpRequest The HTTP request
+     * @return One result per operation, with the status each endpoint would have returned
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponse> execute(
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(batchService.execute(request, httpRequest));
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.mikusmoneybackend.batch;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.mikusmoneybackend.config.exception.ErrorResponse;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The operations of a {@code POST /api/batch} request, read ahead of the controller so
+ * that filters can classify a batch by what it runs rather than by its path.
+ * 
+ * The body is buffered once and served again to whoever reads it next; the parsed
+ * operations are kept as a request attribute, so later filters do not parse it again.
+ * A body that cannot be parsed yields no operations and is left for the controller to reject.
+ * A body above the configured maximum is not buffered at all: it is read at most one byte
+ * past the maximum and the request is marked as too large, for the filter to answer with 413.
+ */
+public final class BatchEnvelope {
+
+    public static final String PATH = "/api/batch";
+
+    private static final String ATTRIBUTE = BatchEnvelope.class.getName();
+
+    private static final Parsed TOO_LARGE = new Parsed(List.of(), true);
+
+    private final HttpServletRequest request;
+    private final Parsed parsed;
+
+    /**
+     * Method and path (without query string) of one operation.
+     */
+    public record Endpoint(HttpMethod method, PathContainer path) {
+
+        public boolean isRead() {
+            return HttpMethod.GET.equals(method);
+        }
+    }
+
+    /**
+     * What was read from the body, kept on the request.
+     */
+    private record Parsed(List<Endpoint> operations, boolean tooLarge) {
+    }
+
+    private BatchEnvelope(HttpServletRequest request, Parsed parsed) {
+        this.request = request;
+        this.parsed = parsed;
+    }
+
+    /**
+     * @return Whether the request is a batch request
+     */
+    public static boolean isBatch(HttpServletRequest request) {
+        return HttpMethod.POST.matches(request.getMethod()) && PATH.equals(request.getRequestURI());
+    }
+
+    /**
+     * Reads the operations of a batch request, buffering its body on first use.
+     * 
+     * @param request A batch request
+     * @param jsonMapper The mapper to parse the body with
+     * @param maxBytes Largest body to buffer
+     * @return The operations, and the request to pass down the filter chain
+     * @throws IOException if the body cannot be read
+     */
+    public static BatchEnvelope read(HttpServletRequest request, JsonMapper jsonMapper, long maxBytes)
+            throws IOException {
+        Parsed parsed = (Parsed) request.getAttribute(ATTRIBUTE);
+        if (parsed != null) {
+            return new BatchEnvelope(request, parsed);
+        }
+
+        // 1. Refuse a declared length above the maximum without reading anything
+        if (request.getContentLengthLong() > maxBytes) {
+            request.setAttribute(ATTRIBUTE, TOO_LARGE);
+            return new BatchEnvelope(request, TOO_LARGE);
+        }
+
+        // 2. The length may be missing (chunked) or wrong: read one byte past the maximum at most
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+        if (body.length > maxBytes) {
+            request.setAttribute(ATTRIBUTE, TOO_LARGE);
+            return new BatchEnvelope(request, TOO_LARGE);
+        }
+
+        parsed = new Parsed(parse(body, jsonMapper), false);
+        request.setAttribute(ATTRIBUTE, parsed);
+        return new BatchEnvelope(new BufferedRequest(request, body), parsed);
+    }
+
+    /**
+     * Answers a batch request whose body is above the maximum with 413.
+     * 
+     * @param request The batch request
+     * @param response The response to write to
+     * @param jsonMapper The mapper to write the error with
+     * @throws IOException if the response cannot be written
+     */
+    public static void rejectTooLarge(HttpServletRequest request, HttpServletResponse response, JsonMapper jsonMapper)
+            throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONTENT_TOO_LARGE.value())
+                .error(HttpStatus.CONTENT_TOO_LARGE.getReasonPhrase())
+                .message("Batch request body is too large")
+                .errorCode("PAYLOAD_TOO_LARGE")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * @return The request to pass down the filter chain, with its body readable again
+     */
+    public HttpServletRequest request() {
+        return request;
+    }
+
+    /**
+     * @return The operations, empty if the body could not be parsed
+     */
+    public List<Endpoint> operations() {
+        return parsed.operations();
+    }
+
+    /**
+     * @return Whether the body is above the maximum; it was then not buffered
+     */
+    public boolean isTooLarge() {
+        return parsed.tooLarge();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private static List<Endpoint> parse(byte[] body, JsonMapper jsonMapper) {
+        List<Endpoint> operations = new ArrayList<>();
+        try {
+            for (JsonNode operation : jsonMapper.readTree(body).path("operations")) {
+                HttpMethod method = HttpMethod.valueOf(operation.path("method").asString().toUpperCase());
+                String path = UriComponentsBuilder.fromUriString(operation.path("path").asString()).build().getPath();
+                operations.add(new Endpoint(method, PathContainer.parsePath(path != null ? path : "")));
+            }
+        } catch (JacksonException | IllegalArgumentException e) {
+            return List.of();
+        }
+        return List.copyOf(operations);
+    }
+
+    private static final class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.mikusmoneybackend.batch;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * One operation of a batch request, written as the HTTP call it replaces.
+ * The path may reference a field of an earlier operation's result as
+ * {@code $<index>.<field>}, e.g. {@code /api/savings-pigs/$0.id/deposit}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOperation {
+
+    @NotBlank(message = "Method is required")
+    private String method;
+
+    @NotBlank(message = "Path is required")
+    private String path;
+
+    private JsonNode body;
+
+    /**
+     * Replaces the X-Idempotency-Key header of deposits, withdrawals and transfers.
+     */
+    private String idempotencyKey;
+}
@@ -0,0 +1,183 @@
+package com.example.mikusmoneybackend.batch;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.mikusmoneybackend.account.AccountService;
+import com.example.mikusmoneybackend.deposit.DepositRequest;
+import com.example.mikusmoneybackend.savings.SavingsPigBreakRequest;
+import com.example.mikusmoneybackend.savings.SavingsPigCreationRequest;
+import com.example.mikusmoneybackend.savings.SavingsPigDepositRequest;
+import com.example.mikusmoneybackend.savings.SavingsPigService;
+import com.example.mikusmoneybackend.transactions.TransactionsService;
+import com.example.mikusmoneybackend.transfer.BatchTransferRequest;
+import com.example.mikusmoneybackend.transfer.TransferMoneyRequest;
+import com.example.mikusmoneybackend.withdraw.WithdrawRequest;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Maps batch operations to the service calls behind the transaction, savings pig
+ * and account endpoints. Bodies are bound and validated as their controllers would.
+ * Streaming exports are not available in a batch.
+ */
+@Component
+public class BatchOperationRouter {
+
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final List<Route> routes;
+
+    public BatchOperationRouter(TransactionsService transactionsService,
+                                SavingsPigService savingsPigService,
+                                AccountService accountService,
+                                JsonMapper jsonMapper,
+                                Validator validator) {
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.routes = List.of(
+                // ==================== Transactions ====================
+                new Route(HttpMethod.POST, "/api/transactions/deposit",
+                        call -> transactionsService.deposit(call.body(DepositRequest.class), call.idempotencyKey())),
+                new Route(HttpMethod.POST, "/api/transactions/withdraw",
+                        call -> transactionsService.withdraw(call.body(WithdrawRequest.class), call.idempotencyKey())),
+                new Route(HttpMethod.POST, "/api/transactions/transfer",
+                        call -> transactionsService.transfer(call.body(TransferMoneyRequest.class), call.idempotencyKey())),
+                new Route(HttpMethod.POST, "/api/transactions/transfer/batch",
+                        call -> transactionsService.transferBatch(call.body(BatchTransferRequest.class), call.idempotencyKey())),
+                new Route(HttpMethod.GET, "/api/transactions/history",
+                        call -> transactionsService.getTransactionHistory(call.intParam("page", 0))),
+                new Route(HttpMethod.GET, "/api/transactions/history/slice",
+                        call -> transactionsService.getTransactionHistorySlice(call.intParam("page", 0))),
+
+                // ==================== Savings Pigs ====================
+                new Route(HttpMethod.POST, "/api/savings-pigs",
+                        call -> savingsPigService.createSavingsPig(call.body(SavingsPigCreationRequest.class))),
+                new Route(HttpMethod.GET, "/api/savings-pigs",
+                        call -> savingsPigService.getSavingsPigs()),
+                new Route(HttpMethod.GET, "/api/savings-pigs/active",
+                        call -> savingsPigService.getActiveSavingsPigs()),
+                new Route(HttpMethod.POST, "/api/savings-pigs/{id}/deposit",
+                        call -> savingsPigService.depositToSavingsPig(call.id(), call.body(SavingsPigDepositRequest.class))),
+                new Route(HttpMethod.POST, "/api/savings-pigs/{id}/break",
+                        call -> savingsPigService.breakSavingsPig(call.id(), call.body(SavingsPigBreakRequest.class))),
+
+                // ==================== Account ====================
+                new Route(HttpMethod.GET, "/api/account",
+                        call -> accountService.getAccountDetail()),
+                new Route(HttpMethod.GET, "/api/account/empty",
+                        call -> accountService.isAccountEmpty()),
+                new Route(HttpMethod.GET, "/api/account/balance",
+                        call -> accountService.getBalanceAt(call.dateTimeParam("at"))));
+    }
+
+    /**
+     * Executes one operation in the caller's transaction, if any.
+     *
+     * @param method The HTTP method
+     * @param path The path, with query string, and references already resolved
+     * @param body The JSON body, if the endpoint takes one
+     * @param idempotencyKey The idempotency key, for money movements
+     * @return What the endpoint would have returned as body
+     * @throws IllegalArgumentException if no endpoint matches
+     */
+    public Object execute(String method, String path, JsonNode body, String idempotencyKey) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+        HttpMethod httpMethod = HttpMethod.valueOf(method.toUpperCase());
+
+        for (Route route : routes) {
+            Matcher matcher = route.pattern().matcher(uri.getPath());
+            if (route.method().equals(httpMethod) && matcher.matches()) {
+                Call call = new Call(matcher, uri.getQueryParams(), body, idempotencyKey);
+                return route.handler().handle(call);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported batch operation: " + httpMethod + " " + uri.getPath());
+    }
+
+    // ==================== Private Helpers ====================
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Call call);
+    }
+
+    private record Route(HttpMethod method, Pattern pattern, Handler handler) {
+
+        Route(HttpMethod method, String template, Handler handler) {
+            this(method, Pattern.compile(template.replace("{id}", "(\\d+)")), handler);
+        }
+    }
+
+    private final class Call {
+
+        private final Matcher matcher;
+        private final MultiValueMap<String, String> query;
+        private final JsonNode body;
+        private final String idempotencyKey;
+
+        private Call(Matcher matcher, MultiValueMap<String, String> query, JsonNode body, String idempotencyKey) {
+            this.matcher = matcher;
+            this.query = query;
+            this.body = body;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        Long id() {
+            return Long.valueOf(matcher.group(1));
+        }
+
+        String idempotencyKey() {
+            return idempotencyKey;
+        }
+
+        <T> T body(Class<T> type) {
+            if (body == null || body.isNull()) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            T value;
+            try {
+                value = jsonMapper.treeToValue(body, type);
+            } catch (JacksonException e) {
+                throw new IllegalArgumentException("Invalid request body: " + e.getOriginalMessage());
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(value);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+            return value;
+        }
+
+        int intParam(String name, int defaultValue) {
+            String value = query.getFirst(name);
+            try {
+                return value != null ? Integer.parseInt(value) : defaultValue;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+            }
+        }
+
+        LocalDateTime dateTimeParam(String name) {
+            String value = query.getFirst(name);
+            try {
+                return value != null ? LocalDateTime.parse(value) : null;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.mikusmoneybackend.batch;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequest {
+
+    public static final int MAX_OPERATIONS = 20;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "A batch can hold at most " + MAX_OPERATIONS + " operations")
+    private List<@Valid @NotNull BatchOperation> operations;
+
+    /**
+     * Runs every operation in one transaction, committed only if all succeed (default).
+     * When false, each operation commits on its own and a failure does not stop the others.
+     */
+    private Boolean atomic;
+}
@@ -0,0 +1,21 @@
+package com.example.mikusmoneybackend.batch;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResponse {
+
+    private boolean atomic;
+
+    /**
+     * Whether every operation succeeded. In atomic mode nothing was committed otherwise.
+     */
+    private boolean successful;
+
+    private List<BatchResult> results;
+}
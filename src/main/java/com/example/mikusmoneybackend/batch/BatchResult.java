@@ -0,0 +1,26 @@
+package com.example.mikusmoneybackend.batch;
+
+import com.example.mikusmoneybackend.config.exception.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+import tools.jackson.databind.JsonNode;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResult {
+
+    private int index;
+    private int status;
+    private JsonNode body;
+    private ErrorResponse error;
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return error == null && status < 400;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.mikusmoneybackend.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.mikusmoneybackend.config.BulkheadContext;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.GlobalExceptionHandler;
+import com.example.mikusmoneybackend.config.exception.ErrorResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Service that runs several API operations in one request.
+ * 
+ * The request is authenticated once; operations then run in order against the
+ * services behind their endpoints. In atomic mode they share one transaction:
+ * the first failure rolls everything back and the remaining operations are not
+ * run. Otherwise each operation commits on its own, as separate calls would.
+ * Every result carries the status and body (or error) the endpoint would have returned,
+ * except in a failed atomic batch: operations rolled back by the failure are reported as
+ * 409 and those never run as 424, both without a body, since none of them took effect.
+ * 
+ * An atomic batch either only reads or only writes, and draws its connection from the
+ * matching partition. Otherwise every operation uses the partition of its own endpoint.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchService {
+
+    private static final Pattern REFERENCE = Pattern.compile("\\$(\\d+)\\.(\\w+)");
+
+    private final BatchOperationRouter batchOperationRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final GlobalExceptionHandler globalExceptionHandler;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Runs the operations of a batch in order.
+     * 
+     * @param request The operations and whether they are all-or-nothing
+     * @param httpRequest The enclosing HTTP request, used for error paths
+     * @return One result per operation
+     */
+    public BatchResponse execute(BatchRequest request, HttpServletRequest httpRequest) {
+        List<BatchOperation> operations = request.getOperations();
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        boolean atomic = !Boolean.FALSE.equals(request.getAtomic());
+
+        if (atomic) {
+            BulkheadContext.run(poolOf(operations), () -> transactionTemplate.executeWithoutResult(status -> {
+                for (BatchOperation operation : operations) {
+                    BatchResult result = run(operation, results, httpRequest, true);
+                    results.add(result);
+                    if (!result.isSuccessful()) {
+                        status.setRollbackOnly();
+                        return;
+                    }
+                }
+            }));
+
+            // Operations before a failure were rolled back, those after it were never run
+            int failed = results.size() - 1;
+            if (!results.get(failed).isSuccessful()) {
+                for (int i = 0; i < failed; i++) {
+                    results.set(i, BatchResult.builder()
+                            .index(i)
+                            .status(HttpStatus.CONFLICT.value())
+                            .build());
+                }
+            }
+            for (int i = results.size(); i < operations.size(); i++) {
+                results.add(BatchResult.builder()
+                        .index(i)
+                        .status(HttpStatus.FAILED_DEPENDENCY.value())
+                        .build());
+            }
+        } else {
+            for (BatchOperation operation : operations) {
+                results.add(run(operation, results, httpRequest, false));
+            }
+        }
+
+        return BatchResponse.builder()
+                .atomic(atomic)
+                .successful(results.stream().allMatch(BatchResult::isSuccessful))
+                .results(results)
+                .build();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * The partition of an atomic batch. Its operations share one connection, so reads
+     * and writes cannot each get their own; mixing them is refused.
+     */
+    private BulkheadPool poolOf(List<BatchOperation> operations) {
+        long reads = operations.stream()
+                .filter(operation -> HttpMethod.GET.matches(operation.getMethod().toUpperCase()))
+                .count();
+        if (reads == operations.size()) {
+            return BulkheadPool.READS;
+        }
+        if (reads > 0) {
+            throw new IllegalArgumentException("An atomic batch cannot mix reads with writes");
+        }
+        return BulkheadPool.MONEY;
+    }
+
+    /**
+     * Runs one operation and turns its outcome, or its exception, into a result.
+     * In a shared transaction the changes are flushed right away, so a constraint
+     * violation is reported on the operation that caused it.
+     */
+    private BatchResult run(BatchOperation operation, List<BatchResult> previous,
+                            HttpServletRequest httpRequest, boolean flush) {
+        int index = previous.size();
+        String path = operation.getPath();
+        try {
+            path = resolveReferences(path, previous);
+            Object body = batchOperationRouter.execute(
+                    operation.getMethod(), path, operation.getBody(), operation.getIdempotencyKey());
+            if (flush) {
+                entityManager.flush();
+            }
+
+            return BatchResult.builder()
+                    .index(index)
+                    .status(HttpStatus.OK.value())
+                    .body(jsonMapper.valueToTree(body))
+                    .build();
+        } catch (Exception e) {
+            ResponseEntity<ErrorResponse> error = globalExceptionHandler.toResponse(
+                    e, new ServletWebRequest(withPath(httpRequest, path)));
+
+            return BatchResult.builder()
+                    .index(index)
+                    .status(error.getStatusCode().value())
+                    .error(error.getBody())
+                    .build();
+        }
+    }
+
+    /**
+     * Replaces every {@code $<index>.<field>} in a path with that field of an earlier result.
+     */
+    private String resolveReferences(String path, List<BatchResult> previous) {
+        Matcher matcher = REFERENCE.matcher(path);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            if (index >= previous.size() || !previous.get(index).isSuccessful()) {
+                throw new IllegalArgumentException("Reference to operation " + index + ", which has no result");
+            }
+            JsonNode field = previous.get(index).getBody().get(matcher.group(2));
+            if (field == null || !field.isValueNode()) {
+                throw new IllegalArgumentException("Operation " + index + " has no field " + matcher.group(2));
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(field.asString()));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    private HttpServletRequest withPath(HttpServletRequest request, String path) {
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public String getRequestURI() {
+                return path;
+            }
+        };
+    }
+}
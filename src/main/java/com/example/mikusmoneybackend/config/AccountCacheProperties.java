@@ -0,0 +1,35 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Configuration properties for the account snapshot cache.
+ * Values are loaded from application.properties with prefix 'account.cache'.
+ * 
+ * Example configuration:
+ * account.cache.max-size=10000
+ * account.cache.ttl=30s
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "account.cache")
+public class AccountCacheProperties {
+
+    /**
+     * Maximum number of cached accounts; least recently used ones are evicted first.
+     */
+    @Min(value = 1, message = "Account cache size must be at least 1")
+    private int maxSize = 10000;
+
+    /**
+     * Maximum age of a cached snapshot. Bounds staleness for balance changes
+     * made by other application instances.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,147 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the measured latency (gradient algorithm).
+ * 
+ * Completed requests are averaged over short windows. Each window is compared with
+ * a slowly moving long-term average:
+ * - latency within {@code tolerance} of the long-term average: the limit grows
+ *   by about its square root, probing for spare capacity
+ * - latency beyond it: the limit shrinks in proportion (at most by half per window),
+ *   before requests start queueing in Tomcat and the connection pool
+ * Windows in which fewer than half of the permits were used carry no information
+ * about capacity and leave the limit alone.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /**
+     * Number of windows the long-term latency average spans.
+     */
+    private static final int LONG_WINDOWS = 100;
+
+    private final LoadSheddingProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimate;
+    private double longRtt;
+    private long windowStart;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(LoadSheddingProperties properties) {
+        this.properties = properties;
+        this.estimate = clamp(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * Takes a permit if fewer than the given share of the limit is in use.
+     * 
+     * @param share Share of the limit available to the caller, 0 to 1
+     * @return Whether a permit was taken
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = allowed(share);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Whether a permit already taken would also have been given to the given share,
+     * for a caller that learns its priority only after taking one.
+     * 
+     * @param share Share of the limit available to the caller, 0 to 1
+     * @return Whether the permits in use, the caller's included, fit in the share
+     */
+    public boolean fitsShare(double share) {
+        return inFlight.get() <= allowed(share);
+    }
+
+    /**
+     * Returns a permit and feeds the request's latency to the limit.
+     * 
+     * @param rttNanos How long the request took
+     */
+    public void release(long rttNanos) {
+        int observed = inFlight.getAndDecrement();
+        sample(rttNanos, observed);
+    }
+
+    /**
+     * Returns a permit without a latency sample, e.g. for a long-running stream.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private int allowed(double share) {
+        return Math.max(1, (int) (limit * share));
+    }
+
+    private synchronized void sample(long rttNanos, int observedInFlight) {
+        long now = System.nanoTime();
+        if (windowCount == 0) {
+            windowStart = now;
+        }
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, observedInFlight);
+
+        if (windowCount < properties.getWindowSamples() || now - windowStart < properties.getWindow().toNanos()) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        update(shortRtt, maxInFlight);
+    }
+
+    private void update(double shortRtt, int maxInFlight) {
+        // 1. Long-term latency; let it follow quickly when latency improved for good
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOWS;
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // 2. Too little traffic to learn anything about capacity
+        if (maxInFlight < estimate / 2) {
+            return;
+        }
+
+        // 3. Shrink in proportion to the slowdown, otherwise grow by the square root
+        double gradient = clamp(properties.getTolerance() * longRtt / shortRtt, 0.5, 1.0);
+        double target = estimate * gradient + Math.sqrt(estimate);
+        estimate = clamp(estimate * (1 - properties.getSmoothing()) + target * properties.getSmoothing(),
+                properties.getMinLimit(), properties.getMaxLimit());
+        limit = (int) estimate;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
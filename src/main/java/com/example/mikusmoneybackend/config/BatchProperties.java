@@ -0,0 +1,27 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for batch requests.
+ * Values are loaded from application.properties with prefix 'batch'.
+ * 
+ * Example configuration:
+ * batch.max-body-size=64KB
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "batch")
+public class BatchProperties {
+
+    /**
+     * Largest batch body the filters will buffer; larger bodies are refused with 413.
+     */
+    @NotNull
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+}
@@ -0,0 +1,23 @@
+package com.example.mikusmoneybackend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which connection pool partition a service method draws from.
+ * On a class, applies to every public method without its own annotation.
+ * 
+ * The outermost annotated call of a request decides: a transfer made from inside
+ * a batch stays in the batch's partition. Background threads always use
+ * {@link BulkheadPool#JOBS}, whatever they call (see {@link BulkheadContext}).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    BulkheadPool value();
+}
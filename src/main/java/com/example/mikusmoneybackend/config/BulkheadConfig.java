@@ -0,0 +1,98 @@
+package com.example.mikusmoneybackend.config;
+
+import java.lang.reflect.Method;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Connection pool bulkheads.
+ * 
+ * The DataSource is wrapped in a {@link BulkheadDataSource}, and {@link Bulkhead}
+ * service methods run in their partition. The advice runs before the transaction
+ * interceptor, because the transaction is what takes the connection.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    @Bean
+    static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                BulkheadProperties properties = Binder.get(environment)
+                        .bindOrCreate("bulkheads", BulkheadProperties.class);
+                return new BulkheadDataSource(dataSource, properties);
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor bulkheadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Bulkhead.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Bulkhead.class));
+
+        MethodInterceptor interceptor = invocation -> {
+            // An outer call or a background thread has already decided
+            if (BulkheadContext.current() != null || !BulkheadContext.isRequestThread()) {
+                return invocation.proceed();
+            }
+            Bulkhead bulkhead = findBulkhead(invocation.getMethod(), invocation.getThis());
+            if (bulkhead == null) {
+                return invocation.proceed();
+            }
+            BulkheadPool previous = BulkheadContext.enter(bulkhead.value());
+            try {
+                return invocation.proceed();
+            } finally {
+                BulkheadContext.restore(previous);
+            }
+        };
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    MeterBinder bulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            BulkheadDataSource bulkheads = Connections.findDelegate(dataSource, BulkheadDataSource.class);
+            if (bulkheads != null) {
+                bulkheads.registerMetrics(registry);
+            }
+        };
+    }
+
+    // ==================== Private Helpers ====================
+
+    private static Bulkhead findBulkhead(Method method, Object target) {
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Bulkhead.class);
+        return bulkhead != null ? bulkhead : AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Holds the connection pool partition of the current thread.
+ * 
+ * Set by {@link Bulkhead} methods and by the explicit {@link #call} / {@link #run}.
+ * When nothing is set, request threads use {@link BulkheadPool#READS} and any
+ * other thread (schedulers, worker pools) uses {@link BulkheadPool#JOBS}.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<BulkheadPool> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    /**
+     * Runs an action in the given partition, e.g. work handed to another thread.
+     * 
+     * @param pool The partition
+     * @param action The action
+     * @return What the action returned
+     */
+    public static <T> T call(BulkheadPool pool, Supplier<T> action) {
+        BulkheadPool previous = enter(pool);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs an action in the given partition.
+     * 
+     * @param pool The partition
+     * @param action The action
+     */
+    public static void run(BulkheadPool pool, Runnable action) {
+        call(pool, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return The partition set on this thread, or the thread's default
+     */
+    public static BulkheadPool resolve() {
+        BulkheadPool pool = CURRENT.get();
+        if (pool != null) {
+            return pool;
+        }
+        return isRequestThread() ? BulkheadPool.READS : BulkheadPool.JOBS;
+    }
+
+    // ==================== Package-private ====================
+
+    static BulkheadPool current() {
+        return CURRENT.get();
+    }
+
+    static boolean isRequestThread() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    static BulkheadPool enter(BulkheadPool pool) {
+        BulkheadPool previous = CURRENT.get();
+        CURRENT.set(pool);
+        return previous;
+    }
+
+    static void restore(BulkheadPool previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.mikusmoneybackend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * DataSource that splits the connection pool into bulkheads.
+ * 
+ * Every {@link BulkheadPool} has its own fair semaphore sized from {@link BulkheadProperties}.
+ * {@code getConnection()} takes a permit from the partition of the current thread
+ * (see {@link BulkheadContext}) and holds it until the connection is closed, so a
+ * burst of exports or a payroll job queues behind its own permits while transfers
+ * still find a free connection. There is one physical pool and one persistence unit;
+ * the partitions only decide who may take a connection from it.
+ * 
+ * Metrics, per {@code pool} tag:
+ * - {@code db.bulkhead.wait}: time spent waiting for a permit
+ * - {@code db.bulkhead.in-use}, {@code db.bulkhead.waiting}: permits held, callers queued
+ * - {@code db.bulkhead.saturation}: share of the partition in use, 0 to 1
+ * - {@code db.bulkhead.rejected}: callers that timed out
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Map<BulkheadPool, Partition> partitions = new EnumMap<>(BulkheadPool.class);
+    private final Duration acquireTimeout;
+
+    public BulkheadDataSource(DataSource target, BulkheadProperties properties) {
+        super(target);
+        this.acquireTimeout = properties.getAcquireTimeout();
+        for (BulkheadPool pool : BulkheadPool.values()) {
+            int size = properties.getMaxConnections().getOrDefault(pool, 1);
+            if (size < 1) {
+                throw new IllegalArgumentException("Bulkhead " + pool + " needs at least one connection");
+            }
+            partitions.put(pool, new Partition(pool, size));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Partition partition = partitions.get(BulkheadContext.resolve());
+        partition.acquire();
+        try {
+            return Connections.onClose(super.getConnection(), partition.permits::release);
+        } catch (SQLException | RuntimeException e) {
+            partition.permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Partition partition = partitions.get(BulkheadContext.resolve());
+        partition.acquire();
+        try {
+            return Connections.onClose(super.getConnection(username, password), partition.permits::release);
+        } catch (SQLException | RuntimeException e) {
+            partition.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Registers the per-partition meters. Waits are only timed from then on.
+     * 
+     * @param registry The registry
+     */
+    public void registerMetrics(MeterRegistry registry) {
+        partitions.values().forEach(partition -> partition.register(registry));
+    }
+
+    public int getInUse(BulkheadPool pool) {
+        return partitions.get(pool).inUse();
+    }
+
+    public int getWaiting(BulkheadPool pool) {
+        return partitions.get(pool).permits.getQueueLength();
+    }
+
+    public int getMaxConnections(BulkheadPool pool) {
+        return partitions.get(pool).size;
+    }
+
+    // ==================== Private Helpers ====================
+
+    private final class Partition {
+
+        private final BulkheadPool pool;
+        private final int size;
+        private final Semaphore permits;
+        private volatile Timer waitTimer;
+        private volatile Counter rejected;
+
+        private Partition(BulkheadPool pool, int size) {
+            this.pool = pool;
+            this.size = size;
+            this.permits = new Semaphore(size, true);
+        }
+
+        private int inUse() {
+            return size - permits.availablePermits();
+        }
+
+        private void acquire() throws SQLException {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException(
+                        "Interrupted while waiting for a " + tag() + " connection", e);
+            }
+            if (waitTimer != null) {
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                if (rejected != null) {
+                    rejected.increment();
+                }
+                throw new SQLTransientConnectionException(
+                        "No " + tag() + " connection available within " + acquireTimeout.toMillis() + " ms");
+            }
+        }
+
+        private void register(MeterRegistry registry) {
+            waitTimer = Timer.builder("db.bulkhead.wait")
+                    .tag("pool", tag())
+                    .register(registry);
+            rejected = Counter.builder("db.bulkhead.rejected")
+                    .tag("pool", tag())
+                    .register(registry);
+            Gauge.builder("db.bulkhead.in-use", this, Partition::inUse)
+                    .tag("pool", tag())
+                    .register(registry);
+            Gauge.builder("db.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                    .tag("pool", tag())
+                    .register(registry);
+            Gauge.builder("db.bulkhead.saturation", this, partition -> (double) partition.inUse() / partition.size)
+                    .tag("pool", tag())
+                    .register(registry);
+        }
+
+        private String tag() {
+            return pool.name().toLowerCase();
+        }
+    }
+}
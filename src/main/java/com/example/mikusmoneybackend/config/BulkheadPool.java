@@ -0,0 +1,20 @@
+package com.example.mikusmoneybackend.config;
+
+/**
+ * The partitions of the connection pool. Each one has its own share of connections,
+ * so a flood of one kind of work cannot take the connections of another.
+ */
+public enum BulkheadPool {
+
+    /** Deposits, withdrawals, transfers and savings pig movements. */
+    MONEY,
+
+    /** Request-time reads: history, account details, exports. */
+    READS,
+
+    /** Background jobs: outbox, mail, statements, payroll, scheduled transfers. */
+    JOBS,
+
+    /** Login, registration, token refresh and the profile. */
+    AUTH
+}
@@ -0,0 +1,46 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for the connection pool partitions.
+ * Values are loaded from application.properties with prefix 'bulkheads'.
+ * The sizes together should not exceed the connection pool size.
+ * 
+ * Example configuration:
+ * bulkheads.max-connections.money=4
+ * bulkheads.max-connections.reads=4
+ * bulkheads.max-connections.jobs=4
+ * bulkheads.max-connections.auth=2
+ * bulkheads.acquire-timeout=5s
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "bulkheads")
+public class BulkheadProperties {
+
+    /**
+     * Connections each partition may hold at once. Partitions not listed get one.
+     */
+    @NotEmpty
+    private Map<BulkheadPool, Integer> maxConnections = new EnumMap<>(Map.of(
+            BulkheadPool.MONEY, 4,
+            BulkheadPool.READS, 4,
+            BulkheadPool.JOBS, 4,
+            BulkheadPool.AUTH, 2));
+
+    /**
+     * How long a caller waits for a connection of its partition before failing.
+     */
+    @NotNull
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
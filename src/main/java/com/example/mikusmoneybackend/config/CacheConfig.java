@@ -0,0 +1,12 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the configuration properties of the in-memory caches.
+ */
+@Configuration
+@EnableConfigurationProperties(AccountCacheProperties.class)
+public class CacheConfig {
+}
@@ -0,0 +1,42 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers conditional GETs on per-user resources.
+ * The ETag is computed before the handler runs; when it matches If-None-Match
+ * the request ends with 304 and no service, query, or serialization work happens.
+ * Otherwise the tag is set on the response and the handler runs as usual.
+ * The tag is taken before the body is read, so a concurrent change can only
+ * make the tag older than the body, never newer.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final AuthContextService authContextService;
+    private final UserChangeTracker userChangeTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !authContextService.isAuthenticated()) {
+            return true;
+        }
+
+        String etag = userChangeTracker.currentTag(authContextService.getAuthenticatedUserId());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // Sets the ETag header, and a 304 status when If-None-Match matches
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mikusmoneybackend.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Connection and DataSource helpers shared by the permit-based DataSources.
+ */
+final class Connections {
+
+    private Connections() {
+    }
+
+    /**
+     * Wraps a connection so that closing it runs the given action, once.
+     * 
+     * @param target The connection
+     * @param onClose What to run on the first close
+     * @return The wrapped connection
+     */
+    static Connection onClose(Connection target, Runnable onClose) {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                            onClose.run();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Finds a DataSource of the given type in a chain of delegating DataSources.
+     * Unlike {@link DataSource#unwrap}, never asks a routing DataSource for its current target.
+     * 
+     * @param dataSource The outermost DataSource
+     * @param type The type to look for
+     * @return The first DataSource of that type, or null
+     */
+    static <T extends DataSource> T findDelegate(DataSource dataSource, Class<T> type) {
+        DataSource current = dataSource;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            current = current instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : null;
+        }
+        return null;
+    }
+}
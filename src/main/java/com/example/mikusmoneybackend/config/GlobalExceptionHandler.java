@@ -14,6 +14,7 @@ import org.springframework.web.context.request.WebRequest;
 import com.example.mikusmoneybackend.config.exception.ApiException;
 import com.example.mikusmoneybackend.config.exception.ErrorResponse;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -76,6 +77,36 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles validation errors from programmatic bean validation.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+            ConstraintViolationException ex, WebRequest request) {
+
+        log.warn("Validation error on request to {}", extractPath(request));
+
+        List<ErrorResponse.FieldError> fieldErrors = ex.getConstraintViolations().stream()
+                .map(violation -> ErrorResponse.FieldError.builder()
+                        .field(violation.getPropertyPath().toString())
+                        .message(violation.getMessage())
+                        .rejectedValue(violation.getInvalidValue())
+                        .build())
+                .toList();
+
+        ErrorResponse response = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message("Validation failed")
+                .errorCode("VALIDATION_ERROR")
+                .path(extractPath(request))
+                .fieldErrors(fieldErrors)
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles illegal argument exceptions.
      */
@@ -137,6 +168,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Resolves the error response of an exception caught outside the MVC dispatch,
+     * such as one operation of a batch request.
+     */
+    public ResponseEntity<ErrorResponse> toResponse(Exception ex, WebRequest request) {
+        if (ex instanceof ApiException apiException) {
+            return handleApiException(apiException, request);
+        }
+        if (ex instanceof ConstraintViolationException violationException) {
+            return handleConstraintViolationException(violationException, request);
+        }
+        if (ex instanceof IllegalArgumentException illegalArgumentException) {
+            return handleIllegalArgumentException(illegalArgumentException, request);
+        }
+        if (ex instanceof IllegalStateException illegalStateException) {
+            return handleIllegalStateException(illegalStateException, request);
+        }
+        return handleGenericException(ex, request);
+    }
+
     private String extractPath(WebRequest request) {
         String description = request.getDescription(false);
         return description.replace("uri=", "");
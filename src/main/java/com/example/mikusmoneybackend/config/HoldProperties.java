@@ -0,0 +1,57 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for authorization holds.
+ * Values are loaded from application.properties with prefix 'holds'.
+ * 
+ * Example configuration:
+ * holds.default-ttl=7d
+ * holds.max-ttl=30d
+ * holds.tick=1s
+ * holds.sweep-interval=1h
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "holds")
+public class HoldProperties {
+
+    /**
+     * Lifetime of a hold when the request does not set one.
+     */
+    @NotNull
+    private Duration defaultTtl = Duration.ofDays(7);
+
+    /**
+     * Longest lifetime a hold may be given.
+     * Must stay within the expiry wheel's horizon (64^4 ticks).
+     */
+    @NotNull
+    private Duration maxTtl = Duration.ofDays(30);
+
+    /**
+     * Resolution of the expiry wheel: holds expire at most this late.
+     */
+    @NotNull
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Delay between two sweeps for expired holds that no wheel is tracking,
+     * e.g. holds placed on an instance that has since gone away.
+     */
+    private Duration sweepInterval = Duration.ofHours(1);
+
+    /**
+     * Maximum number of pending holds per account.
+     */
+    @Min(value = 1, message = "Max pending holds must be at least 1")
+    private int maxPendingPerAccount = 20;
+}
@@ -1,19 +1,20 @@
 package com.example.mikusmoneybackend.config;
 
 import java.io.IOException;
-import java.util.Collections;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
 import com.example.mikusmoneybackend.auth.CookieService;
 import com.example.mikusmoneybackend.auth.JwtService;
-import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.auth.TokenAuthentication;
 import com.example.mikusmoneybackend.miku.MikuRepository;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,6 +26,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * JWT Authentication Filter that processes each request to validate JWT tokens.
  * Extracts JWT from cookies and sets the authentication context.
+ * The user entity is not loaded here (see {@link TokenAuthentication}), but the token is
+ * only accepted while its user exists: a fresh account snapshot in the
+ * {@link AccountSnapshotCache} proves it, otherwise a primary-key existence check does.
  * 
  * This filter is environment-agnostic and works the same in development and production.
  */
@@ -36,6 +40,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final CookieService cookieService;
     private final MikuRepository mikuRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     @Override
     protected void doFilterInternal(
@@ -58,32 +63,30 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Validate token and extract user ID
-            if (jwtService.isTokenExpired(token)) {
-                log.debug("Token expired for request to {}", request.getRequestURI());
+            // Verify the token once; the user itself is only loaded if something asks for it
+            Claims claims = jwtService.parseToken(token);
+            Long userId = Long.valueOf(claims.getSubject());
+
+            if (!accountSnapshotCache.isFresh(userId) && !mikuRepository.existsById(userId)) {
+                log.warn("Rejected token of unknown user {}", userId);
                 cookieService.clearAuthCookie(response);
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            Long userId = jwtService.getUserIdFromToken(token);
-
-            // Load user from database
-            Miku miku = mikuRepository.findById(userId).orElse(null);
+            TokenAuthentication authToken = new TokenAuthentication(
+                    userId,
+                    claims,
+                    () -> mikuRepository.findById(userId).orElse(null)
+            );
 
-            if (miku != null && jwtService.isTokenValid(token, userId)) {
-                // Create authentication token
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        miku,
-                        null,
-                        Collections.emptyList()
-                );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                log.debug("Authenticated user {} for request to {}", miku.getId(), request.getRequestURI());
-            }
+            log.debug("Authenticated user {} for request to {}", userId, request.getRequestURI());
+        } catch (ExpiredJwtException e) {
+            log.debug("Token expired for request to {}", request.getRequestURI());
+            cookieService.clearAuthCookie(response);
         } catch (Exception e) {
             log.warn("JWT authentication failed: {}", e.getMessage());
             cookieService.clearAuthCookie(response);
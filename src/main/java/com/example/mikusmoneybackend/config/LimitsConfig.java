@@ -0,0 +1,12 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the configuration properties of the transaction limits and risk scoring.
+ */
+@Configuration
+@EnableConfigurationProperties({VelocityProperties.class, RiskProperties.class})
+public class LimitsConfig {
+}
@@ -0,0 +1,47 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Adaptive load shedding (see {@link LoadSheddingFilter}).
+ * 
+ * Metrics:
+ * - {@code http.concurrency.limit}: current limit
+ * - {@code http.concurrency.in-flight}: requests holding a permit
+ * - {@code http.requests.shed}: shed requests, per {@code priority}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "load-shedding", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        Gauge.builder("http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit).register(meterRegistry);
+        Gauge.builder("http.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight).register(meterRegistry);
+        return limit;
+    }
+
+    @Bean
+    FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(AdaptiveConcurrencyLimit limit,
+                                                                  LoadSheddingProperties properties,
+                                                                  BatchProperties batchProperties,
+                                                                  JsonMapper jsonMapper,
+                                                                  MeterRegistry meterRegistry) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(
+                new LoadSheddingFilter(limit, properties, batchProperties, jsonMapper, meterRegistry));
+        // Just ahead of the security filter chain, and so of JwtAuthFilter
+        registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.mikusmoneybackend.config;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.example.mikusmoneybackend.batch.BatchEnvelope;
+import com.example.mikusmoneybackend.config.exception.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Sheds requests above the {@link AdaptiveConcurrencyLimit} with 503 and Retry-After.
+ * 
+ * Runs ahead of the security filter chain (and so of {@link JwtAuthFilter}), so a shed
+ * request costs neither a token check nor a database lookup. Requests are admitted by priority:
+ * - money movements may use the whole limit
+ * - other requests may use {@code default-share} of it
+ * - history, exports and statements may use {@code bulk-share} of it
+ * so when the limit shrinks, reads are turned away first and transfers keep going.
+ * A batch request takes the priority of its least important operation. Its body is only
+ * read once it holds a permit, so shedding bounds the bodies buffered at once too; when the
+ * operations turn out to be of lower priority, the permit is given back and the batch is shed.
+ * Bodies above {@code batch.max-body-size} are refused with 413.
+ * 
+ * Streaming responses hold their permit until the stream completes but are not
+ * sampled, since their duration depends on the client rather than on the server.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    /**
+     * Request priorities, from most to least important.
+     */
+    public enum Priority {
+        MONEY,
+        DEFAULT,
+        BULK
+    }
+
+    private static final List<Rule> RULES = List.of(
+            // ==================== Money Movements ====================
+            new Rule(HttpMethod.POST, "/api/transactions/{operation:deposit|withdraw|transfer}", Priority.MONEY),
+            new Rule(HttpMethod.POST, "/api/transactions/transfer/batch", Priority.MONEY),
+            new Rule(HttpMethod.POST, "/api/savings-pigs/{id}/{operation:deposit|break}", Priority.MONEY),
+            new Rule(HttpMethod.POST, "/api/holds", Priority.MONEY),
+            new Rule(HttpMethod.POST, "/api/holds/{id}/{operation:capture|release}", Priority.MONEY),
+
+            // ==================== Bulk Reads ====================
+            new Rule(HttpMethod.GET, "/api/transactions/history/**", Priority.BULK),
+            new Rule(HttpMethod.GET, "/api/transactions/export", Priority.BULK),
+            new Rule(HttpMethod.GET, "/api/account/statements", Priority.BULK),
+            new Rule(HttpMethod.POST, "/api/admin/payroll", Priority.BULK));
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final LoadSheddingProperties properties;
+    private final BatchProperties batchProperties;
+    private final JsonMapper jsonMapper;
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimit limit, LoadSheddingProperties properties,
+                              BatchProperties batchProperties, JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.properties = properties;
+        this.batchProperties = batchProperties;
+        this.jsonMapper = jsonMapper;
+        for (Priority priority : Priority.values()) {
+            shed.put(priority, Counter.builder("http.requests.shed")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain) throws ServletException, IOException {
+
+        // 1. A batch's priority is not known before its body is read: take any permit first
+        boolean isBatch = BatchEnvelope.isBatch(request);
+        Priority priority = isBatch
+                ? Priority.MONEY
+                : priorityOf(HttpMethod.valueOf(request.getMethod()), PathContainer.parsePath(request.getRequestURI()));
+
+        if (!limit.tryAcquire(shareOf(priority))) {
+            shed.get(priority).increment();
+            reject(request, response);
+            return;
+        }
+
+        // 2. Then read the batch, and keep the permit only if its operations may use it
+        if (isBatch) {
+            BatchEnvelope batch;
+            try {
+                batch = BatchEnvelope.read(request, jsonMapper, batchProperties.getMaxBodySize().toBytes());
+            } catch (IOException | RuntimeException e) {
+                limit.release();
+                throw e;
+            }
+            if (batch.isTooLarge()) {
+                limit.release();
+                BatchEnvelope.rejectTooLarge(request, response, jsonMapper);
+                return;
+            }
+            request = batch.request();
+            priority = priorityOf(batch.operations());
+            if (!limit.fitsShare(shareOf(priority))) {
+                limit.release();
+                shed.get(priority).increment();
+                reject(request, response);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks must answer even when overloaded
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    // ==================== Private Helpers ====================
+
+    private Priority priorityOf(List<BatchEnvelope.Endpoint> operations) {
+        Priority lowest = operations.isEmpty() ? Priority.DEFAULT : Priority.MONEY;
+        for (BatchEnvelope.Endpoint operation : operations) {
+            Priority priority = priorityOf(operation.method(), operation.path());
+            if (priority.compareTo(lowest) > 0) {
+                lowest = priority;
+            }
+        }
+        return lowest;
+    }
+
+    private Priority priorityOf(HttpMethod method, PathContainer path) {
+        for (Rule rule : RULES) {
+            if (rule.method().equals(method) && rule.pattern().matches(path)) {
+                return rule.priority();
+            }
+        }
+        return Priority.DEFAULT;
+    }
+
+    private double shareOf(Priority priority) {
+        return switch (priority) {
+            case MONEY -> 1.0;
+            case DEFAULT -> properties.getDefaultShare();
+            case BULK -> properties.getBulkShare();
+        };
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message("Server is overloaded, please retry later")
+                .errorCode("OVERLOADED")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private record Rule(HttpMethod method, PathPattern pattern, Priority priority) {
+
+        Rule(HttpMethod method, String pattern, Priority priority) {
+            this(method, PathPatternParser.defaultInstance.parse(pattern), priority);
+        }
+    }
+
+    /**
+     * Returns the permit of a streaming response once it is done, however it ends.
+     */
+    private final class ReleasingListener implements AsyncListener {
+
+        private boolean released;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                limit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for the adaptive concurrency limit.
+ * Values are loaded from application.properties with prefix 'load-shedding'.
+ * 
+ * Example configuration:
+ * load-shedding.enabled=true
+ * load-shedding.initial-limit=40
+ * load-shedding.max-limit=200
+ * load-shedding.tolerance=2.0
+ * load-shedding.retry-after=1s
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    @Min(value = 1, message = "Initial concurrency limit must be at least 1")
+    private int initialLimit = 40;
+
+    @Min(value = 1, message = "Minimum concurrency limit must be at least 1")
+    private int minLimit = 8;
+
+    @Min(value = 1, message = "Maximum concurrency limit must be at least 1")
+    private int maxLimit = 200;
+
+    /**
+     * How much slower than the long-term latency requests may get before the limit shrinks.
+     */
+    @DecimalMin(value = "1.0", message = "Tolerance must be at least 1")
+    private double tolerance = 2.0;
+
+    /**
+     * Weight of each new estimate in the limit, between 0 (never moves) and 1 (no smoothing).
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double smoothing = 0.2;
+
+    /**
+     * Latency samples are averaged over windows of at least this long...
+     */
+    @NotNull
+    private Duration window = Duration.ofMillis(100);
+
+    /**
+     * ...and at least this many requests.
+     */
+    @Min(1)
+    private int windowSamples = 20;
+
+    /**
+     * Share of the limit that ordinary requests may fill. The rest is kept for money movements.
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double defaultShare = 0.8;
+
+    /**
+     * Share of the limit that history, exports and statements may fill.
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double bulkShare = 0.5;
+
+    /**
+     * Sent as Retry-After on shed requests (rounded up to whole seconds).
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,72 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * Configuration properties for the asynchronous mail queue.
+ * Values are loaded from application.properties with prefix 'mail.queue'.
+ * The SMTP server itself is configured through the standard spring.mail.* properties.
+ * 
+ * Example configuration:
+ * mail.queue.from=no-reply@mikusmoney.com
+ * mail.queue.workers=2
+ * mail.queue.batch-size=50
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "mail.queue")
+public class MailQueueProperties {
+
+    /**
+     * Sender address of every outgoing mail.
+     */
+    @NotBlank(message = "Mail sender address must be configured")
+    @Email(message = "Mail sender address must be valid")
+    private String from = "no-reply@mikusmoney.local";
+
+    /**
+     * Delay between two dispatcher runs.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Number of worker threads sending concurrently.
+     */
+    @Min(value = 1, message = "Mail workers must be at least 1")
+    private int workers = 2;
+
+    /**
+     * Maximum number of mails claimed and sent over one SMTP connection.
+     */
+    @Min(value = 1, message = "Mail batch size must be at least 1")
+    private int batchSize = 50;
+
+    /**
+     * How long a claimed mail stays invisible to other workers while being sent.
+     */
+    private Duration lease = Duration.ofMinutes(5);
+
+    /**
+     * Delay before the first retry of a failed mail; doubled on each further failure.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound for the retry delay.
+     */
+    private Duration maxRetryBackoff = Duration.ofHours(1);
+
+    /**
+     * Attempts after which a mail is marked as failed.
+     */
+    @Min(value = 1, message = "Mail max attempts must be at least 1")
+    private int maxAttempts = 8;
+}
@@ -0,0 +1,61 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Configuration properties for the transactional outbox dispatcher.
+ * Values are loaded from application.properties with prefix 'outbox'.
+ * 
+ * Example configuration:
+ * outbox.poll-interval=500ms
+ * outbox.batch-size=100
+ * outbox.retry-backoff=1s
+ * outbox.max-retry-backoff=10m
+ * outbox.max-attempts=12
+ * outbox.lease=5m
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * Delay between two dispatcher runs.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of events claimed per transaction.
+     */
+    @Min(value = 1, message = "Outbox batch size must be at least 1")
+    private int batchSize = 100;
+
+    /**
+     * Delay before the first retry of a failed event; doubled on each further failure.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound for the retry delay.
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(10);
+
+    /**
+     * Failed attempts after which an event is marked FAILED and no longer retried.
+     */
+    @Min(value = 1, message = "Outbox max attempts must be at least 1")
+    private int maxAttempts = 12;
+
+    /**
+     * How long claimed events stay hidden from other dispatchers.
+     * Must exceed the time needed to deliver a batch; an event whose dispatcher
+     * died is claimed again once its lease ends.
+     */
+    private Duration lease = Duration.ofMinutes(5);
+}
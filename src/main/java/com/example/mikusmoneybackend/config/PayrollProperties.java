@@ -0,0 +1,57 @@
+package com.example.mikusmoneybackend.config;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for payroll (bulk credit) jobs.
+ * Values are loaded from application.properties with prefix 'payroll'.
+ * 
+ * Example configuration:
+ * payroll.admin-emails=payroll@mikusmoney.com,ops@mikusmoney.com
+ * payroll.partitions=4
+ * payroll.chunk-size=500
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "payroll")
+public class PayrollProperties {
+
+    /**
+     * Emails of the users allowed to upload payroll files. Empty disables uploads.
+     */
+    private List<String> adminEmails = new ArrayList<>();
+
+    /**
+     * Number of partitions, each processed by its own worker.
+     * Rows are partitioned by account ID, so no two workers touch the same account.
+     */
+    @Min(value = 1, message = "Payroll partitions must be at least 1")
+    private int partitions = 4;
+
+    /**
+     * Rows credited per transaction; each committed chunk is a checkpoint.
+     */
+    @Min(value = 1, message = "Payroll chunk size must be at least 1")
+    private int chunkSize = 500;
+
+    /**
+     * Largest amount a single row may credit.
+     */
+    @NotNull
+    private BigDecimal maxAmount = BigDecimal.valueOf(100000);
+
+    /**
+     * Largest number of rows in one file.
+     */
+    @Min(value = 1, message = "Payroll max rows must be at least 1")
+    private int maxRows = 200000;
+}
@@ -0,0 +1,103 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import com.example.mikusmoneybackend.quota.QuotaGroup;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the per-user and per-IP API quotas.
+ * Values are loaded from application.properties with prefix 'quotas'.
+ * 
+ * Example configuration:
+ * quotas.enabled=true
+ * quotas.max-buckets=100000
+ * quotas.idle-timeout=10m
+ * quotas.groups.history.user.capacity=20
+ * quotas.groups.history.user.refill-per-second=2
+ * quotas.groups.history.ip.capacity=60
+ * quotas.groups.history.ip.refill-per-second=10
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "quotas")
+public class QuotaProperties {
+
+    /**
+     * Whether quotas are enforced at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of buckets kept in memory; the least recently used go first.
+     */
+    @Min(value = 1, message = "Max buckets must be at least 1")
+    private int maxBuckets = 100_000;
+
+    /**
+     * Buckets untouched for this long are dropped (a dropped bucket comes back full).
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Quotas per endpoint group.
+     */
+    @Valid
+    private Map<QuotaGroup, Group> groups = defaultGroups();
+
+    private static Map<QuotaGroup, Group> defaultGroups() {
+        Map<QuotaGroup, Group> defaults = new EnumMap<>(QuotaGroup.class);
+        defaults.put(QuotaGroup.MONEY, new Group(new Bucket(20, 2), new Bucket(60, 10)));
+        defaults.put(QuotaGroup.HISTORY, new Group(new Bucket(20, 2), new Bucket(60, 10)));
+        defaults.put(QuotaGroup.ACCOUNT, new Group(new Bucket(30, 5), new Bucket(100, 20)));
+        defaults.put(QuotaGroup.AUTH, new Group(new Bucket(10, 1), new Bucket(20, 0.5)));
+        defaults.put(QuotaGroup.DEFAULT, new Group(new Bucket(60, 10), new Bucket(200, 50)));
+        return defaults;
+    }
+
+    /**
+     * The buckets of one endpoint group: one per user, one per client IP.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+
+        @Valid
+        @NotNull
+        private Bucket user = new Bucket();
+
+        @Valid
+        @NotNull
+        private Bucket ip = new Bucket();
+    }
+
+    /**
+     * A token bucket: bursts of up to {@code capacity} requests, {@code refillPerSecond} sustained.
+     * A capacity of 0 disables the bucket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        @Min(value = 0, message = "Bucket capacity must not be negative")
+        private int capacity = 60;
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Refill rate must be positive")
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mikusmoneybackend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs a pure read in a read-only transaction.
+ * When a replica is configured, such transactions are served by it (see {@link ReadWriteRoutingDataSource}).
+ * The method must not write: inside its own transaction it may be talking to the replica.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransaction {
+}
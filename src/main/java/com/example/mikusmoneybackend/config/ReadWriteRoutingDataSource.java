@@ -0,0 +1,65 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes read-only transactions to the replica and everything else to the primary.
+ * 
+ * The decision is taken when a physical connection is requested, so this must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * by then the transaction's read-only flag is known. A read-only transaction still
+ * goes to the primary when the replica lags too much or when the user wrote within
+ * the sticky window (read-your-writes).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter stickyReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      ReplicaLagMonitor replicaLagMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker,
+                                      MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.replicaReads = meterRegistry.counter("datasource.reads", "target", "replica");
+        this.laggingReads = meterRegistry.counter("datasource.reads", "target", "primary", "reason", "lag");
+        this.stickyReads = meterRegistry.counter("datasource.reads", "target", "primary", "reason", "read-your-writes");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.recordWrite();
+            return Target.PRIMARY;
+        }
+        if (!replicaLagMonitor.isUsable()) {
+            laggingReads.increment();
+            return Target.PRIMARY;
+        }
+        if (readYourWritesTracker.isSticky()) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.auth.TokenAuthentication;
+import com.example.mikusmoneybackend.miku.Miku;
+
+/**
+ * Remembers when each user last wrote, so their reads can stay on the primary
+ * until the replica has caught up with their own writes.
+ * Writes are attributed to the authenticated user of the current thread.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(ReplicaProperties properties) {
+        this.windowNanos = properties.getStickyWindow().toNanos();
+    }
+
+    /**
+     * Records a write by the current user, now and again once the surrounding transaction completes.
+     */
+    public void recordWrite() {
+        Long mikuId = currentUserId();
+        if (mikuId == null) {
+            return;
+        }
+        lastWrites.put(mikuId, System.nanoTime());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lastWrites.put(mikuId, System.nanoTime());
+                }
+            });
+        }
+    }
+
+    /**
+     * Whether the current user wrote within the sticky window.
+     */
+    public boolean isSticky() {
+        Long mikuId = currentUserId();
+        Long writtenAt = mikuId != null ? lastWrites.get(mikuId) : null;
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    /**
+     * Forgets writes older than the sticky window.
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    public int size() {
+        return lastWrites.size();
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Never load the user here: this runs while a connection is being chosen
+        if (authentication instanceof TokenAuthentication token) {
+            return token.getUserId();
+        }
+        return authentication != null && authentication.getPrincipal() instanceof Miku miku ? miku.getId() : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.mikusmoneybackend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write splitting, enabled by setting {@code replica.url}.
+ * 
+ * Replaces the auto-configured DataSource with a lazy proxy over a
+ * {@link ReadWriteRoutingDataSource}, which holds two pools: the primary
+ * (configured through {@code spring.datasource.*} as before) and the replica.
+ * Methods annotated with {@link ReadOnlyTransaction} are served by the replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    @Bean
+    Pools replicationPools(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+                           Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .driverClassName(replicaProperties.getDriverClassName() != null
+                        ? replicaProperties.getDriverClassName()
+                        : dataSourceProperties.determineDriverClassName())
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaProperties.getMaxPoolSize());
+        replica.setReadOnly(true);
+
+        return new Pools(primary, replica);
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(replicaProperties);
+        Gauge.builder("datasource.sticky.users", tracker, ReadYourWritesTracker::size).register(meterRegistry);
+        return tracker;
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(Pools pools, ReplicaProperties replicaProperties,
+                                        ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(pools.replica(), replicaProperties, readYourWritesTracker);
+        Gauge.builder("replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(Pools pools, ReplicaLagMonitor replicaLagMonitor,
+                          ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                pools.primary(), pools.replica(), replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * The two connection pools; closed with the context.
+     */
+    record Pools(HikariDataSource primary, HikariDataSource replica) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            replica.close();
+            primary.close();
+        }
+    }
+}
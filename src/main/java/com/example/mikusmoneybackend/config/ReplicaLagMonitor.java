@@ -0,0 +1,63 @@
+package com.example.mikusmoneybackend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the replica's lag and decides whether reads may use it.
+ * The replica is considered unusable until the first successful check,
+ * whenever the check fails, and while the lag exceeds {@code replica.max-lag}.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final ReplicaProperties properties;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaProperties properties, ReadYourWritesTracker readYourWritesTracker) {
+        this.replica = new JdbcTemplate(replica);
+        this.properties = properties;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval:1s}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replica.queryForObject(properties.getLagQuery(), Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            usable = lagSeconds * 1000 <= properties.getMaxLag().toMillis();
+        } catch (DataAccessException e) {
+            lagSeconds = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }
+
+        if (wasUsable != usable) {
+            log.info("Replica {} (lag {} s)", usable ? "in use for reads" : "bypassed, reads go to the primary", lagSeconds);
+        }
+        readYourWritesTracker.evictExpired();
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Last measured lag in seconds, or -1 when unknown.
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
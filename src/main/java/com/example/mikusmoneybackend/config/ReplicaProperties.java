@@ -0,0 +1,64 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for the read replica.
+ * Values are loaded from application.properties with prefix 'replica'.
+ * Routing is only enabled when a URL is set.
+ * 
+ * Example configuration:
+ * replica.url=jdbc:postgresql://replica:5432/mikus
+ * replica.max-lag=2s
+ * replica.sticky-window=5s
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaProperties {
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Defaults to the primary's driver.
+     */
+    private String driverClassName;
+
+    @Min(value = 1, message = "Replica pool size must be at least 1")
+    private int maxPoolSize = 10;
+
+    /**
+     * Reads fall back to the primary while the replica lags more than this.
+     */
+    @NotNull
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * After a user's own write, their reads stay on the primary for this long.
+     */
+    @NotNull
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    @NotNull
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * Query run on the replica returning its lag in seconds (PostgreSQL streaming replication by default).
+     */
+    @NotBlank
+    private String lagQuery = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END""";
+}
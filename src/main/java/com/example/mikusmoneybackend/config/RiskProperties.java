@@ -0,0 +1,84 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for risk scoring of withdrawals and transfers.
+ * Values are loaded from application.properties with prefix 'risk'.
+ * 
+ * Example configuration:
+ * risk.enabled=true
+ * risk.step-up-score=50
+ * risk.block-score=80
+ * risk.burst-window=10m
+ * risk.burst-receivers=5
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "risk")
+public class RiskProperties {
+
+    /**
+     * Whether operations are scored at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Score from which the user must confirm the operation with their password.
+     */
+    @Min(value = 1, message = "Step-up score must be at least 1")
+    private int stepUpScore = 50;
+
+    /**
+     * Score from which the operation is rejected.
+     */
+    @Min(value = 1, message = "Block score must be at least 1")
+    private int blockScore = 80;
+
+    /**
+     * Weight of the newest observation in the moving averages (0-1).
+     */
+    @DecimalMin("0.01")
+    @DecimalMax("1.0")
+    private double smoothing = 0.1;
+
+    /**
+     * Operations a user must have before their history is trusted
+     * for amount, counterparty and timing anomalies.
+     */
+    @Min(value = 1, message = "Warm-up must be at least 1 operation")
+    private int warmUp = 5;
+
+    /**
+     * Standard deviations above the user's usual amount that count as unusual.
+     */
+    @DecimalMin("1.0")
+    private double amountDeviations = 3.0;
+
+    /**
+     * Window in which transfers to many distinct receivers count as a burst.
+     */
+    @NotNull
+    private Duration burstWindow = Duration.ofMinutes(10);
+
+    /**
+     * Distinct receivers within the burst window that count as a burst.
+     */
+    @Min(value = 2, message = "Burst receivers must be at least 2")
+    private int burstReceivers = 5;
+
+    /**
+     * Features of users without activity for this long are dropped.
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofDays(7);
+}
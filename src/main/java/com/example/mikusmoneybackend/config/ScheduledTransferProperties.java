@@ -0,0 +1,69 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for standing orders (scheduled transfers).
+ * Values are loaded from application.properties with prefix 'scheduled-transfers'.
+ * 
+ * Example configuration:
+ * scheduled-transfers.poll-interval=30s
+ * scheduled-transfers.batch-size=100
+ * scheduled-transfers.spread-window=6h
+ * scheduled-transfers.max-attempts=3
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "scheduled-transfers")
+public class ScheduledTransferProperties {
+
+    /**
+     * Delay between two runner passes.
+     */
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of due orders claimed at once.
+     */
+    @Min(value = 1, message = "Scheduled transfer batch size must be at least 1")
+    private int batchSize = 100;
+
+    /**
+     * How long a claimed order stays invisible to other instances.
+     * Must comfortably exceed the time needed to run a whole batch.
+     */
+    @NotNull
+    private Duration lease = Duration.ofMinutes(5);
+
+    /**
+     * Runs due on a given day are spread over this window after midnight,
+     * each order at its own fixed offset, instead of all firing at 00:00.
+     */
+    @NotNull
+    private Duration spreadWindow = Duration.ofHours(6);
+
+    /**
+     * Attempts of a single run (e.g. while funds are insufficient) before it is skipped.
+     */
+    @Min(value = 1, message = "Max attempts must be at least 1")
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before a failed run is attempted again.
+     */
+    @NotNull
+    private Duration retryBackoff = Duration.ofHours(1);
+
+    /**
+     * Maximum number of active standing orders per user.
+     */
+    @Min(value = 1, message = "Max active orders must be at least 1")
+    private int maxActivePerUser = 20;
+}
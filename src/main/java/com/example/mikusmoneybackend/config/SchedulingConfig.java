@@ -0,0 +1,15 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs and registers their configuration properties.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({StatementProperties.class, OutboxProperties.class, MailQueueProperties.class,
+        ScheduledTransferProperties.class, HoldProperties.class, PayrollProperties.class})
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.example.mikusmoneybackend.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -16,6 +17,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.mikusmoneybackend.quota.QuotaFilter;
+
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
@@ -30,15 +34,17 @@ import java.util.List;
  * - CSRF disabled (using JWT tokens in cookies)
  * - CORS configuration
  * - Public and protected endpoint configuration
+ * - Per-user and per-IP quotas, checked before authentication
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, QuotaProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final QuotaFilter quotaFilter;
 
     /**
      * Public endpoints that don't require authentication.
@@ -48,6 +54,7 @@ public class SecurityConfig {
             "/api/auth/register",
             "/api/auth/refresh",
             "/api/auth/forgot-password",
+            "/api/auth/reset-password",
             "/actuator/health",
             "/swagger-ui/**",
             "/v3/api-docs/**"
@@ -61,12 +68,25 @@ public class SecurityConfig {
                 .sessionManagement(session -> 
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches (streaming exports) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(quotaFilter, JwtAuthFilter.class)
                 .build();
     }
 
+    /**
+     * The quota filter only runs inside the security filter chain.
+     */
+    @Bean
+    public FilterRegistrationBean<QuotaFilter> quotaFilterRegistration() {
+        FilterRegistrationBean<QuotaFilter> registration = new FilterRegistrationBean<>(quotaFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -81,11 +101,17 @@ public class SecurityConfig {
                 "X-Requested-With",
                 "Accept",
                 "Origin",
-                "X-Idempotency-Key"
+                "X-Idempotency-Key",
+                "If-None-Match"
         ));
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
-                "Content-Type"
+                "Content-Type",
+                "ETag",
+                "Retry-After",
+                QuotaFilter.RATE_LIMIT_LIMIT,
+                QuotaFilter.RATE_LIMIT_REMAINING,
+                QuotaFilter.RATE_LIMIT_RESET
         ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
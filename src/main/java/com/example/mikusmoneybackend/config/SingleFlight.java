@@ -0,0 +1,102 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces identical concurrent computations.
+ * The first caller for a key (the leader) runs the computation; callers that
+ * arrive while it is in flight (followers) wait for and share its result or
+ * exception. Nothing is cached: once the leader finishes, the next call runs again.
+ * 
+ * Metrics: {@code singleflight.calls{flight, role=leader|follower}}; the coalescing
+ * ratio of a flight is followers / (leaders + followers).
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final UserChangeTracker userChangeTracker;
+
+    public SingleFlight(MeterRegistry meterRegistry, UserChangeTracker userChangeTracker) {
+        this.meterRegistry = meterRegistry;
+        this.userChangeTracker = userChangeTracker;
+    }
+
+    /**
+     * Coalesces a per-user read.
+     * The key includes the user's current change tag, so a caller arriving after
+     * a committed change never joins a computation that started before it.
+     * 
+     * @param flight Name of the read path (used as metric tag)
+     * @param mikuId The user ID
+     * @param computation The work to run
+     * @return The (possibly shared) result
+     */
+    public <T> T executeForUser(String flight, Long mikuId, Supplier<T> computation) {
+        return execute(flight, new UserKey(mikuId, userChangeTracker.currentTag(mikuId)), computation);
+    }
+
+    /**
+     * Runs the computation, or joins an identical one already in flight.
+     * Results are shared between threads, so they must be immutable values (DTOs),
+     * never entities managed by the leader's persistence context.
+     * 
+     * @param flight Name of the read path (used as metric tag)
+     * @param key Identity of the request within the flight (e.g. the user ID)
+     * @param computation The work to run
+     * @return The (possibly shared) result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String flight, Object key, Supplier<T> computation) {
+        Key flightKey = new Key(flight, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        if (existing != null) {
+            meterRegistry.counter("singleflight.calls", "flight", flight, "role", "follower").increment();
+            return (T) await(existing);
+        }
+
+        meterRegistry.counter("singleflight.calls", "flight", flight, "role", "leader").increment();
+        try {
+            T result = computation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's exception as is, so error handling is the same for every caller
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String flight, Object key) {
+    }
+
+    private record UserKey(Long mikuId, String changeTag) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Configuration properties for the monthly statement closing job.
+ * Values are loaded from application.properties with prefix 'statements'.
+ * 
+ * Example configuration:
+ * statements.cron=0 30 0 1 * *
+ * statements.chunk-size=500
+ * statements.parallelism=4
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "statements")
+public class StatementProperties {
+
+    /**
+     * Cron expression of the closing job.
+     * Default: 00:30 on the first day of every month
+     */
+    private String cron = "0 30 0 1 * *";
+
+    /**
+     * Number of accounts handed to a worker at once.
+     */
+    @Min(value = 1, message = "Statement chunk size must be at least 1")
+    private int chunkSize = 500;
+
+    /**
+     * Number of chunks processed in parallel.
+     */
+    @Min(value = 1, message = "Statement parallelism must be at least 1")
+    private int parallelism = 4;
+}
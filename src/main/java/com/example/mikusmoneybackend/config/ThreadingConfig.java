@@ -0,0 +1,59 @@
+package com.example.mikusmoneybackend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Execution model configuration.
+ * 
+ * Virtual threads are opt-in through Spring Boot's {@code spring.threads.virtual.enabled}
+ * (honoured on a Java 21+ runtime): Tomcat then serves each request on its own virtual
+ * thread and {@code @Scheduled} jobs run on virtual threads, as do the worker pools
+ * created by {@link WorkerThreads}. In that mode the DataSource is wrapped in a
+ * {@link ThrottledDataSource}, because the request pool no longer bounds how many
+ * threads want a connection at once.
+ */
+@Configuration
+@EnableConfigurationProperties(ThreadingProperties.class)
+public class ThreadingConfig {
+
+    @Bean
+    static BeanPostProcessor throttledDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof ThrottledDataSource
+                        || !Threading.VIRTUAL.isActive(environment)) {
+                    return bean;
+                }
+                ThreadingProperties properties = Binder.get(environment)
+                        .bindOrCreate("threading", ThreadingProperties.class);
+                return new ThrottledDataSource(
+                        dataSource, properties.getDbMaxConcurrency(), properties.getDbAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder throttledDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            // Other wrappers (e.g. the bulkheads) may sit on top
+            ThrottledDataSource throttled = Connections.findDelegate(dataSource, ThrottledDataSource.class);
+            if (throttled != null) {
+                Gauge.builder("db.permits.in-use", throttled, ThrottledDataSource::getInUse).register(registry);
+                Gauge.builder("db.permits.waiting", throttled, ThrottledDataSource::getWaiting).register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mikusmoneybackend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for the execution model.
+ * Values are loaded from application.properties with prefix 'threading'.
+ * Virtual threads themselves are switched on with {@code spring.threads.virtual.enabled}.
+ * 
+ * Example configuration:
+ * threading.db-max-concurrency=10
+ * threading.db-acquire-timeout=5s
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "threading")
+public class ThreadingProperties {
+
+    /**
+     * Maximum number of connections in use at once when running on virtual threads.
+     * Should not exceed the connection pool size.
+     */
+    @Min(value = 1, message = "DB max concurrency must be at least 1")
+    private int dbMaxConcurrency = 10;
+
+    /**
+     * How long a thread waits for a connection permit before failing.
+     */
+    @NotNull
+    private Duration dbAcquireTimeout = Duration.ofSeconds(5);
+}
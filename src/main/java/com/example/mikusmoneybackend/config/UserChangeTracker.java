@@ -0,0 +1,113 @@
+package com.example.mikusmoneybackend.config;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-user, monotonically increasing change counter used to build ETags.
+ * 
+ * A tag combines:
+ * - a random epoch chosen at startup, so tags never survive a restart,
+ * - a time window of one account cache TTL, which bounds how long a tag can
+ *   stay valid when the change happened on another application instance,
+ * - the user's change counter, bumped after every committed change,
+ * - the account version known to the account snapshot cache, if any.
+ * Computing a tag never touches the database.
+ * 
+ * Counters last bumped in an earlier window are dropped periodically: every tag
+ * issued while they mattered carries an older window, so forgetting them cannot
+ * turn a stale tag into a match. Memory is bounded by the users changed recently.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeTracker {
+
+    private static final long EPOCH = new SecureRandom().nextLong() >>> 1;
+
+    private final ConcurrentHashMap<Long, Change> counters = new ConcurrentHashMap<>();
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final AccountCacheProperties accountCacheProperties;
+
+    /**
+     * Returns the current strong ETag of everything a user can read.
+     * 
+     * @param mikuId The user ID
+     * @return Quoted entity tag
+     */
+    public String currentTag(Long mikuId) {
+        long window = currentWindow();
+        Change change = counters.get(mikuId);
+
+        return "\"" + Long.toHexString(EPOCH)
+                + "-" + Long.toHexString(window)
+                + "-" + (change != null ? change.count() : 0)
+                + "-" + accountSnapshotCache.peekVersion(mikuId) + "\"";
+    }
+
+    /**
+     * Marks users as changed once the surrounding transaction commits
+     * (immediately when there is none). Null IDs are ignored.
+     * 
+     * @param mikuIds The users whose data changed
+     */
+    public void markChangedAfterCommit(Long... mikuIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markChanged(mikuIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markChanged(mikuIds);
+            }
+        });
+    }
+
+    /**
+     * Drops the counters of users not changed in the current window.
+     * Each key is checked and removed atomically, so a concurrent change is never lost.
+     */
+    @Scheduled(fixedDelayString = "${account.cache.ttl:30s}")
+    public void evictStale() {
+        long window = currentWindow();
+        for (Long mikuId : counters.keySet()) {
+            counters.computeIfPresent(mikuId, (id, change) -> change.window() < window ? null : change);
+        }
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void markChanged(Long... mikuIds) {
+        long window = currentWindow();
+        for (Long mikuId : mikuIds) {
+            if (mikuId != null) {
+                counters.merge(mikuId, new Change(1, window),
+                        (current, first) -> new Change(current.count() + 1, window));
+            }
+        }
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / Math.max(1, accountCacheProperties.getTtl().toMillis());
+    }
+
+    /**
+     * A user's change count and the window of their latest change.
+     */
+    private record Change(long count, long window) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.mikusmoneybackend.config;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import com.example.mikusmoneybackend.velocity.VelocityOperation;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Configuration properties for the per-user velocity limits.
+ * Values are loaded from application.properties with prefix 'velocity'.
+ * 
+ * Example configuration:
+ * velocity.enabled=true
+ * velocity.idle-timeout=2h
+ * velocity.limits.transfer.hourly-amount=20000
+ * velocity.limits.transfer.hourly-count=20
+ * velocity.limits.transfer.daily-amount=50000
+ * velocity.limits.transfer.daily-count=100
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "velocity")
+public class VelocityProperties {
+
+    /**
+     * Whether velocity limits are enforced at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Counters of users without activity for this long are dropped;
+     * they are seeded again from the database on the user's next operation.
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofHours(2);
+
+    /**
+     * Limits per operation type; every operation starts with the default caps.
+     */
+    @Valid
+    private Map<VelocityOperation, Limit> limits = defaultLimits();
+
+    private static Map<VelocityOperation, Limit> defaultLimits() {
+        Map<VelocityOperation, Limit> defaults = new EnumMap<>(VelocityOperation.class);
+        for (VelocityOperation operation : VelocityOperation.values()) {
+            defaults.put(operation, new Limit());
+        }
+        return defaults;
+    }
+
+    /**
+     * Amount and count caps of one operation type over the last hour and day.
+     */
+    @Data
+    public static class Limit {
+
+        @NotNull
+        private BigDecimal hourlyAmount = BigDecimal.valueOf(20000);
+
+        @Min(value = 1, message = "Hourly count limit must be at least 1")
+        private int hourlyCount = 20;
+
+        @NotNull
+        private BigDecimal dailyAmount = BigDecimal.valueOf(50000);
+
+        @Min(value = 1, message = "Daily count limit must be at least 1")
+        private int dailyCount = 100;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring MVC configuration.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BatchProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Polled per-user resources that support conditional GETs.
+     */
+    private static final String[] CONDITIONAL_GET_ENDPOINTS = {
+            "/api/account",
+            "/api/account/empty",
+            "/api/savings-pigs",
+            "/api/savings-pigs/active",
+            "/api/transactions/history",
+            "/api/transactions/history/slice"
+    };
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor).addPathPatterns(CONDITIONAL_GET_ENDPOINTS);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.mikusmoneybackend.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the worker pools of the background jobs (mail, statements, payroll).
+ * 
+ * When virtual threads are enabled ({@code spring.threads.virtual.enabled=true}
+ * on a Java 21+ runtime) the pools' threads are virtual: a worker blocked on
+ * JDBC or SMTP releases its carrier. The pools keep their fixed size, which
+ * still bounds how much work each job runs in parallel.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Creates a fixed-size pool whose threads are named after the given prefix.
+     * 
+     * @param name Thread name prefix, e.g. "mail-"
+     * @param size Number of workers
+     * @return The pool; the caller shuts it down
+     */
+    public ExecutorService newFixedPool(String name, int size) {
+        return Executors.newFixedThreadPool(size, threadFactory(name));
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        return virtual
+                ? new VirtualThreadTaskExecutor(name).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(name);
+    }
+}
@@ -54,4 +54,12 @@ public class BusinessException extends ApiException {
     public static BusinessException invalidAmount() {
         return new BusinessException("Amount must be greater than zero", "INVALID_AMOUNT");
     }
+
+    public static BusinessException invalidResetToken() {
+        return new BusinessException("Reset token is invalid or has expired", "INVALID_RESET_TOKEN");
+    }
+
+    public static BusinessException velocityLimitExceeded(String operation, String limit) {
+        return new BusinessException("This " + operation + " would exceed your " + limit + " limit", "VELOCITY_LIMIT_EXCEEDED");
+    }
 }
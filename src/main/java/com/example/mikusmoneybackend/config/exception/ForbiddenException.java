@@ -0,0 +1,17 @@
+package com.example.mikusmoneybackend.config.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when an authenticated user may not perform an operation.
+ */
+public class ForbiddenException extends ApiException {
+
+    public ForbiddenException(String message) {
+        super(message, HttpStatus.FORBIDDEN, "FORBIDDEN");
+    }
+
+    public static ForbiddenException adminOnly() {
+        return new ForbiddenException("This operation is restricted to administrators");
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mikusmoneybackend.config.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a money movement is rejected by risk scoring.
+ */
+public class RiskException extends ApiException {
+
+    public RiskException(String message, String errorCode) {
+        super(message, HttpStatus.FORBIDDEN, errorCode);
+    }
+
+    public static RiskException blocked() {
+        return new RiskException("This operation was blocked for your security. Please contact support", "RISK_BLOCKED");
+    }
+
+    public static RiskException stepUpRequired() {
+        return new RiskException("Please confirm this operation with your password", "STEP_UP_REQUIRED");
+    }
+}
@@ -38,7 +38,7 @@ public class Credential {
     private LocalDateTime createdAt;
 
     // One-to-one relationship with Miku
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "miku_id", nullable = false, unique = true)
     private Miku miku;
 
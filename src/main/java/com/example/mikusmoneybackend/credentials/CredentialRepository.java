@@ -2,6 +2,7 @@ package com.example.mikusmoneybackend.credentials;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +13,9 @@ import org.springframework.stereotype.Repository;
 public interface CredentialRepository extends JpaRepository<Credential, Long> {
 
     /**
-     * Finds credentials by email.
+     * Finds credentials by email, with their Miku (login and password recovery need it).
      */
+    @EntityGraph(attributePaths = "miku")
     Optional<Credential> findByEmail(String email);
 
     /**
@@ -22,8 +24,9 @@ public interface CredentialRepository extends JpaRepository<Credential, Long> {
     Optional<Credential> findByPhoneNumber(String phoneNumber);
 
     /**
-     * Finds credentials by Miku ID.
+     * Finds credentials by Miku ID, with their Miku (receipts are addressed by name).
      */
+    @EntityGraph(attributePaths = "miku")
     Optional<Credential> findByMikuId(Long mikuId);
 
     /**
@@ -0,0 +1,29 @@
+package com.example.mikusmoneybackend.credentials;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for PasswordResetToken entity operations.
+ */
+@Repository
+public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
+
+    /**
+     * Finds a token by the hash of its plain value.
+     */
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Invalidates every unused token of a user, so only the latest one can be redeemed.
+     */
+    @Modifying
+    @Query("UPDATE PasswordResetToken t SET t.usedAt = :now WHERE t.mikuId = :mikuId AND t.usedAt IS NULL")
+    int invalidateAllByMikuId(@Param("mikuId") Long mikuId, @Param("now") LocalDateTime now);
+}
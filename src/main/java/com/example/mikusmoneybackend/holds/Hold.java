@@ -0,0 +1,60 @@
+package com.example.mikusmoneybackend.holds;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.example.mikusmoneybackend.account.Account;
+import com.example.mikusmoneybackend.money.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Authorization hold: money reserved on an account without being moved.
+ * While pending, its amount counts in the account's held money. It ends by being
+ * captured (booked as a withdrawal), released by the user, or expiring.
+ */
+@Entity
+@Table(name = "holds", indexes = {
+        @Index(name = "idx_holds_status_expires", columnList = "status, expires_at, id"),
+        @Index(name = "idx_holds_account_status", columnList = "account_id, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Hold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Column(length = 100)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private HoldStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isPending() {
+        return this.status == HoldStatus.PENDING;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.mikusmoneybackend.holds;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HoldCaptureRequest {
+
+    /**
+     * Amount to capture, or null for the whole hold; any remainder is released.
+     */
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    @Digits(integer = 17, fraction = 2, message = "Invalid amount format")
+    private BigDecimal amount;
+
+    @NotBlank(message = "PIN code is required for capturing a hold")
+    @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
+    private String pinCode;
+}
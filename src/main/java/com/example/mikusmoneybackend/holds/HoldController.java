@@ -0,0 +1,74 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for authorization holds.
+ * Handles placing, capturing, releasing and listing holds.
+ */
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+
+    /**
+     * Places a hold on the authenticated user's account.
+     * Requires PIN validation.
+     * 
+     * @param request The amount, optional lifetime and PIN
+     * @return The pending hold
+     */
+    @PostMapping
+    public ResponseEntity<HoldResponse> placeHold(@Valid @RequestBody HoldRequest request) {
+        return ResponseEntity.ok(holdService.place(request));
+    }
+
+    /**
+     * Retrieves the pending holds of the authenticated user.
+     * 
+     * @return List of pending holds
+     */
+    @GetMapping
+    public ResponseEntity<List<HoldResponse>> getPendingHolds() {
+        return ResponseEntity.ok(holdService.getPendingHolds());
+    }
+
+    /**
+     * Captures a pending hold, fully or partially.
+     * Requires PIN validation.
+     * 
+     * @param holdId The ID of the hold to capture
+     * @param request Optional partial amount and PIN
+     * @return The captured hold
+     */
+    @PostMapping("/{holdId}/capture")
+    public ResponseEntity<HoldResponse> captureHold(
+            @PathVariable Long holdId,
+            @Valid @RequestBody HoldCaptureRequest request) {
+        return ResponseEntity.ok(holdService.capture(holdId, request));
+    }
+
+    /**
+     * Releases a pending hold.
+     * 
+     * @param holdId The ID of the hold to release
+     * @return The released hold
+     */
+    @PostMapping("/{holdId}/release")
+    public ResponseEntity<HoldResponse> releaseHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(holdService.release(holdId));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives hold expiry:
+ * - at startup, loads every pending hold into the {@link HoldExpiryWheel},
+ * - every tick, expires the holds the wheel reports as due,
+ * - rarely, sweeps the database for expired holds no wheel is tracking.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryJob {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int RETRY_TICKS = 5;
+
+    private final HoldRepository holdRepository;
+    private final HoldService holdService;
+    private final HoldExpiryWheel holdExpiryWheel;
+
+    /**
+     * Rebuilds the wheel from the pending holds, in keyset chunks.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        long afterId = 0;
+        int loaded = 0;
+        List<PendingHold> chunk;
+        do {
+            chunk = holdRepository.findPendingAfter(afterId, Limit.of(CHUNK_SIZE));
+            for (PendingHold hold : chunk) {
+                if (!holdExpiryWheel.schedule(hold.id(), hold.expiresAt())) {
+                    expire(hold.id());
+                }
+                afterId = hold.id();
+            }
+            loaded += chunk.size();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        log.info("Loaded {} pending holds into the expiry wheel", loaded);
+    }
+
+    /**
+     * Expires the holds that became due since the last tick.
+     */
+    @Scheduled(fixedRateString = "${holds.tick:1s}")
+    public void tick() {
+        for (Long holdId : holdExpiryWheel.advance()) {
+            expire(holdId);
+        }
+    }
+
+    /**
+     * Expires pending holds past their expiry that were not in this instance's wheel.
+     */
+    @Scheduled(fixedDelayString = "${holds.sweep-interval:1h}", initialDelayString = "${holds.sweep-interval:1h}")
+    public void sweep() {
+        List<Long> expired;
+        do {
+            expired = holdRepository.findExpiredIds(LocalDateTime.now(), Limit.of(CHUNK_SIZE));
+            expired.forEach(this::expire);
+        } while (expired.size() == CHUNK_SIZE);
+    }
+
+    private void expire(Long holdId) {
+        try {
+            holdService.expire(holdId);
+        } catch (RuntimeException e) {
+            // Typically a concurrent update of the account; try again shortly
+            log.warn("Could not expire hold {}: {}", holdId, e.getMessage());
+            holdExpiryWheel.retryLater(holdId, RETRY_TICKS);
+        }
+    }
+}
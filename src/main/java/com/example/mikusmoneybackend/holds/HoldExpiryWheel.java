@@ -0,0 +1,92 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.config.HoldProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory schedule of pending hold expiries, backed by a {@link TimingWheel}.
+ * Holds are added once their placement commits, and the wheel is rebuilt from
+ * the database at startup by {@link HoldExpiryJob}.
+ */
+@Component
+public class HoldExpiryWheel {
+
+    private final long tickMillis;
+    private final TimingWheel wheel;
+
+    public HoldExpiryWheel(HoldProperties properties, MeterRegistry meterRegistry) {
+        this.tickMillis = properties.getTick().toMillis();
+        if (properties.getMaxTtl().toMillis() / tickMillis >= TimingWheel.horizon()) {
+            throw new IllegalStateException("holds.max-ttl is beyond the expiry wheel horizon for tick " + properties.getTick());
+        }
+        this.wheel = new TimingWheel(currentTick());
+        meterRegistry.gauge("holds.wheel.size", wheel, TimingWheel::size);
+    }
+
+    /**
+     * Schedules the expiry of a hold once the surrounding transaction commits
+     * (immediately when there is none).
+     * 
+     * @return false if the hold is already due and was not scheduled
+     */
+    public boolean scheduleAfterCommit(Long holdId, LocalDateTime expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return schedule(holdId, expiresAt);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(holdId, expiresAt);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Schedules the expiry of a hold.
+     * 
+     * @return false if the hold is already due and was not scheduled
+     */
+    public boolean schedule(Long holdId, LocalDateTime expiresAt) {
+        long epochMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // Rounded up, so a hold never expires before its time
+        return wheel.schedule(holdId, (epochMillis + tickMillis - 1) / tickMillis);
+    }
+
+    /**
+     * Schedules a hold again after the given number of ticks, e.g. to retry a failed expiry.
+     */
+    public void retryLater(Long holdId, int ticks) {
+        wheel.schedule(holdId, currentTick() + ticks);
+    }
+
+    /**
+     * Moves the wheel to the current time.
+     * 
+     * @return IDs of the holds that became due
+     */
+    public List<Long> advance() {
+        return wheel.advanceTo(currentTick());
+    }
+
+    /**
+     * Number of holds waiting to expire.
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    private long currentTick() {
+        return System.currentTimeMillis() / tickMillis;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.mikusmoneybackend.velocity.VelocitySeedRow;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for Hold entity operations.
+ */
+@Repository
+public interface HoldRepository extends JpaRepository<Hold, Long> {
+
+    /**
+     * Finds the holds of an account in the given status, most recent first.
+     */
+    List<Hold> findByAccountIdAndStatusOrderByIdDesc(Long accountId, HoldStatus status);
+
+    /**
+     * Counts the holds of an account in the given status.
+     */
+    long countByAccountIdAndStatus(Long accountId, HoldStatus status);
+
+    /**
+     * Loads a hold and locks its row for the rest of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM Hold h WHERE h.id = :id")
+    Optional<Hold> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Returns the next chunk of pending holds after the given ID (keyset pagination),
+     * used to rebuild the expiry wheel at startup.
+     */
+    @Query("SELECT new com.example.mikusmoneybackend.holds.PendingHold(h.id, h.expiresAt) FROM Hold h WHERE h.status = 'PENDING' AND h.id > :afterId ORDER BY h.id")
+    List<PendingHold> findPendingAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Returns IDs of pending holds already past their expiry.
+     * Served by the (status, expires_at) index.
+     */
+    @Query("SELECT h.id FROM Hold h WHERE h.status = 'PENDING' AND h.expiresAt <= :now ORDER BY h.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Lists a user's pending holds placed since the given instant, used to seed the
+     * velocity counters: a pending hold counts as a withdrawal from its placement.
+     * Captured holds count through their withdrawal; released and expired ones not at all.
+     * Served by the (account_id, status) index.
+     */
+    @Query("""
+        SELECT new com.example.mikusmoneybackend.velocity.VelocitySeedRow('WITHDRAW', h.amount, h.createdAt)
+        FROM Hold h
+        WHERE h.account.miku.id = :mikuId AND h.status = 'PENDING' AND h.createdAt >= :since
+        """)
+    List<VelocitySeedRow> findVelocitySeed(@Param("mikuId") Long mikuId, @Param("since") LocalDateTime since);
+}
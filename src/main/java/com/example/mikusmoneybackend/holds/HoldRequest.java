@@ -0,0 +1,31 @@
+package com.example.mikusmoneybackend.holds;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HoldRequest {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    @Digits(integer = 17, fraction = 2, message = "Invalid amount format")
+    private BigDecimal amount;
+
+    @Size(max = 100, message = "Description must be at most 100 characters")
+    private String description;
+
+    /**
+     * Minutes until the hold is released automatically, or null for the default.
+     */
+    @Min(value = 1, message = "Hold must last at least 1 minute")
+    private Integer ttlMinutes;
+
+    @NotBlank(message = "PIN code is required for holding money")
+    @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
+    private String pinCode;
+}
@@ -0,0 +1,23 @@
+package com.example.mikusmoneybackend.holds;
+
+import lombok.*;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HoldResponse {
+
+    private Long id;
+    private Money amount;
+    private String description;
+    private HoldStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime resolvedAt;
+    private LocalDateTime createdAt;
+    private Long withdrawId;
+}
@@ -0,0 +1,243 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.account.Account;
+import com.example.mikusmoneybackend.account.AccountRepository;
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.auth.AuthContextService.AuthContext;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.HoldProperties;
+import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.outbox.OutboxEventType;
+import com.example.mikusmoneybackend.outbox.OutboxService;
+import com.example.mikusmoneybackend.transactions.IdempotencyService;
+import com.example.mikusmoneybackend.transactions.TransactionsService;
+import com.example.mikusmoneybackend.velocity.VelocityLimitService;
+import com.example.mikusmoneybackend.velocity.VelocityOperation;
+import com.example.mikusmoneybackend.withdraw.WithdrawResponse;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for authorization holds: reserving part of the balance without moving it.
+ * 
+ * A pending hold reduces the account's available balance (ledger balance minus
+ * held money), which every withdrawal, transfer and savings deposit checks.
+ * It ends by being captured (booked as a withdrawal), released, or expiring;
+ * expiry is driven by {@link HoldExpiryWheel} rather than a polling query.
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+
+    private final HoldRepository holdRepository;
+    private final AccountRepository accountRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final AuthContextService authContextService;
+    private final TransactionsService transactionsService;
+    private final VelocityLimitService velocityLimitService;
+    private final OutboxService outboxService;
+    private final HoldExpiryWheel holdExpiryWheel;
+    private final HoldProperties properties;
+
+    // ==================== Place ====================
+
+    /**
+     * Places a hold on the authenticated user's account.
+     * Requires PIN validation, as it commits money.
+     * 
+     * @param request The amount, optional lifetime and PIN
+     * @return HoldResponse with the pending hold
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public HoldResponse place(HoldRequest request) {
+        // 1. Validate authentication and PIN
+        AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
+
+        // 2. Validate amount, limits and lifetime
+        Money amount = Money.of(request.getAmount());
+        transactionsService.validateMaxAmount(amount);
+        validatePendingHoldsLimit(context.account().getId());
+        Duration ttl = request.getTtlMinutes() != null
+                ? Duration.ofMinutes(request.getTtlMinutes())
+                : properties.getDefaultTtl();
+        if (ttl.compareTo(properties.getMaxTtl()) > 0) {
+            throw new IllegalArgumentException("Hold cannot last longer than " + properties.getMaxTtl().toDays() + " days");
+        }
+        velocityLimitService.reserve(context.miku().getId(), VelocityOperation.WITHDRAW, amount);
+
+        // 3. Reserve the money (validates available balance internally)
+        context.account().placeHold(amount);
+        accountRepository.save(context.account());
+        accountSnapshotCache.refreshAfterCommit(context.account());
+
+        // 4. Persist the hold and schedule its expiry
+        Hold hold = holdRepository.save(Hold.builder()
+                .account(context.account())
+                .amount(amount)
+                .description(request.getDescription())
+                .status(HoldStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+
+        outboxService.append(OutboxEventType.HOLD_PLACED, hold.getId(), context.miku().getId(), amount.toBigDecimal());
+        holdExpiryWheel.scheduleAfterCommit(hold.getId(), hold.getExpiresAt());
+
+        return mapToResponse(hold, null);
+    }
+
+    // ==================== Capture and Release ====================
+
+    /**
+     * Captures a pending hold, booking it as a withdrawal.
+     * Capturing less than the held amount releases the remainder.
+     * 
+     * @param holdId The hold ID
+     * @param request Optional partial amount and PIN
+     * @return HoldResponse with the captured hold and the booked withdrawal
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public HoldResponse capture(Long holdId, HoldCaptureRequest request) {
+        // 1. Validate authentication and PIN, then lock the hold
+        AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
+        Hold hold = findPendingHoldForUpdate(holdId, context.account());
+
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new IllegalStateException("Hold has expired");
+        }
+
+        // 2. Release what is not captured
+        Money captured = request.getAmount() != null ? Money.of(request.getAmount()) : hold.getAmount();
+        if (captured.isGreaterThan(hold.getAmount())) {
+            throw new IllegalArgumentException("Cannot capture more than the held amount of " + hold.getAmount());
+        }
+        Money remainder = hold.getAmount().minus(captured);
+        if (remainder.isPositive()) {
+            context.account().releaseHold(remainder);
+            velocityLimitService.releaseAfterCommit(context.miku().getId(), VelocityOperation.WITHDRAW,
+                    remainder, 0, hold.getCreatedAt());
+        }
+
+        // 3. Book the captured amount
+        WithdrawResponse withdraw = transactionsService.captureHold(
+                context.miku(), context.account(), captured, IdempotencyService.systemKey("hold-" + hold.getId()));
+
+        hold.setStatus(HoldStatus.CAPTURED);
+        hold.setResolvedAt(LocalDateTime.now());
+
+        return mapToResponse(hold, withdraw.getId());
+    }
+
+    /**
+     * Releases a pending hold of the authenticated user, returning the money to the available balance.
+     * 
+     * @param holdId The hold ID
+     * @return HoldResponse with the released hold
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public HoldResponse release(Long holdId) {
+        Account account = authContextService.getAuthenticatedAccount();
+        Hold hold = findPendingHoldForUpdate(holdId, account);
+
+        resolve(hold, HoldStatus.RELEASED);
+
+        return mapToResponse(hold, null);
+    }
+
+    /**
+     * Expires a hold if it is still pending and due. Safe to call more than once,
+     * from any instance: the hold row is locked and its status re-checked.
+     * 
+     * @param holdId The hold ID
+     * @return true if the hold was expired by this call
+     */
+    @Transactional
+    public boolean expire(Long holdId) {
+        Hold hold = holdRepository.findByIdForUpdate(holdId).orElse(null);
+        if (hold == null || !hold.isPending() || hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+
+        resolve(hold, HoldStatus.EXPIRED);
+        return true;
+    }
+
+    // ==================== Read ====================
+
+    /**
+     * Retrieves the pending holds of the authenticated user.
+     * 
+     * @return List of pending holds, most recent first
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.READS)
+    public List<HoldResponse> getPendingHolds() {
+        Account account = authContextService.getAuthenticatedAccount();
+
+        return holdRepository.findByAccountIdAndStatusOrderByIdDesc(account.getId(), HoldStatus.PENDING)
+                .stream()
+                .map(hold -> mapToResponse(hold, null))
+                .toList();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private Hold findPendingHoldForUpdate(Long holdId, Account account) {
+        Hold hold = holdRepository.findByIdForUpdate(holdId)
+                .filter(found -> found.getAccount().getId().equals(account.getId()))
+                .orElseThrow(() -> ResourceNotFoundException.byId("Hold", holdId));
+        if (!hold.isPending()) {
+            throw new IllegalStateException("Hold is no longer pending");
+        }
+        return hold;
+    }
+
+    /**
+     * Returns a hold's money to the available balance and its reservation to the
+     * velocity limits, and closes it.
+     */
+    private void resolve(Hold hold, HoldStatus status) {
+        Account account = hold.getAccount();
+        account.releaseHold(hold.getAmount());
+        accountRepository.save(account);
+        accountSnapshotCache.refreshAfterCommit(account);
+        velocityLimitService.releaseAfterCommit(account.getMiku().getId(), VelocityOperation.WITHDRAW,
+                hold.getAmount(), 1, hold.getCreatedAt());
+
+        hold.setStatus(status);
+        hold.setResolvedAt(LocalDateTime.now());
+        outboxService.append(OutboxEventType.HOLD_RELEASED, hold.getId(), account.getMiku().getId(), hold.getAmount().toBigDecimal());
+    }
+
+    private void validatePendingHoldsLimit(Long accountId) {
+        long pending = holdRepository.countByAccountIdAndStatus(accountId, HoldStatus.PENDING);
+        if (pending >= properties.getMaxPendingPerAccount()) {
+            throw new IllegalStateException("Maximum number of pending holds reached (" + properties.getMaxPendingPerAccount() + ")");
+        }
+    }
+
+    private HoldResponse mapToResponse(Hold hold, Long withdrawId) {
+        return HoldResponse.builder()
+                .id(hold.getId())
+                .amount(hold.getAmount())
+                .description(hold.getDescription())
+                .status(hold.getStatus())
+                .expiresAt(hold.getExpiresAt())
+                .resolvedAt(hold.getResolvedAt())
+                .createdAt(hold.getCreatedAt())
+                .withdrawId(withdrawId)
+                .build();
+    }
+}
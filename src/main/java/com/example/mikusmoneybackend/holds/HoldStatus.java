@@ -0,0 +1,11 @@
+package com.example.mikusmoneybackend.holds;
+
+/**
+ * Lifecycle of an authorization hold.
+ */
+public enum HoldStatus {
+    PENDING,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
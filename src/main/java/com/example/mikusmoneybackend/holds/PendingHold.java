@@ -0,0 +1,9 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.time.LocalDateTime;
+
+/**
+ * ID and expiry of a pending hold, as loaded into the expiry wheel.
+ */
+public record PendingHold(Long id, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,134 @@
+package com.example.mikusmoneybackend.holds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hierarchical timing wheel of IDs that are due at a given tick.
+ * 
+ * Four levels of 64 slots each cover 64, 64^2, 64^3 and 64^4 ticks ahead
+ * (with one-second ticks: about a minute, an hour, three days and six months).
+ * Scheduling drops the ID into one slot: O(1), whatever the number of pending
+ * entries. When time enters a slot of an upper level, that slot's entries are
+ * cascaded into the finer levels, so each entry moves at most three times
+ * before it expires.
+ */
+class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<List<Entry>> slots = new ArrayList<>(LEVELS * SLOTS);
+
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long startTick) {
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Number of ticks ahead the wheel can hold.
+     */
+    static long horizon() {
+        return 1L << (SLOT_BITS * LEVELS);
+    }
+
+    /**
+     * Schedules an ID.
+     * 
+     * @return false if the tick has already passed, so the caller should handle it right away
+     * @throws IllegalArgumentException if the tick is beyond the wheel's horizon
+     */
+    boolean schedule(long id, long dueTick) {
+        lock.lock();
+        try {
+            if (dueTick <= currentTick) {
+                return false;
+            }
+            place(new Entry(id, dueTick));
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the wheel forward to the given tick.
+     * 
+     * @return IDs that became due, in due order
+     */
+    List<Long> advanceTo(long tick) {
+        List<Long> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTick < tick) {
+                currentTick++;
+
+                // Entering a new slot of an upper level: spread its entries over the finer levels
+                for (int level = 1; level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+                    List<Entry> slot = slot(level, currentTick);
+                    List<Entry> cascaded = new ArrayList<>(slot);
+                    slot.clear();
+                    for (Entry entry : cascaded) {
+                        if (entry.dueTick() <= currentTick) {
+                            due.add(entry.id());
+                            size--;
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+
+                List<Entry> expiring = slot(0, currentTick);
+                for (Entry entry : expiring) {
+                    due.add(entry.id());
+                }
+                size -= expiring.size();
+                expiring.clear();
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of scheduled IDs.
+     */
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.dueTick() - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                slot(level, entry.dueTick()).add(entry);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Tick " + entry.dueTick() + " is beyond the timing wheel horizon");
+    }
+
+    private List<Entry> slot(int level, long tick) {
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        return slots.get(level * SLOTS + index);
+    }
+
+    private record Entry(long id, long dueTick) {
+    }
+}
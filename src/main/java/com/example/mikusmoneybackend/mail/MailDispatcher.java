@@ -0,0 +1,203 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.config.MailQueueProperties;
+import com.example.mikusmoneybackend.config.WorkerThreads;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background workers that drain the mail queue.
+ * 
+ * Each worker repeatedly:
+ * 1. claims a batch in a short transaction, leasing the rows so no other worker picks them up,
+ * 2. renders and sends the whole batch over a single SMTP connection, outside any transaction,
+ * 3. records the outcome per mail in a second short transaction.
+ * A crash between 2 and 3 lets the lease expire and the mails are sent again (at-least-once).
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final MailMessageRepository mailMessageRepository;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final MailQueueProperties mailQueueProperties;
+
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public MailDispatcher(MailMessageRepository mailMessageRepository,
+                          MailTemplateRenderer mailTemplateRenderer,
+                          JavaMailSender mailSender,
+                          TransactionTemplate transactionTemplate,
+                          MailQueueProperties mailQueueProperties,
+                          WorkerThreads workerThreads) {
+        this.mailMessageRepository = mailMessageRepository;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.mailQueueProperties = mailQueueProperties;
+        this.workers = workerThreads.newFixedPool("mail-", mailQueueProperties.getWorkers());
+    }
+
+    /**
+     * Starts every worker and waits until the queue has no due mail left.
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.poll-interval:2s}")
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<CompletableFuture<Void>> pending = new ArrayList<>();
+            for (int i = 0; i < mailQueueProperties.getWorkers(); i++) {
+                pending.add(CompletableFuture.runAsync(this::drain, workers));
+            }
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void drain() {
+        List<MailMessage> batch;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                complete(batch, send(batch));
+            }
+        } while (batch.size() == mailQueueProperties.getBatchSize());
+    }
+
+    /**
+     * Claims a batch and pushes its availability past the lease.
+     */
+    private List<MailMessage> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailMessage> batch = mailMessageRepository.claimBatch(now, mailQueueProperties.getBatchSize());
+            for (MailMessage message : batch) {
+                message.setAttempts(message.getAttempts() + 1);
+                message.setAvailableAt(now.plus(mailQueueProperties.getLease()));
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * Renders and sends a batch.
+     * 
+     * @return Error per failed mail ID; mails not in the map were sent
+     */
+    private Map<Long, Exception> send(List<MailMessage> batch) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> idsByMessage = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+
+        for (MailMessage mail : batch) {
+            try {
+                MimeMessage message = render(mail);
+                idsByMessage.put(message, mail.getId());
+                messages.add(message);
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(mail.getId(), e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            // One connection for the whole batch
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, error) -> failures.put(idsByMessage.get(message), error));
+        } catch (MailException e) {
+            idsByMessage.values().forEach(id -> failures.put(id, e));
+        }
+        return failures;
+    }
+
+    private MimeMessage render(MailMessage mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(mailQueueProperties.getFrom());
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mailTemplateRenderer.renderSubject(mail.getTemplate(), mail.getVariables()));
+        helper.setText(mailTemplateRenderer.renderBody(mail.getTemplate(), mail.getVariables()));
+        return message;
+    }
+
+    /**
+     * Marks sent mails and reschedules (or gives up on) failed ones.
+     */
+    private void complete(List<MailMessage> batch, Map<Long, Exception> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> sent = new ArrayList<>(batch.size());
+
+            for (MailMessage mail : batch) {
+                Exception error = failures.get(mail.getId());
+                if (error == null) {
+                    sent.add(mail.getId());
+                    continue;
+                }
+
+                mail.setLastError(truncate(String.valueOf(error.getMessage())));
+                if (mail.getAttempts() >= mailQueueProperties.getMaxAttempts()) {
+                    mail.setStatus(MailStatus.FAILED);
+                    log.error("Giving up on mail {} to {} after {} attempts: {}",
+                            mail.getId(), mail.getRecipient(), mail.getAttempts(), error.getMessage());
+                } else {
+                    mail.setAvailableAt(now.plus(retryBackoff(mail.getAttempts())));
+                    log.warn("Mail {} failed on attempt {}: {}", mail.getId(), mail.getAttempts(), error.getMessage());
+                }
+                mailMessageRepository.save(mail);
+            }
+
+            if (!sent.isEmpty()) {
+                mailMessageRepository.markSent(sent, now);
+            }
+        });
+    }
+
+    private Duration retryBackoff(int attempts) {
+        Duration backoff = mailQueueProperties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        Duration max = mailQueueProperties.getMaxRetryBackoff();
+        return backoff.compareTo(max) > 0 ? max : backoff;
+    }
+
+    private String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.mikusmoneybackend.mail;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Mail waiting in (or delivered through) the persistent mail queue.
+ * Only the template and its variables are stored; the message is rendered at send time.
+ */
+@Entity
+@Table(name = "mail_queue", indexes = {
+        @Index(name = "idx_mail_queue_status_available", columnList = "status, available_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_mail_queue_dedup_key", columnNames = "dedup_key")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private MailTemplate template;
+
+    @Convert(converter = MailVariablesConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private Map<String, String> variables;
+
+    // Optional key making enqueueing idempotent (e.g. one receipt per event and recipient)
+    @Column(name = "dedup_key", length = 100)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // Earliest time the mail may be claimed (send lease or retry backoff)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
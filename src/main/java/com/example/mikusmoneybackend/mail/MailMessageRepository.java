@@ -0,0 +1,42 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for MailMessage entity operations.
+ */
+@Repository
+public interface MailMessageRepository extends JpaRepository<MailMessage, Long> {
+
+    /**
+     * Checks if a mail with the given deduplication key was already queued.
+     */
+    boolean existsByDedupKey(String dedupKey);
+
+    /**
+     * Locks a batch of pending mails that are due, skipping rows claimed by other workers.
+     */
+    @Query(value = """
+        SELECT * FROM mail_queue
+        WHERE status = 'PENDING' AND available_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<MailMessage> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Marks the given mails as sent.
+     */
+    @Modifying
+    @Query("UPDATE MailMessage m SET m.status = 'SENT', m.sentAt = :now, m.lastError = NULL WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
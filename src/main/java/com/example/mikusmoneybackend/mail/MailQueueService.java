@@ -0,0 +1,62 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service that queues mails for asynchronous delivery.
+ * Queueing joins the caller's transaction, so a mail is only sent if the
+ * operation that triggered it commits, and the request thread never waits on SMTP.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailQueueService {
+
+    private final MailMessageRepository mailMessageRepository;
+
+    /**
+     * Queues a mail.
+     * 
+     * @param recipient Destination address
+     * @param template Template to render
+     * @param variables Template variables
+     */
+    @Transactional
+    public void enqueue(String recipient, MailTemplate template, Map<String, String> variables) {
+        enqueue(recipient, template, variables, null);
+    }
+
+    /**
+     * Queues a mail unless one with the same deduplication key was already queued.
+     * 
+     * @param recipient Destination address
+     * @param template Template to render
+     * @param variables Template variables
+     * @param dedupKey Idempotency key, or null to always queue
+     * @return true if the mail was queued
+     */
+    @Transactional
+    public boolean enqueue(String recipient, MailTemplate template, Map<String, String> variables, String dedupKey) {
+        if (dedupKey != null && mailMessageRepository.existsByDedupKey(dedupKey)) {
+            return false;
+        }
+
+        MailMessage message = MailMessage.builder()
+                .recipient(recipient)
+                .template(template)
+                .variables(variables)
+                .dedupKey(dedupKey)
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .availableAt(LocalDateTime.now())
+                .build();
+
+        mailMessageRepository.save(message);
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.mikusmoneybackend.mail;
+
+/**
+ * Delivery state of a queued mail.
+ */
+public enum MailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.example.mikusmoneybackend.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mail templates. Bodies live under {@code classpath:mail/} and use
+ * {@code {{variable}}} placeholders, in both the subject and the body.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplate {
+    PASSWORD_RESET("Reset your Miku's Money password", "mail/password-reset.txt"),
+    TRANSACTION_RECEIPT("Receipt for your {{operation}} #{{transactionId}}", "mail/transaction-receipt.txt");
+
+    private final String subject;
+    private final String bodyResource;
+}
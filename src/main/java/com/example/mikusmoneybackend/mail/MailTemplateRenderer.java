@@ -0,0 +1,90 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders mail templates.
+ * Each template is read and parsed once into literal and placeholder segments;
+ * rendering then only concatenates segments, without re-reading or re-scanning the text.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private final Map<String, CompiledTemplate> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Renders the subject of a template.
+     */
+    public String renderSubject(MailTemplate template, Map<String, String> variables) {
+        return cache.computeIfAbsent(template.name() + "#subject", key -> compile(template.getSubject()))
+                .render(variables);
+    }
+
+    /**
+     * Renders the body of a template.
+     */
+    public String renderBody(MailTemplate template, Map<String, String> variables) {
+        return cache.computeIfAbsent(template.name() + "#body", key -> compile(load(template.getBodyResource())))
+                .render(variables);
+    }
+
+    // ==================== Private Helpers ====================
+
+    private String load(String resource) {
+        try (InputStream in = new ClassPathResource(resource).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read mail template " + resource, e);
+        }
+    }
+
+    private CompiledTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+
+        while (true) {
+            int start = text.indexOf("{{", position);
+            int end = start < 0 ? -1 : text.indexOf("}}", start + 2);
+            if (end < 0) {
+                literals.add(text.substring(position));
+                break;
+            }
+            literals.add(text.substring(position, start));
+            variables.add(text.substring(start + 2, end).trim());
+            position = end + 2;
+        }
+
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), text.length());
+    }
+
+    /**
+     * Template split into literals interleaved with variables:
+     * literals[0] variables[0] literals[1] ... variables[n-1] literals[n].
+     */
+    private record CompiledTemplate(String[] literals, String[] variables, int sizeHint) {
+
+        String render(Map<String, String> values) {
+            StringBuilder out = new StringBuilder(sizeHint + 64);
+            for (int i = 0; i < variables.length; i++) {
+                out.append(literals[i]);
+                String value = values.get(variables[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing mail template variable: " + variables[i]);
+                }
+                out.append(value);
+            }
+            return out.append(literals[variables.length]).toString();
+        }
+    }
+}
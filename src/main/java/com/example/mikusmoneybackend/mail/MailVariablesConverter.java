@@ -0,0 +1,27 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.util.Map;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stores template variables as a JSON object in a text column.
+ */
+@Converter
+public class MailVariablesConverter implements AttributeConverter<Map<String, String>, String> {
+
+    private static final TypeReference<Map<String, String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, String> variables) {
+        return JsonMapper.shared().writeValueAsString(variables != null ? variables : Map.of());
+    }
+
+    @Override
+    public Map<String, String> convertToEntityAttribute(String json) {
+        return json == null || json.isBlank() ? Map.of() : JsonMapper.shared().readValue(json, TYPE);
+    }
+}
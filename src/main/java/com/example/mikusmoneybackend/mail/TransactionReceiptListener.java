@@ -0,0 +1,55 @@
+package com.example.mikusmoneybackend.mail;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.mikusmoneybackend.credentials.CredentialRepository;
+import com.example.mikusmoneybackend.outbox.OutboxEvent;
+import com.example.mikusmoneybackend.outbox.OutboxListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Queues a receipt mail for every committed deposit, withdrawal, and transfer.
+ * Transfers produce one receipt for each side. Receipts are deduplicated per
+ * event and recipient, so outbox redeliveries do not send them twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionReceiptListener implements OutboxListener {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final CredentialRepository credentialRepository;
+    private final MailQueueService mailQueueService;
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        switch (event.getType()) {
+            case DEPOSIT -> queueReceipt(event, event.getMikuId(), "deposit");
+            case WITHDRAW -> queueReceipt(event, event.getMikuId(), "withdrawal");
+            case TRANSFER -> {
+                queueReceipt(event, event.getMikuId(), "outgoing transfer");
+                queueReceipt(event, event.getCounterpartyId(), "incoming transfer");
+            }
+            default -> {
+                // Savings pig movements and holds have no receipt
+            }
+        }
+    }
+
+    private void queueReceipt(OutboxEvent event, Long mikuId, String operation) {
+        credentialRepository.findByMikuId(mikuId).ifPresent(credential -> mailQueueService.enqueue(
+                credential.getEmail(),
+                MailTemplate.TRANSACTION_RECEIPT,
+                Map.of(
+                        "name", credential.getMiku().getName(),
+                        "operation", operation,
+                        "amount", event.getAmount().toPlainString(),
+                        "transactionId", String.valueOf(event.getAggregateId()),
+                        "date", event.getCreatedAt().format(DATE_FORMAT)),
+                "receipt-" + event.getId() + "-" + mikuId));
+    }
+}
@@ -42,11 +42,13 @@ public class Miku {
     private LocalDateTime createdAt;
 
     // One-to-one relationship with Credential
-    @OneToOne(mappedBy = "miku", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Lazy thanks to bytecode enhancement (see pom.xml); loaded on first access, without the account
+    @OneToOne(mappedBy = "miku", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Credential credential;
 
     // One-to-one relationship with Account
-    @OneToOne(mappedBy = "miku", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Lazy thanks to bytecode enhancement (see pom.xml); loaded on first access, without the credential
+    @OneToOne(mappedBy = "miku", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Account account;
 
     // One-to-many relationship with SavingsPig
@@ -1,5 +1,7 @@
 package com.example.mikusmoneybackend.miku;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +18,12 @@ public interface MikuRepository extends JpaRepository<Miku, Long> {
      */
     Optional<Miku> findByPublicCode(String publicCode);
 
+    /**
+     * Finds the Mikus of all given public codes in one query.
+     * Used by batch transfers to resolve every receiver at once.
+     */
+    List<Miku> findByPublicCodeIn(Collection<String> publicCodes);
+
     /**
      * Checks if a Miku exists by public code.
      */
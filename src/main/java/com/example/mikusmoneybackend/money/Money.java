@@ -0,0 +1,127 @@
+package com.example.mikusmoneybackend.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Amount of money held as a {@code long} of minor units (cents).
+ * Arithmetic is exact and overflow-checked, and needs no allocation beyond the
+ * result itself, unlike {@link BigDecimal}. Persisted and serialized as a
+ * decimal with two fraction digits, so columns and JSON keep their format.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_MAJOR = 100;
+
+    // ==================== Factories ====================
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofMajor(long majorUnits) {
+        try {
+            return ofMinor(Math.multiplyExact(majorUnits, MINOR_PER_MAJOR));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    /**
+     * Converts a decimal amount. Amounts with more than two significant
+     * fraction digits are rejected rather than rounded.
+     * 
+     * @param amount The decimal amount
+     * @return The equivalent Money
+     * @throws IllegalArgumentException if the amount is null, too precise, or out of range
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount is required");
+        }
+        try {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            if (amount.stripTrailingZeros().scale() > SCALE) {
+                throw new IllegalArgumentException("Amount cannot have more than " + SCALE + " decimal places");
+            }
+            throw outOfRange();
+        }
+    }
+
+    // ==================== Arithmetic ====================
+
+    public Money plus(Money other) {
+        try {
+            return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    public Money minus(Money other) {
+        try {
+            return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    public Money negate() {
+        try {
+            return ofMinor(Math.negateExact(minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    // ==================== Comparisons ====================
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    // ==================== Conversions ====================
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static IllegalArgumentException outOfRange() {
+        return new IllegalArgumentException("Amount out of range");
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.mikusmoneybackend.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.config.OutboxProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background dispatcher that drains the outbox.
+ * 
+ * 1. A batch is claimed in a short transaction: the rows are locked (skipping rows
+ *    other dispatchers hold) and leased, i.e. hidden until the lease ends.
+ * 2. Each event is delivered and removed in its own transaction, so a failing
+ *    listener only rolls back its own event.
+ * 3. A failure is recorded in yet another transaction and the event is retried with
+ *    exponential backoff; after the maximum number of attempts it is marked FAILED.
+ * If the process dies mid-batch, the undelivered events are claimed again when
+ * their lease ends (at-least-once delivery).
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate perEventTransaction;
+    private final OutboxProperties outboxProperties;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Counter deadLettered;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxListener> listeners,
+                            TransactionTemplate transactionTemplate,
+                            OutboxProperties outboxProperties,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+        this.perEventTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.perEventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outboxProperties = outboxProperties;
+
+        Gauge.builder("outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest undelivered outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Time between an event being written and delivered")
+                .register(meterRegistry);
+        this.dispatched = meterRegistry.counter("outbox.events.dispatched");
+        this.failed = meterRegistry.counter("outbox.events.failed");
+        this.deadLettered = meterRegistry.counter("outbox.events.dead-lettered");
+        Gauge.builder("outbox.events.dead", outboxEventRepository,
+                        repository -> repository.countByStatus(OutboxEventStatus.FAILED))
+                .description("Events that exhausted their delivery attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drains deliverable events batch by batch until a partial batch is seen.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:500ms}")
+    public void dispatch() {
+        List<OutboxEvent> batch;
+        do {
+            batch = claimBatch();
+            for (OutboxEvent event : batch) {
+                dispatchOne(event);
+            }
+        } while (batch.size() == outboxProperties.getBatchSize());
+
+        updateLag();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Locks and leases one batch, then commits so the row locks are not held during delivery.
+     */
+    private List<OutboxEvent> claimBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> claimed = outboxEventRepository.claimBatch(now, outboxProperties.getBatchSize());
+            if (!claimed.isEmpty()) {
+                outboxEventRepository.lease(claimed.stream().map(OutboxEvent::getId).toList(),
+                        now.plus(outboxProperties.getLease()));
+            }
+            return claimed;
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    /**
+     * Delivers and removes one event in its own transaction; records the failure otherwise.
+     */
+    private void dispatchOne(OutboxEvent event) {
+        try {
+            perEventTransaction.executeWithoutResult(status -> {
+                for (OutboxListener listener : listeners) {
+                    listener.onEvent(event);
+                }
+                outboxEventRepository.deleteAllByIdInBatch(List.of(event.getId()));
+            });
+        } catch (RuntimeException e) {
+            // Also covers listeners that swallowed an error but marked the transaction rollback-only
+            recordFailure(event, e);
+            return;
+        }
+
+        dispatched.increment();
+        deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()).abs());
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException cause) {
+        int attempts = event.getAttempts() + 1;
+        boolean exhausted = attempts >= outboxProperties.getMaxAttempts();
+        failed.increment();
+
+        if (exhausted) {
+            deadLettered.increment();
+            log.error("Outbox event {} ({}) failed {} times, giving up: {}",
+                    event.getId(), event.getType(), attempts, cause.getMessage());
+        } else {
+            log.warn("Outbox event {} ({}) failed on attempt {}: {}",
+                    event.getId(), event.getType(), attempts, cause.getMessage());
+        }
+
+        try {
+            perEventTransaction.executeWithoutResult(status -> outboxEventRepository.recordFailure(
+                    event.getId(),
+                    attempts,
+                    LocalDateTime.now().plus(retryBackoff(attempts)),
+                    exhausted ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING));
+        } catch (RuntimeException e) {
+            // The lease still expires, so the event is retried anyway
+            log.warn("Could not record the failure of outbox event {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private Duration retryBackoff(int attempts) {
+        Duration backoff = outboxProperties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        Duration max = outboxProperties.getMaxRetryBackoff();
+        return backoff.compareTo(max) > 0 ? max : backoff;
+    }
+
+    private void updateLag() {
+        long lag = outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEventStatus.PENDING)
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        lagMillis.set(Math.max(lag, 0));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.mikusmoneybackend.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event written in the same transaction as the change it describes.
+ * Kept as typed columns (no serialized payload) so rows stay small and cheap to write.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_available", columnList = "available_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private OutboxEventType type;
+
+    // Transaction or savings pig the event is about
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "miku_id", nullable = false)
+    private Long mikuId;
+
+    // Receiver of a transfer
+    @Column(name = "counterparty_id")
+    private Long counterpartyId;
+
+    @Column(name = "amount", precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // The default fills the column for events written before it existed
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    @Column(name = "status", nullable = false, length = 16)
+    private OutboxEventStatus status;
+
+    // Earliest time the event may be (re)delivered
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Lifecycle callback - executed before persist
+    @PrePersist
+    protected void onCreate() {
+        if (this.status == null) {
+            this.status = OutboxEventStatus.PENDING;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mikusmoneybackend.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for OutboxEvent entity operations.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks a batch of deliverable events, oldest first.
+     * Rows locked by another dispatcher are skipped instead of waited on,
+     * so several instances can drain the outbox concurrently.
+     * 
+     * @param now Current time; events scheduled for a later retry are left out
+     * @param limit Maximum number of events to claim
+     * @return Claimed events, locked until the surrounding transaction ends
+     */
+    @Query(value = """
+        SELECT * FROM outbox_events
+        WHERE available_at <= :now AND status = 'PENDING'
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Hides claimed events from other dispatchers until the lease ends.
+     * 
+     * @param ids The claimed event IDs
+     * @param until End of the lease; an event still there afterwards is claimed again
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :until WHERE e.id IN :ids")
+    void lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    /**
+     * Records a failed delivery attempt.
+     * 
+     * @param id The event ID
+     * @param attempts Attempts made so far
+     * @param availableAt Time of the next attempt
+     * @param status PENDING to retry, FAILED to give up
+     */
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.attempts = :attempts, e.availableAt = :availableAt, e.status = :status
+        WHERE e.id = :id
+        """)
+    void recordFailure(@Param("id") Long id,
+                       @Param("attempts") int attempts,
+                       @Param("availableAt") LocalDateTime availableAt,
+                       @Param("status") OutboxEventStatus status);
+
+    /**
+     * Finds the oldest event with the given status, used to measure dispatch lag.
+     */
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEventStatus status);
+
+    /**
+     * Counts events with the given status.
+     */
+    long countByStatus(OutboxEventStatus status);
+}
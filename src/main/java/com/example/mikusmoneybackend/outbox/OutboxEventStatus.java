@@ -0,0 +1,11 @@
+package com.example.mikusmoneybackend.outbox;
+
+/**
+ * Delivery state of an outbox event. Delivered events are deleted, not marked.
+ */
+public enum OutboxEventStatus {
+    /** Waiting for (re)delivery. */
+    PENDING,
+    /** Gave up after the maximum number of attempts; kept for inspection and manual replay. */
+    FAILED
+}
@@ -0,0 +1,15 @@
+package com.example.mikusmoneybackend.outbox;
+
+/**
+ * Kinds of domain events published through the outbox.
+ */
+public enum OutboxEventType {
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER,
+    SAVINGS_PIG_CREATED,
+    SAVINGS_PIG_DEPOSIT,
+    SAVINGS_PIG_BROKEN,
+    HOLD_PLACED,
+    HOLD_RELEASED
+}
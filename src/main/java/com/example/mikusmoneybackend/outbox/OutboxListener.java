@@ -0,0 +1,16 @@
+package com.example.mikusmoneybackend.outbox;
+
+/**
+ * In-process consumer of outbox events.
+ * Delivery is at-least-once: an event may be seen again after a failure or a
+ * crash before its removal, so implementations must be idempotent.
+ */
+public interface OutboxListener {
+
+    /**
+     * Handles one event. Throwing schedules the event for a later retry.
+     * 
+     * @param event The delivered event
+     */
+    void onEvent(OutboxEvent event);
+}
@@ -0,0 +1,60 @@
+package com.example.mikusmoneybackend.outbox;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.config.UserChangeTracker;
+
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service that appends domain events to the outbox.
+ * Events are only written as part of the caller's transaction, so an event
+ * exists if and only if the change it describes was committed.
+ * Every event also marks the users involved as changed once it commits,
+ * which invalidates their conditional GET tags.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserChangeTracker userChangeTracker;
+
+    /**
+     * Appends an event without a counterparty.
+     */
+    @Transactional(TxType.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Long mikuId, BigDecimal amount) {
+        append(type, aggregateId, mikuId, null, amount);
+    }
+
+    /**
+     * Appends an event to the outbox.
+     * 
+     * @param type The event type
+     * @param aggregateId The transaction or savings pig ID
+     * @param mikuId The user who performed the operation
+     * @param counterpartyId The other user involved (transfers only)
+     * @param amount The amount moved, if any
+     */
+    @Transactional(TxType.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Long mikuId, Long counterpartyId, BigDecimal amount) {
+        OutboxEvent event = OutboxEvent.builder()
+                .type(type)
+                .aggregateId(aggregateId)
+                .mikuId(mikuId)
+                .counterpartyId(counterpartyId)
+                .amount(amount)
+                .attempts(0)
+                .availableAt(LocalDateTime.now())
+                .build();
+
+        outboxEventRepository.save(event);
+        userChangeTracker.markChangedAfterCommit(mikuId, counterpartyId);
+    }
+}
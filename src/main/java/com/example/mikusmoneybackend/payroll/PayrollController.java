@@ -0,0 +1,47 @@
+package com.example.mikusmoneybackend.payroll;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for payroll jobs (administrators only).
+ * Handles uploading bulk credit files and following their progress.
+ */
+@RestController
+@RequestMapping("/api/admin/payroll")
+@RequiredArgsConstructor
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    /**
+     * Uploads a payroll file and starts crediting it in the background.
+     * 
+     * @param file CSV file with one {@code receiverPublicCode,amount} per line
+     * @return The created job
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PayrollJobResponse> upload(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(payrollService.upload(file));
+    }
+
+    /**
+     * Retrieves the progress of a payroll job and its failed rows.
+     * 
+     * @param jobId The job ID
+     * @return The job status
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PayrollJobResponse> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(payrollService.getJob(jobId));
+    }
+}
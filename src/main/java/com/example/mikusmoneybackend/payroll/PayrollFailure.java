@@ -0,0 +1,14 @@
+package com.example.mikusmoneybackend.payroll;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollFailure {
+
+    private int lineNumber;
+    private String publicCode;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for PayrollJob entity operations.
+ */
+@Repository
+public interface PayrollJobRepository extends JpaRepository<PayrollJob, Long> {
+
+    /**
+     * Finds jobs in the given states, used to resume unfinished jobs at startup.
+     */
+    List<PayrollJob> findByStatusIn(Collection<PayrollJobStatus> statuses);
+}
@@ -0,0 +1,27 @@
+package com.example.mikusmoneybackend.payroll;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollJobResponse {
+
+    private Long id;
+    private String fileName;
+    private PayrollJobStatus status;
+    private int totalRows;
+    private long pendingRows;
+    private long creditedRows;
+    private long failedRows;
+    private BigDecimal creditedAmount;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<PayrollFailure> failures;
+}
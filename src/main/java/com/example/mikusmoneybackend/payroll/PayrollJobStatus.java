@@ -0,0 +1,11 @@
+package com.example.mikusmoneybackend.payroll;
+
+/**
+ * Lifecycle of a payroll job.
+ */
+public enum PayrollJobStatus {
+    STAGING,
+    PENDING,
+    RUNNING,
+    COMPLETED
+}
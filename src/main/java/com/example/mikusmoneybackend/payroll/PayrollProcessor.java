@@ -0,0 +1,253 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+import com.example.mikusmoneybackend.config.PayrollProperties;
+import com.example.mikusmoneybackend.config.UserChangeTracker;
+import com.example.mikusmoneybackend.config.WorkerThreads;
+import com.example.mikusmoneybackend.transactions.IdempotencyService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Credits the pending rows of payroll jobs.
+ *
+ * Rows are partitioned by account ID and each partition is drained by its own worker,
+ * so no two workers ever lock the same account. A worker takes a chunk of rows at a time
+ * and books the whole chunk with a handful of set-based statements in one transaction:
+ * 1. lock the chunk's accounts in ID order,
+ * 2. insert the deposit transactions (reserved idempotency key {@code $payroll-{rowId}}),
+ * 3. append the running balance snapshots and outbox events,
+ * 4. add the amounts to the accounts and mark the rows done.
+ * Every committed chunk is a checkpoint: a restarted job only sees the rows still pending.
+ * A chunk that fails is retried row by row so one bad row does not block the others.
+ */
+@Slf4j
+@Component
+public class PayrollProcessor {
+
+    private static final String CHUNK_ROWS = "FROM payroll_rows r WHERE r.id IN (:ids)";
+    private static final String ROW_KEY = "CONCAT('" + IdempotencyService.systemKey("payroll-") + "', r.id)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PayrollJobRepository payrollJobRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final UserChangeTracker userChangeTracker;
+    private final PayrollProperties properties;
+
+    private final ExecutorService jobs;
+    private final ExecutorService workers;
+
+    public PayrollProcessor(NamedParameterJdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            PayrollJobRepository payrollJobRepository,
+                            AccountSnapshotCache accountSnapshotCache,
+                            UserChangeTracker userChangeTracker,
+                            PayrollProperties properties,
+                            WorkerThreads workerThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.payrollJobRepository = payrollJobRepository;
+        this.accountSnapshotCache = accountSnapshotCache;
+        this.userChangeTracker = userChangeTracker;
+        this.properties = properties;
+        this.jobs = workerThreads.newFixedPool("payroll-job-", 1);
+        this.workers = workerThreads.newFixedPool("payroll-", properties.getPartitions());
+    }
+
+    /**
+     * Queues a job for processing. Jobs run one after another.
+     *
+     * @param jobId The ID of a pending or interrupted job
+     */
+    public void submit(Long jobId) {
+        jobs.execute(() -> {
+            try {
+                run(jobId);
+            } catch (RuntimeException e) {
+                log.error("Payroll job {} stopped, it resumes on next startup", jobId, e);
+            }
+        });
+    }
+
+    /**
+     * Resumes jobs interrupted by a shutdown. Their committed chunks are not credited again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        payrollJobRepository.findByStatusIn(List.of(PayrollJobStatus.PENDING, PayrollJobStatus.RUNNING))
+                .forEach(job -> {
+                    log.info("Resuming payroll job {}", job.getId());
+                    submit(job.getId());
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void run(Long jobId) {
+        // 1. Mark the job running and (re)partition its pending rows for the current worker count
+        transactionTemplate.executeWithoutResult(status -> {
+            payrollJobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(PayrollJobStatus.RUNNING);
+                if (job.getStartedAt() == null) {
+                    job.setStartedAt(LocalDateTime.now());
+                }
+            });
+            jdbcTemplate.update("""
+                UPDATE payroll_rows SET partition_no = MOD(account_id, :partitions)
+                WHERE job_id = :jobId AND status = 'PENDING'
+                """, new MapSqlParameterSource()
+                    .addValue("partitions", properties.getPartitions())
+                    .addValue("jobId", jobId));
+        });
+
+        // 2. Drain every partition in parallel
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int partition = 0; partition < properties.getPartitions(); partition++) {
+            int partitionNo = partition;
+            pending.add(CompletableFuture.runAsync(() -> drain(jobId, partitionNo), workers));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+
+        // 3. Complete the job
+        transactionTemplate.executeWithoutResult(status ->
+                payrollJobRepository.findById(jobId).ifPresent(job -> {
+                    job.setStatus(PayrollJobStatus.COMPLETED);
+                    job.setFinishedAt(LocalDateTime.now());
+                }));
+        log.info("Payroll job {} completed in {} ms", jobId, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void drain(Long jobId, int partitionNo) {
+        List<Long> chunk;
+        do {
+            chunk = nextChunk(jobId, partitionNo);
+            if (!chunk.isEmpty()) {
+                try {
+                    credit(chunk);
+                } catch (RuntimeException e) {
+                    log.warn("Payroll chunk of job {} failed, retrying row by row: {}", jobId, e.getMessage());
+                    chunk.forEach(this::creditOrFail);
+                }
+            }
+        } while (chunk.size() == properties.getChunkSize());
+    }
+
+    private List<Long> nextChunk(Long jobId, int partitionNo) {
+        return jdbcTemplate.queryForList("""
+            SELECT r.id FROM payroll_rows r
+            WHERE r.job_id = :jobId AND r.partition_no = :partitionNo AND r.status = 'PENDING'
+            ORDER BY r.id
+            LIMIT :limit
+            """, new MapSqlParameterSource()
+                .addValue("jobId", jobId)
+                .addValue("partitionNo", partitionNo)
+                .addValue("limit", properties.getChunkSize()), Long.class);
+    }
+
+    private void creditOrFail(Long rowId) {
+        try {
+            credit(List.of(rowId));
+        } catch (RuntimeException e) {
+            log.warn("Payroll row {} failed: {}", rowId, e.getMessage());
+            jdbcTemplate.update("UPDATE payroll_rows SET status = 'FAILED', error = :error WHERE id = :id",
+                    new MapSqlParameterSource()
+                            .addValue("id", rowId)
+                            .addValue("error", "Credit failed"));
+        }
+    }
+
+    /**
+     * Books a chunk of rows in one transaction and refreshes the affected users once it commits.
+     */
+    private void credit(List<Long> rowIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", rowIds)
+                .addValue("now", LocalDateTime.now());
+
+        List<Long> mikuIds = transactionTemplate.execute(status -> {
+            // 1. Lock the accounts in a stable order
+            List<Long> owners = jdbcTemplate.queryForList("""
+                SELECT a.miku_id FROM accounts a
+                WHERE a.id IN (SELECT r.account_id %s)
+                ORDER BY a.id
+                FOR UPDATE
+                """.formatted(CHUNK_ROWS), params, Long.class);
+
+            // 2. Deposit transactions
+            jdbcTemplate.update("""
+                INSERT INTO transactions (type, amount, idempotency_key, created_at)
+                SELECT 'DEPOSIT', r.amount, %s, :now %s
+                ORDER BY r.id
+                """.formatted(ROW_KEY, CHUNK_ROWS), params);
+            jdbcTemplate.update("""
+                INSERT INTO deposits (id, miku_id)
+                SELECT t.id, a.miku_id
+                FROM payroll_rows r
+                JOIN transactions t ON t.idempotency_key = %s
+                JOIN accounts a ON a.id = r.account_id
+                WHERE r.id IN (:ids)
+                """.formatted(ROW_KEY), params);
+
+            // 3. Running balances (read before the accounts are updated) and events
+            jdbcTemplate.update("""
+                INSERT INTO balance_snapshots (account_id, transaction_id, balance, created_at)
+                SELECT r.account_id, t.id,
+                       a.total_money + SUM(r.amount) OVER (PARTITION BY r.account_id ORDER BY r.id
+                                                           ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW),
+                       :now
+                FROM payroll_rows r
+                JOIN transactions t ON t.idempotency_key = %s
+                JOIN accounts a ON a.id = r.account_id
+                WHERE r.id IN (:ids)
+                ORDER BY r.id
+                """.formatted(ROW_KEY), params);
+            jdbcTemplate.update("""
+                INSERT INTO outbox_events (type, aggregate_id, miku_id, amount, attempts, status, available_at, created_at)
+                SELECT 'DEPOSIT', t.id, a.miku_id, r.amount, 0, 'PENDING', :now, :now
+                FROM payroll_rows r
+                JOIN transactions t ON t.idempotency_key = %s
+                JOIN accounts a ON a.id = r.account_id
+                WHERE r.id IN (:ids)
+                ORDER BY r.id
+                """.formatted(ROW_KEY), params);
+
+            // 4. Balances and checkpoint
+            jdbcTemplate.update("""
+                UPDATE accounts SET
+                    total_money = total_money + (SELECT SUM(r.amount) %s AND r.account_id = accounts.id),
+                    lock_version = lock_version + 1
+                WHERE id IN (SELECT r.account_id %s)
+                """.formatted(CHUNK_ROWS, CHUNK_ROWS), params);
+            jdbcTemplate.update("UPDATE payroll_rows SET status = 'DONE' WHERE id IN (:ids)", params);
+
+            return owners;
+        });
+
+        for (Long mikuId : mikuIds) {
+            accountSnapshotCache.evict(mikuId);
+        }
+        userChangeTracker.markChangedAfterCommit(mikuIds.toArray(Long[]::new));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.mikusmoneybackend.payroll;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import com.example.mikusmoneybackend.money.Money;
+
+/**
+ * One line of a payroll file. Rows are written and processed with plain JDBC
+ * by {@link PayrollStager} and {@link PayrollProcessor}; the entity defines the
+ * table and is used to read failures back.
+ * A row credits its account with the reserved idempotency key {@code $payroll-{id}}.
+ */
+@Entity
+@Table(name = "payroll_rows", indexes = {
+        @Index(name = "idx_payroll_rows_job_partition", columnList = "job_id, partition_no, status, id"),
+        @Index(name = "idx_payroll_rows_job_status", columnList = "job_id, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private int lineNumber;
+
+    @Column(name = "public_code", length = 20)
+    private String publicCode;
+
+    @Column(precision = 19, scale = 2)
+    private Money amount;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private PayrollRowStatus status;
+
+    @Column(length = 500)
+    private String error;
+}
@@ -0,0 +1,30 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for PayrollRow entity operations.
+ */
+@Repository
+public interface PayrollRowRepository extends JpaRepository<PayrollRow, Long> {
+
+    /**
+     * Counts a job's rows and sums their amounts per status.
+     */
+    @Query("""
+        SELECT new com.example.mikusmoneybackend.payroll.PayrollRowTotals(r.status, COUNT(r), SUM(r.amount))
+        FROM PayrollRow r WHERE r.jobId = :jobId GROUP BY r.status
+        """)
+    List<PayrollRowTotals> sumByStatus(@Param("jobId") Long jobId);
+
+    /**
+     * Finds a job's rows in the given status, in file order.
+     */
+    List<PayrollRow> findByJobIdAndStatusOrderByLineNumber(Long jobId, PayrollRowStatus status, Limit limit);
+}
@@ -0,0 +1,10 @@
+package com.example.mikusmoneybackend.payroll;
+
+/**
+ * Outcome of a single payroll row.
+ */
+public enum PayrollRowStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of rows and total amount of a payroll job in one status.
+ */
+public record PayrollRowTotals(PayrollRowStatus status, Long rows, BigDecimal amount) {
+}
@@ -0,0 +1,151 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.PayrollProperties;
+import com.example.mikusmoneybackend.config.exception.ForbiddenException;
+import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
+import com.example.mikusmoneybackend.credentials.Credential;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for payroll jobs: bulk credits uploaded by administrators.
+ * 
+ * An upload is staged in the request's transaction and processed in the background
+ * by {@link PayrollProcessor} once it commits; the job status reports progress and
+ * per-row failures while it runs. Administrators are the users whose email is listed
+ * in {@code payroll.admin-emails}.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayrollService {
+
+    private static final int MAX_FAILURES = 100;
+
+    private final PayrollJobRepository payrollJobRepository;
+    private final PayrollRowRepository payrollRowRepository;
+    private final PayrollStager payrollStager;
+    private final PayrollProcessor payrollProcessor;
+    private final AuthContextService authContextService;
+    private final PayrollProperties properties;
+
+    // ==================== Upload ====================
+
+    /**
+     * Creates a job from an uploaded payroll file and starts it once staged.
+     * 
+     * @param file CSV file with one {@code receiverPublicCode,amount} per line
+     * @return The pending job
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.JOBS)
+    public PayrollJobResponse upload(MultipartFile file) {
+        // 1. Validate administrator and file
+        Long adminId = validateAdmin();
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Payroll file is required");
+        }
+
+        // 2. Create the job and stage its rows
+        PayrollJob job = payrollJobRepository.save(PayrollJob.builder()
+                .createdBy(adminId)
+                .fileName(file.getOriginalFilename())
+                .status(PayrollJobStatus.STAGING)
+                .build());
+        try {
+            job.setTotalRows(payrollStager.stage(job.getId(), file.getInputStream()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Payroll file could not be read");
+        }
+        job.setStatus(PayrollJobStatus.PENDING);
+
+        // 3. Process once the staged rows are visible to the workers
+        Long jobId = job.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                payrollProcessor.submit(jobId);
+            }
+        });
+
+        return toResponse(job);
+    }
+
+    // ==================== Status ====================
+
+    /**
+     * Retrieves the progress of a job and its first failed rows.
+     * 
+     * @param jobId The job ID
+     * @return The job status
+     */
+    public PayrollJobResponse getJob(Long jobId) {
+        validateAdmin();
+        PayrollJob job = payrollJobRepository.findById(jobId)
+                .orElseThrow(() -> ResourceNotFoundException.byId("Payroll job", jobId));
+        return toResponse(job);
+    }
+
+    // ==================== Private Helpers ====================
+
+    private Long validateAdmin() {
+        Credential credential = authContextService.getAuthenticatedCredential();
+        boolean admin = properties.getAdminEmails().stream()
+                .anyMatch(email -> email.equalsIgnoreCase(credential.getEmail()));
+        if (!admin) {
+            throw ForbiddenException.adminOnly();
+        }
+        return authContextService.getAuthenticatedUserId();
+    }
+
+    private PayrollJobResponse toResponse(PayrollJob job) {
+        Map<PayrollRowStatus, PayrollRowTotals> totals = payrollRowRepository.sumByStatus(job.getId()).stream()
+                .collect(Collectors.toMap(PayrollRowTotals::status, Function.identity()));
+        PayrollRowTotals done = totals.get(PayrollRowStatus.DONE);
+
+        List<PayrollFailure> failures = payrollRowRepository
+                .findByJobIdAndStatusOrderByLineNumber(job.getId(), PayrollRowStatus.FAILED, Limit.of(MAX_FAILURES))
+                .stream()
+                .map(row -> PayrollFailure.builder()
+                        .lineNumber(row.getLineNumber())
+                        .publicCode(row.getPublicCode())
+                        .error(row.getError())
+                        .build())
+                .toList();
+
+        return PayrollJobResponse.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .pendingRows(rows(totals.get(PayrollRowStatus.PENDING)))
+                .creditedRows(rows(done))
+                .failedRows(rows(totals.get(PayrollRowStatus.FAILED)))
+                .creditedAmount(done != null && done.amount() != null ? done.amount() : BigDecimal.ZERO)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .failures(failures)
+                .build();
+    }
+
+    private long rows(PayrollRowTotals totals) {
+        return totals != null ? totals.rows() : 0;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.mikusmoneybackend.payroll;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.mikusmoneybackend.config.PayrollProperties;
+import com.example.mikusmoneybackend.money.Money;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads a payroll file into {@code payroll_rows}.
+ * 
+ * The file is CSV with one credit per line: {@code receiverPublicCode,amount}.
+ * A header line and blank lines are skipped. Lines are parsed while streaming and
+ * written as JDBC batches; receivers are then resolved with set-based updates.
+ * Malformed lines and unknown receivers are kept as failed rows, so they show up
+ * in the job status with their line number.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollStager {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_ROW = """
+        INSERT INTO payroll_rows (job_id, line_number, public_code, amount, status, error)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayrollProperties properties;
+
+    /**
+     * Stages every line of the file. Must run inside a transaction.
+     * 
+     * @return Number of rows staged
+     */
+    public int stage(Long jobId, InputStream file) throws IOException {
+        int rows = 0;
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && !Character.isDigit(line.strip().charAt(0)))) {
+                    continue;
+                }
+                if (++rows > properties.getMaxRows()) {
+                    throw new IllegalArgumentException("Payroll file has more than " + properties.getMaxRows() + " rows");
+                }
+
+                batch.add(parse(jobId, lineNumber, line));
+                if (batch.size() == INSERT_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_ROW, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROW, batch);
+        }
+
+        resolveAccounts(jobId);
+        return rows;
+    }
+
+    private Object[] parse(Long jobId, int lineNumber, String line) {
+        String[] fields = line.split(",", -1);
+        String publicCode = fields[0].strip();
+        if (fields.length != 2 || publicCode.isEmpty()) {
+            return failed(jobId, lineNumber, truncate(publicCode, 20), "Expected receiverPublicCode,amount");
+        }
+
+        try {
+            Money amount = Money.of(new BigDecimal(fields[1].strip()));
+            if (!amount.isPositive()) {
+                return failed(jobId, lineNumber, publicCode, "Amount must be greater than zero");
+            }
+            if (amount.isGreaterThan(Money.of(properties.getMaxAmount()))) {
+                return failed(jobId, lineNumber, publicCode, "Amount exceeds the maximum of " + properties.getMaxAmount());
+            }
+            return new Object[] {jobId, lineNumber, truncate(publicCode, 20), amount.toBigDecimal(), PayrollRowStatus.PENDING.name(), null};
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException included
+            return failed(jobId, lineNumber, truncate(publicCode, 20), "Invalid amount");
+        }
+    }
+
+    private Object[] failed(Long jobId, int lineNumber, String publicCode, String error) {
+        return new Object[] {jobId, lineNumber, publicCode, null, PayrollRowStatus.FAILED.name(), error};
+    }
+
+    /**
+     * Resolves receivers to accounts; rows without one fail.
+     */
+    private void resolveAccounts(Long jobId) {
+        jdbcTemplate.update("""
+            UPDATE payroll_rows SET account_id = (
+                SELECT a.id FROM accounts a JOIN mikus m ON m.id = a.miku_id
+                WHERE m.public_code = payroll_rows.public_code)
+            WHERE job_id = ? AND status = 'PENDING'
+            """, jobId);
+
+        jdbcTemplate.update("""
+            UPDATE payroll_rows SET status = 'FAILED', error = 'Receiver account not found'
+            WHERE job_id = ? AND status = 'PENDING' AND account_id IS NULL
+            """, jobId);
+    }
+
+    private String truncate(String value, int length) {
+        return value.length() > length ? value.substring(0, length) : value;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.mikusmoneybackend.quota;
+
+/**
+ * Outcome of a quota check, as reported in the RateLimit headers.
+ * When both the user and the IP bucket apply, this is the tighter of the two.
+ * 
+ * @param allowed Whether the request may proceed
+ * @param limit Bucket capacity
+ * @param remaining Requests left in the bucket
+ * @param resetSeconds Seconds until the bucket is full again
+ * @param retryAfterSeconds Seconds until the next request is allowed, when refused
+ */
+public record QuotaDecision(boolean allowed, int limit, int remaining, long resetSeconds, long retryAfterSeconds) {
+}
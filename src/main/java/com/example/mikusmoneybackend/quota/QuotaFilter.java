@@ -0,0 +1,195 @@
+package com.example.mikusmoneybackend.quota;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.example.mikusmoneybackend.auth.CookieService;
+import com.example.mikusmoneybackend.auth.JwtService;
+import com.example.mikusmoneybackend.batch.BatchEnvelope;
+import com.example.mikusmoneybackend.config.BatchProperties;
+import com.example.mikusmoneybackend.config.exception.ErrorResponse;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Enforces the API quotas in the security filter chain, ahead of {@link com.example.mikusmoneybackend.config.JwtAuthFilter}.
+ * 
+ * The user is taken from the access token's subject after checking its signature only,
+ * so no request reaches the database before its quota is checked. Limited responses carry
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset};
+ * refused ones are answered with 429 and {@code Retry-After}.
+ * A batch request takes one token per operation, from each operation's own group, so
+ * batching neither bypasses a group's quota nor charges reads to the money quota.
+ * Batch bodies above {@code batch.max-body-size} are refused with 413 before any token is taken.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotaFilter extends OncePerRequestFilter {
+
+    public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    private static final List<Rule> RULES = List.of(
+            // ==================== Money Movements ====================
+            new Rule(HttpMethod.POST, "/api/transactions/{operation:deposit|withdraw|transfer}", QuotaGroup.MONEY),
+            new Rule(HttpMethod.POST, "/api/transactions/transfer/batch", QuotaGroup.MONEY),
+            new Rule(HttpMethod.POST, "/api/savings-pigs/{id}/{operation:deposit|break}", QuotaGroup.MONEY),
+            new Rule(HttpMethod.POST, "/api/holds/**", QuotaGroup.MONEY),
+            new Rule(HttpMethod.POST, "/api/scheduled-transfers", QuotaGroup.MONEY),
+
+            // ==================== History ====================
+            new Rule(HttpMethod.GET, "/api/transactions/history/**", QuotaGroup.HISTORY),
+            new Rule(HttpMethod.GET, "/api/transactions/export", QuotaGroup.HISTORY),
+            new Rule(HttpMethod.GET, "/api/account/statements", QuotaGroup.HISTORY),
+
+            // ==================== Account ====================
+            new Rule(HttpMethod.GET, "/api/account/**", QuotaGroup.ACCOUNT),
+            new Rule(HttpMethod.GET, "/api/savings-pigs/**", QuotaGroup.ACCOUNT),
+            new Rule(HttpMethod.GET, "/api/auth/me", QuotaGroup.ACCOUNT),
+
+            // ==================== Auth ====================
+            new Rule(HttpMethod.POST,
+                    "/api/auth/{operation:login|register|refresh|forgot-password|reset-password}", QuotaGroup.AUTH));
+
+    private final QuotaService quotaService;
+    private final JwtService jwtService;
+    private final CookieService cookieService;
+    private final BatchProperties batchProperties;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain) throws ServletException, IOException {
+
+        Long userId = userIdOf(request);
+        QuotaDecision decision;
+        if (BatchEnvelope.isBatch(request)) {
+            BatchEnvelope batch = BatchEnvelope.read(request, jsonMapper, batchProperties.getMaxBodySize().toBytes());
+            if (batch.isTooLarge()) {
+                BatchEnvelope.rejectTooLarge(request, response, jsonMapper);
+                return;
+            }
+            request = batch.request();
+            decision = consume(batch.operations(), userId, request.getRemoteAddr());
+        } else {
+            decision = quotaService.consume(
+                    groupOf(HttpMethod.valueOf(request.getMethod()), PathContainer.parsePath(request.getRequestURI())),
+                    userId, request.getRemoteAddr());
+        }
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(RATE_LIMIT_RESET, String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            reject(request, response, decision);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Takes a token per batch operation and returns the most restrictive decision,
+     * or the first refusal. Tokens taken before a refusal are not given back.
+     */
+    private QuotaDecision consume(List<BatchEnvelope.Endpoint> operations, Long userId, String ip) {
+        if (operations.isEmpty()) {
+            return quotaService.consume(QuotaGroup.DEFAULT, userId, ip);
+        }
+        QuotaDecision tightest = null;
+        for (BatchEnvelope.Endpoint operation : operations) {
+            QuotaDecision decision = quotaService.consume(groupOf(operation.method(), operation.path()), userId, ip);
+            if (decision == null) {
+                continue;
+            }
+            if (!decision.allowed()) {
+                return decision;
+            }
+            if (tightest == null || decision.remaining() < tightest.remaining()) {
+                tightest = decision;
+            }
+        }
+        return tightest;
+    }
+
+    private QuotaGroup groupOf(HttpMethod method, PathContainer path) {
+        for (Rule rule : RULES) {
+            if (rule.method().equals(method) && rule.pattern().matches(path)) {
+                return rule.group();
+            }
+        }
+        return QuotaGroup.DEFAULT;
+    }
+
+    /**
+     * The subject of a correctly signed, unexpired access token; whether the user still
+     * exists is left to the authentication filter.
+     */
+    private Long userIdOf(HttpServletRequest request) {
+        String token = cookieService.getTokenFromCookies(request);
+        if (token == null) {
+            return null;
+        }
+        try {
+            return jwtService.getUserIdFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, QuotaDecision decision)
+            throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Too many requests, please retry later")
+                .errorCode("RATE_LIMITED")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, decision.retryAfterSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private record Rule(HttpMethod method, PathPattern pattern, QuotaGroup group) {
+
+        Rule(HttpMethod method, String pattern, QuotaGroup group) {
+            this(method, PathPatternParser.defaultInstance.parse(pattern), group);
+        }
+    }
+}
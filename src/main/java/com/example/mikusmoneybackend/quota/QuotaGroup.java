@@ -0,0 +1,22 @@
+package com.example.mikusmoneybackend.quota;
+
+/**
+ * Endpoint groups with their own request quotas (see {@link QuotaFilter} for the mapping).
+ */
+public enum QuotaGroup {
+
+    /** Deposits, withdrawals, transfers, savings pig movements and holds. */
+    MONEY,
+
+    /** Transaction history, exports and statements. */
+    HISTORY,
+
+    /** Account, savings pig and profile reads. */
+    ACCOUNT,
+
+    /** Login, registration, token refresh and password reset. */
+    AUTH,
+
+    /** Every other API endpoint. */
+    DEFAULT
+}
@@ -0,0 +1,110 @@
+package com.example.mikusmoneybackend.quota;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.config.QuotaProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-user and per-IP token-bucket quotas of the API.
+ * 
+ * Every endpoint group has two buckets per client: one keyed by the user ID from the
+ * access token, one keyed by the client IP. A request must get a token from both;
+ * anonymous requests only have the IP bucket. Buckets live in memory only, so the
+ * quotas apply per instance.
+ */
+@Service
+public class QuotaService {
+
+    private static final int SEGMENTS = 64;
+
+    private final QuotaProperties properties;
+    private final TokenBuckets buckets;
+    private final Map<QuotaGroup, Counter> userRejections = new EnumMap<>(QuotaGroup.class);
+    private final Map<QuotaGroup, Counter> ipRejections = new EnumMap<>(QuotaGroup.class);
+
+    public QuotaService(QuotaProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = new TokenBuckets(properties.getMaxBuckets(), SEGMENTS);
+        for (QuotaGroup group : QuotaGroup.values()) {
+            userRejections.put(group, rejectionCounter(meterRegistry, group, "user"));
+            ipRejections.put(group, rejectionCounter(meterRegistry, group, "ip"));
+        }
+        Gauge.builder("quota.buckets", buckets, TokenBuckets::size)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, QuotaGroup group, String scope) {
+        return Counter.builder("quota.rejections")
+                .tag("group", group.name().toLowerCase())
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the client's buckets of an endpoint group.
+     * 
+     * @param group The endpoint group
+     * @param mikuId The user ID from the access token, null when anonymous
+     * @param ip The client IP
+     * @return The decision, or null when the group has no quota
+     */
+    public QuotaDecision consume(QuotaGroup group, Long mikuId, String ip) {
+        QuotaProperties.Group limits = properties.getGroups().get(group);
+        if (!properties.isEnabled() || limits == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+
+        // 1. Per-IP bucket, so one address cannot rotate through accounts
+        QuotaDecision decision = null;
+        QuotaProperties.Bucket ipLimit = limits.getIp();
+        if (ipLimit.getCapacity() > 0) {
+            decision = decide(new Key(group, null, ip), ipLimit, now);
+            if (!decision.allowed()) {
+                ipRejections.get(group).increment();
+                return decision;
+            }
+        }
+
+        // 2. Per-user bucket
+        QuotaProperties.Bucket userLimit = limits.getUser();
+        if (mikuId != null && userLimit.getCapacity() > 0) {
+            QuotaDecision userDecision = decide(new Key(group, mikuId, null), userLimit, now);
+            if (!userDecision.allowed()) {
+                userRejections.get(group).increment();
+                return userDecision;
+            }
+            if (decision == null || userDecision.remaining() < decision.remaining()) {
+                decision = userDecision;
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * Drops the buckets of clients without recent requests.
+     */
+    @Scheduled(fixedDelayString = "${quotas.eviction-interval:1m}")
+    public void evictIdle() {
+        buckets.evictIdle(System.nanoTime() - properties.getIdleTimeout().toNanos());
+    }
+
+    // ==================== Private Helpers ====================
+
+    private QuotaDecision decide(Key key, QuotaProperties.Bucket limit, long now) {
+        TokenBuckets.Outcome outcome = buckets.tryConsume(key, limit.getCapacity(), limit.getRefillPerSecond(), now);
+        return new QuotaDecision(outcome.allowed(), limit.getCapacity(), outcome.remaining(),
+                outcome.resetSeconds(), outcome.retryAfterSeconds());
+    }
+
+    private record Key(QuotaGroup group, Long mikuId, String ip) {
+    }
+}
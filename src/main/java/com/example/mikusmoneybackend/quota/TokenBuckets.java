@@ -0,0 +1,142 @@
+package com.example.mikusmoneybackend.quota;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory map of token buckets.
+ * 
+ * Keys are spread over lock-striped segments so concurrent requests for different
+ * clients rarely contend. Each segment is an access-ordered map with a share of the
+ * total bound: when full, its least recently used bucket is dropped, and
+ * {@link #evictIdle} drops buckets from the cold end until it meets a recent one.
+ * A dropped bucket simply starts full again.
+ * Segments are guarded by a {@link ReentrantLock} rather than their monitor, so a
+ * virtual thread waiting for one does not pin its carrier thread.
+ */
+class TokenBuckets {
+
+    private final Segment[] segments;
+
+    TokenBuckets(int maxBuckets, int segmentCount) {
+        int perSegment = Math.max(1, maxBuckets / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * Takes one token from the key's bucket, creating it full if needed.
+     * 
+     * @param key The client and endpoint group
+     * @param capacity Bucket size
+     * @param refillPerSecond Tokens added per second
+     * @param now Current {@link System#nanoTime()}
+     * @return The outcome and the bucket's state after it
+     */
+    Outcome tryConsume(Object key, int capacity, double refillPerSecond, long now) {
+        Segment segment = segments[(key.hashCode() & Integer.MAX_VALUE) % segments.length];
+        segment.lock.lock();
+        try {
+            Bucket bucket = segment.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                segment.put(key, bucket);
+            }
+            return bucket.tryConsume(capacity, refillPerSecond, now);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the buckets not used since the cutoff.
+     * 
+     * @param cutoff A {@link System#nanoTime()} value
+     */
+    void evictIdle(long cutoff) {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                Iterator<Bucket> iterator = segment.values().iterator();
+                while (iterator.hasNext() && iterator.next().lastUsed - cutoff < 0) {
+                    iterator.remove();
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Result of a consume attempt.
+     * 
+     * @param allowed Whether a token was taken
+     * @param remaining Whole tokens left
+     * @param resetSeconds Seconds until the bucket is full again
+     * @param retryAfterSeconds Seconds until the next token, when refused
+     */
+    record Outcome(boolean allowed, int remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    // ==================== Private Helpers ====================
+
+    private static final class Segment extends LinkedHashMap<Object, Bucket> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Bucket> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * Guarded by its segment's lock.
+     */
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastUsed;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastUsed = now;
+        }
+
+        private Outcome tryConsume(int capacity, double refillPerSecond, long now) {
+            tokens = Math.min(capacity, tokens + (now - lastUsed) / 1e9 * refillPerSecond);
+            lastUsed = now;
+
+            boolean allowed = tokens >= 1;
+            if (allowed) {
+                tokens -= 1;
+            }
+            long reset = (long) Math.ceil((capacity - tokens) / refillPerSecond);
+            long retryAfter = allowed ? 0 : (long) Math.ceil((1 - tokens) / refillPerSecond);
+            return new Outcome(allowed, (int) tokens, reset, retryAfter);
+        }
+    }
+}
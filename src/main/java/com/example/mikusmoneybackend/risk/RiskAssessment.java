@@ -0,0 +1,9 @@
+package com.example.mikusmoneybackend.risk;
+
+import java.util.List;
+
+/**
+ * Risk score of one operation (0-100) and the signals that contributed to it.
+ */
+public record RiskAssessment(int score, List<String> signals) {
+}
@@ -0,0 +1,186 @@
+package com.example.mikusmoneybackend.risk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.example.mikusmoneybackend.config.RiskProperties;
+
+/**
+ * Incrementally maintained behaviour of one user, built from their committed
+ * withdrawals and transfers:
+ * - exponentially weighted mean and variance of the (log) amount
+ * - exponentially weighted mean of the time between operations
+ * - a fixed-size sketch of the most recent counterparties and when they were last paid
+ * 
+ * Every read and update touches a constant amount of state.
+ */
+class RiskFeatures {
+
+    private static final int COUNTERPARTY_SLOTS = 32;
+
+    private static final int UNUSUAL_AMOUNT_SCORE = 40;
+    private static final int EXTREME_AMOUNT_SCORE = 60;
+    private static final int NEW_COUNTERPARTY_SCORE = 25;
+    private static final int BURST_SCORE = 40;
+    private static final int FAST_SUCCESSION_SCORE = 15;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long observations;
+    private double amountMean;
+    private double amountVariance;
+    private double gapMeanMillis;
+    private long lastAt;
+
+    private final long[] counterparties = new long[COUNTERPARTY_SLOTS];
+    private final long[] counterpartyLastSeen = new long[COUNTERPARTY_SLOTS];
+    private int nextCounterpartySlot;
+
+    volatile long lastUsed;
+
+    /**
+     * Scores an operation against the user's features without changing them.
+     * 
+     * @param amountMinor Amount in minor units
+     * @param counterpartyId Receiver of a transfer, or null for a withdrawal
+     * @param now Current time in milliseconds
+     */
+    RiskAssessment assess(long amountMinor, Long counterpartyId, long now, RiskProperties properties) {
+        lock.lock();
+        try {
+            List<String> signals = new ArrayList<>(4);
+            int score = 0;
+            boolean warm = observations >= properties.getWarmUp();
+
+            // 1. Amount far above the user's norm
+            if (warm) {
+                double deviation = Math.sqrt(amountVariance);
+                double z = (Math.log(amountMinor) - amountMean) / Math.max(deviation, 0.25);
+                if (z >= 2 * properties.getAmountDeviations()) {
+                    score += EXTREME_AMOUNT_SCORE;
+                    signals.add("extreme-amount");
+                } else if (z >= properties.getAmountDeviations()) {
+                    score += UNUSUAL_AMOUNT_SCORE;
+                    signals.add("unusual-amount");
+                }
+            }
+
+            // 2. Operations in unusually fast succession
+            if (warm && lastAt > 0 && now - lastAt < gapMeanMillis / 10) {
+                score += FAST_SUCCESSION_SCORE;
+                signals.add("fast-succession");
+            }
+
+            if (counterpartyId != null) {
+                // 3. First payment to this counterparty (as far as the sketch remembers)
+                int index = indexOf(counterpartyId);
+                if (warm && index < 0) {
+                    score += NEW_COUNTERPARTY_SCORE;
+                    signals.add("new-counterparty");
+                }
+
+                // 4. Many distinct receivers in a short window, this one included
+                long since = now - properties.getBurstWindow().toMillis();
+                int recentReceivers = index >= 0 && counterpartyLastSeen[index] >= since ? 0 : 1;
+                for (int i = 0; i < COUNTERPARTY_SLOTS; i++) {
+                    if (counterpartyLastSeen[i] > 0 && counterpartyLastSeen[i] >= since) {
+                        recentReceivers++;
+                    }
+                }
+                if (recentReceivers >= properties.getBurstReceivers()) {
+                    score += BURST_SCORE;
+                    signals.add("receiver-burst");
+                }
+            }
+
+            return new RiskAssessment(Math.min(score, 100), signals);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Folds a committed operation into the features.
+     */
+    void record(long amountMinor, Long counterpartyId, long at, double smoothing) {
+        lock.lock();
+        try {
+            if (lastAt > 0) {
+                long gap = Math.max(at - lastAt, 0);
+                gapMeanMillis = observations <= 1 ? gap : gapMeanMillis + smoothing * (gap - gapMeanMillis);
+            }
+            lastAt = Math.max(lastAt, at);
+            recordAmountAndCounterparty(amountMinor, counterpartyId, at, smoothing);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Folds a further item of a batch into the features. The batch is one operation
+     * in time, so its items after the first leave the timing features alone.
+     */
+    void recordBatchItem(long amountMinor, Long counterpartyId, long at, double smoothing) {
+        lock.lock();
+        try {
+            recordAmountAndCounterparty(amountMinor, counterpartyId, at, smoothing);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A private copy of the features, to score the items of a batch one after the other
+     * without exposing the uncommitted items to other requests.
+     */
+    RiskFeatures copy() {
+        lock.lock();
+        try {
+            RiskFeatures copy = new RiskFeatures();
+            copy.observations = observations;
+            copy.amountMean = amountMean;
+            copy.amountVariance = amountVariance;
+            copy.gapMeanMillis = gapMeanMillis;
+            copy.lastAt = lastAt;
+            System.arraycopy(counterparties, 0, copy.counterparties, 0, COUNTERPARTY_SLOTS);
+            System.arraycopy(counterpartyLastSeen, 0, copy.counterpartyLastSeen, 0, COUNTERPARTY_SLOTS);
+            copy.nextCounterpartySlot = nextCounterpartySlot;
+            return copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordAmountAndCounterparty(long amountMinor, Long counterpartyId, long at, double smoothing) {
+        double x = Math.log(amountMinor);
+        if (observations == 0) {
+            amountMean = x;
+        } else {
+            // West's incremental form of the exponentially weighted variance
+            double diff = x - amountMean;
+            amountMean += smoothing * diff;
+            amountVariance = (1 - smoothing) * (amountVariance + smoothing * diff * diff);
+        }
+        observations++;
+
+        if (counterpartyId != null) {
+            int index = indexOf(counterpartyId);
+            if (index < 0) {
+                index = nextCounterpartySlot;
+                nextCounterpartySlot = (nextCounterpartySlot + 1) % COUNTERPARTY_SLOTS;
+                counterparties[index] = counterpartyId;
+            }
+            counterpartyLastSeen[index] = at;
+        }
+    }
+
+    private int indexOf(long counterpartyId) {
+        for (int i = 0; i < COUNTERPARTY_SLOTS; i++) {
+            if (counterpartyLastSeen[i] > 0 && counterparties[i] == counterpartyId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.mikusmoneybackend.risk;
+
+import com.example.mikusmoneybackend.money.Money;
+
+/**
+ * One money movement to score: a transfer to a counterparty, or a withdrawal (no counterparty).
+ */
+public record RiskOperation(Long counterpartyId, Money amount) {
+}
@@ -0,0 +1,230 @@
+package com.example.mikusmoneybackend.risk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.config.RiskProperties;
+import com.example.mikusmoneybackend.config.exception.RiskException;
+import com.example.mikusmoneybackend.money.Money;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-line risk scoring of withdrawals and transfers.
+ * 
+ * Operations are scored against per-user features held in memory ({@link RiskFeatures}),
+ * so scoring adds no database query. Features are only updated once an operation
+ * commits, so rejected or rolled back attempts do not shape the user's norm.
+ * 
+ * Decisions:
+ * - below the step-up score: allowed
+ * - from the step-up score: allowed only if the request carries the user's password
+ * - from the block score: rejected
+ * 
+ * The items of a batch are scored in order, each against the features as they would be
+ * after the items before it, and the batch is judged by its riskiest item. Transfers run
+ * on the user's behalf (standing orders) are scored too; as nobody can step up, they are
+ * only stopped at the block score, the order itself having been authorized with the PIN.
+ * 
+ * Features start empty for new users and after a restart; until a user has
+ * enough operations, only the receiver-burst signal applies.
+ */
+@Slf4j
+@Service
+public class RiskScoringService {
+
+    private final RiskProperties properties;
+    private final AuthContextService authContextService;
+
+    private final Map<Long, RiskFeatures> features = new ConcurrentHashMap<>();
+
+    private final Timer scoringTimer;
+    private final Counter allowed;
+    private final Counter steppedUp;
+    private final Counter blocked;
+
+    public RiskScoringService(RiskProperties properties, AuthContextService authContextService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.authContextService = authContextService;
+        this.scoringTimer = Timer.builder("risk.scoring")
+                .description("Time spent scoring an operation")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.allowed = decisionCounter(meterRegistry, "allowed");
+        this.steppedUp = decisionCounter(meterRegistry, "step-up");
+        this.blocked = decisionCounter(meterRegistry, "blocked");
+        meterRegistry.gauge("risk.profiles", features, Map::size);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("risk.decisions")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    // ==================== Scoring ====================
+
+    /**
+     * Scores an operation of the authenticated user and enforces the decision.
+     * Must be called inside the transaction that performs the operation.
+     * 
+     * @param mikuId The user ID
+     * @param counterpartyId Receiver of a transfer, or null for a withdrawal
+     * @param amount The operation amount
+     * @param stepUpPassword Password sent along with the request, or null
+     * @throws RiskException if the operation is blocked or needs a step-up
+     * @throws com.example.mikusmoneybackend.config.exception.AuthenticationException if the step-up password is wrong
+     */
+    public void check(Long mikuId, Long counterpartyId, Money amount, String stepUpPassword) {
+        check(mikuId, List.of(new RiskOperation(counterpartyId, amount)), stepUpPassword);
+    }
+
+    /**
+     * Scores the operations of a batch of the authenticated user as a whole and enforces
+     * the decision. Must be called inside the transaction that performs them.
+     * 
+     * @param mikuId The user ID
+     * @param operations The operations, in the order they are performed
+     * @param stepUpPassword Password sent along with the request, or null
+     * @throws RiskException if the batch is blocked or needs a step-up
+     * @throws com.example.mikusmoneybackend.config.exception.AuthenticationException if the step-up password is wrong
+     */
+    public void check(Long mikuId, List<RiskOperation> operations, String stepUpPassword) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        RiskFeatures userFeatures = featuresOf(mikuId, now);
+        RiskAssessment assessment = assess(userFeatures, operations, now);
+
+        enforceBlock(mikuId, assessment);
+        if (assessment.score() >= properties.getStepUpScore()) {
+            if (stepUpPassword == null || stepUpPassword.isBlank()) {
+                steppedUp.increment();
+                log.info("Step-up required for user {} (score {}, signals {})", mikuId, assessment.score(), assessment.signals());
+                throw RiskException.stepUpRequired();
+            }
+            authContextService.validatePassword(stepUpPassword);
+        }
+        allowed.increment();
+
+        learnAfterCommit(userFeatures, operations, now);
+    }
+
+    /**
+     * Scores a transfer made on a user's behalf without a request (a standing order run)
+     * and rejects it only if it reaches the block score.
+     * Must be called inside the transaction that performs the transfer.
+     * 
+     * @param mikuId The paying user's ID
+     * @param counterpartyId Receiver of the transfer
+     * @param amount The transfer amount
+     * @throws RiskException if the transfer is blocked
+     */
+    public void checkUnattended(Long mikuId, Long counterpartyId, Money amount) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<RiskOperation> operations = List.of(new RiskOperation(counterpartyId, amount));
+        RiskFeatures userFeatures = featuresOf(mikuId, now);
+
+        enforceBlock(mikuId, assess(userFeatures, operations, now));
+        allowed.increment();
+
+        learnAfterCommit(userFeatures, operations, now);
+    }
+
+    // ==================== Eviction ====================
+
+    /**
+     * Drops the features of users without recent activity.
+     */
+    @Scheduled(fixedDelayString = "${risk.eviction-interval:1h}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - properties.getIdleTimeout().toMillis();
+        features.values().removeIf(user -> user.lastUsed < cutoff);
+    }
+
+    // ==================== Private Helpers ====================
+
+    private RiskFeatures featuresOf(Long mikuId, long now) {
+        RiskFeatures userFeatures = features.computeIfAbsent(mikuId, id -> new RiskFeatures());
+        userFeatures.lastUsed = now;
+        return userFeatures;
+    }
+
+    /**
+     * Scores the operations in order against the in-memory features, each one seeing the
+     * effect of those before it, and returns the riskiest assessment.
+     */
+    private RiskAssessment assess(RiskFeatures userFeatures, List<RiskOperation> operations, long now) {
+        long start = System.nanoTime();
+        RiskFeatures working = operations.size() > 1 ? userFeatures.copy() : userFeatures;
+        RiskAssessment riskiest = null;
+        for (int i = 0; i < operations.size(); i++) {
+            RiskOperation operation = operations.get(i);
+            long minor = operation.amount().minorUnits();
+            RiskAssessment assessment = working.assess(minor, operation.counterpartyId(), now, properties);
+            if (riskiest == null || assessment.score() > riskiest.score()) {
+                riskiest = assessment;
+            }
+            if (i < operations.size() - 1) {
+                fold(working, i, minor, operation.counterpartyId(), now);
+            }
+        }
+        scoringTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return riskiest;
+    }
+
+    private void enforceBlock(Long mikuId, RiskAssessment assessment) {
+        if (assessment.score() >= properties.getBlockScore()) {
+            blocked.increment();
+            log.warn("Blocked operation of user {} (score {}, signals {})", mikuId, assessment.score(), assessment.signals());
+            throw RiskException.blocked();
+        }
+    }
+
+    /**
+     * Folds the operations into the user's features once the transaction commits.
+     */
+    private void learnAfterCommit(RiskFeatures userFeatures, List<RiskOperation> operations, long now) {
+        Runnable learn = () -> {
+            for (int i = 0; i < operations.size(); i++) {
+                RiskOperation operation = operations.get(i);
+                fold(userFeatures, i, operation.amount().minorUnits(), operation.counterpartyId(), now);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            learn.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                learn.run();
+            }
+        });
+    }
+
+    private void fold(RiskFeatures target, int index, long minor, Long counterpartyId, long now) {
+        if (index == 0) {
+            target.record(minor, counterpartyId, now, properties.getSmoothing());
+        } else {
+            target.recordBatchItem(minor, counterpartyId, now, properties.getSmoothing());
+        }
+    }
+}
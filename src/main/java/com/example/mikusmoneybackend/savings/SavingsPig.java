@@ -5,8 +5,8 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.money.Money;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -23,10 +23,10 @@ public class SavingsPig {
     private Long id;
 
     @Column(name = "saved_money", nullable = false, precision = 19, scale = 2)
-    private BigDecimal savedMoney;
+    private Money savedMoney;
 
     @Column(name = "goal", nullable = false, precision = 19, scale = 2)
-    private BigDecimal goal;
+    private Money goal;
 
     @Column(name = "goal_name", nullable = false, length = 100)
     private String goalName;
@@ -42,7 +42,7 @@ public class SavingsPig {
     private LocalDateTime createdAt;
 
     // One-to-one relationship with Miku
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "miku_id", nullable = false)
     private Miku miku;
 
@@ -50,7 +50,7 @@ public class SavingsPig {
     @PrePersist
     protected void onCreate() {
         if (this.savedMoney == null) {
-            this.savedMoney = BigDecimal.ZERO;
+            this.savedMoney = Money.ZERO;
         }
         if (this.broken == null) {
             this.broken = false;
@@ -58,18 +58,18 @@ public class SavingsPig {
     }
 
     // Helper methods
-    public void addMoney(BigDecimal amount) {
+    public void addMoney(Money amount) {
         validateNotBroken();
         validateAmount(amount);
-        this.savedMoney = this.savedMoney.add(amount);
+        this.savedMoney = this.savedMoney.plus(amount);
     }
 
-    public BigDecimal breakPig() {
+    public Money breakPig() {
         validateNotBroken();
         this.broken = true;
         this.brokenAt = LocalDateTime.now();
-        BigDecimal savedAmount = this.savedMoney;
-        this.savedMoney = BigDecimal.ZERO;
+        Money savedAmount = this.savedMoney;
+        this.savedMoney = Money.ZERO;
         return savedAmount;
     }
 
@@ -77,8 +77,8 @@ public class SavingsPig {
         return !this.broken;
     }
 
-    public boolean hasEnoughSavings(BigDecimal amount) {
-        return this.savedMoney.compareTo(amount) >= 0;
+    public boolean hasEnoughSavings(Money amount) {
+        return !this.savedMoney.isLessThan(amount);
     }
 
     private void validateNotBroken() {
@@ -87,8 +87,8 @@ public class SavingsPig {
         }
     }
 
-    private void validateAmount(BigDecimal amount) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    private void validateAmount(Money amount) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Amount must be greater than zero");
         }
     }
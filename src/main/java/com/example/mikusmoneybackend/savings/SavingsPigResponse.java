@@ -1,7 +1,8 @@
 package com.example.mikusmoneybackend.savings;
 import lombok.*;
 
-import java.math.BigDecimal;
+import com.example.mikusmoneybackend.money.Money;
+
 import java.time.LocalDateTime;
 
 @Data
@@ -11,11 +12,11 @@ import java.time.LocalDateTime;
 public class SavingsPigResponse {
 
     private Long id;
-    private BigDecimal savedMoney;
+    private Money savedMoney;
     private Boolean broken;
     private LocalDateTime brokenAt;
     private LocalDateTime createdAt;
     private Long mikuId;
-    private BigDecimal goal;
+    private Money goal;
     private String goalName;
 }
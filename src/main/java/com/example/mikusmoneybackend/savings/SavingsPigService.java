@@ -1,15 +1,23 @@
 package com.example.mikusmoneybackend.savings;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 
 import com.example.mikusmoneybackend.account.AccountRepository;
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+import com.example.mikusmoneybackend.account.BalanceSnapshotService;
 import com.example.mikusmoneybackend.auth.AuthContextService;
 import com.example.mikusmoneybackend.auth.AuthContextService.AuthContext;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.ReadOnlyTransaction;
+import com.example.mikusmoneybackend.config.SingleFlight;
 import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
 import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.outbox.OutboxEventType;
+import com.example.mikusmoneybackend.outbox.OutboxService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +33,13 @@ public class SavingsPigService {
     private final SavingsPigRepository savingsPigRepository;
     private final AccountRepository accountRepository;
     private final AuthContextService authContextService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final OutboxService outboxService;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final SingleFlight singleFlight;
 
     private static final int MAX_ACTIVE_PIGS = 10;
-    private static final BigDecimal MIN_GOAL_AMOUNT = new BigDecimal("1.00");
+    private static final Money MIN_GOAL_AMOUNT = Money.ofMajor(1);
 
     // ==================== Create Savings Pig ====================
 
@@ -39,26 +51,29 @@ public class SavingsPigService {
      * @return SavingsPigResponse with the created pig details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public SavingsPigResponse createSavingsPig(SavingsPigCreationRequest request) {
         // 1. Get authenticated user (no PIN required for creation)
         Miku miku = authContextService.getAuthenticatedMiku();
 
         // 2. Validate goal amount
-        validateGoalAmount(request.getGoal());
+        Money goal = Money.of(request.getGoal());
+        validateGoalAmount(goal);
 
         // 3. Validate user doesn't exceed max active pigs
         validateActivePigsLimit(miku.getId());
 
         // 4. Create and save savings pig
         SavingsPig savingsPig = SavingsPig.builder()
-                .goal(request.getGoal())
+                .goal(goal)
                 .goalName(request.getNameGoal())
-                .savedMoney(BigDecimal.ZERO)
+                .savedMoney(Money.ZERO)
                 .broken(false)
                 .miku(miku)
                 .build();
         
         SavingsPig savedPig = savingsPigRepository.save(savingsPig);
+        outboxService.append(OutboxEventType.SAVINGS_PIG_CREATED, savedPig.getId(), miku.getId(), savedPig.getGoal().toBigDecimal());
         
         return mapToResponse(savedPig);
     }
@@ -74,6 +89,7 @@ public class SavingsPigService {
      * @return SavingsPigResponse with the broken pig details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public SavingsPigResponse breakSavingsPig(Long pigId, SavingsPigBreakRequest request) {
         // 1. Validate authentication and PIN
         AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
@@ -85,16 +101,19 @@ public class SavingsPigService {
         validatePigNotBroken(savingsPig);
 
         // 4. Break pig and get saved amount
-        BigDecimal savedAmount = savingsPig.breakPig();
+        Money savedAmount = savingsPig.breakPig();
 
         // 5. Transfer savings back to account (if any)
-        if (savedAmount.compareTo(BigDecimal.ZERO) > 0) {
+        if (savedAmount.isPositive()) {
             context.account().deposit(savedAmount);
             accountRepository.save(context.account());
+            accountSnapshotCache.refreshAfterCommit(context.account());
+            balanceSnapshotService.record(context.account(), null);
         }
         
         // 6. Save the broken pig
         SavingsPig brokenPig = savingsPigRepository.save(savingsPig);
+        outboxService.append(OutboxEventType.SAVINGS_PIG_BROKEN, brokenPig.getId(), context.miku().getId(), savedAmount.toBigDecimal());
 
         return mapToResponse(brokenPig);
     }
@@ -110,6 +129,7 @@ public class SavingsPigService {
      * @return SavingsPigResponse with updated pig details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public SavingsPigResponse depositToSavingsPig(Long pigId, SavingsPigDepositRequest request) {
         // 1. Validate authentication and PIN
         AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
@@ -121,7 +141,7 @@ public class SavingsPigService {
         validatePigNotBroken(savingsPig);
 
         // 4. Validate sufficient account balance
-        BigDecimal amount = request.getAmount();
+        Money amount = Money.of(request.getAmount());
         if (!context.account().hasEnoughBalance(amount)) {
             throw new IllegalStateException("Insufficient account balance");
         }
@@ -129,10 +149,13 @@ public class SavingsPigService {
         // 5. Withdraw from account
         context.account().withdraw(amount);
         accountRepository.save(context.account());
+        accountSnapshotCache.refreshAfterCommit(context.account());
+        balanceSnapshotService.record(context.account(), null);
 
         // 6. Add to savings pig
         savingsPig.addMoney(amount);
         SavingsPig savedPig = savingsPigRepository.save(savingsPig);
+        outboxService.append(OutboxEventType.SAVINGS_PIG_DEPOSIT, savedPig.getId(), context.miku().getId(), amount.toBigDecimal());
 
         return mapToResponse(savedPig);
     }
@@ -142,17 +165,19 @@ public class SavingsPigService {
     /**
      * Retrieves all savings pigs for the authenticated user.
      * No PIN required for read-only operation.
+     * Concurrent calls for the same user share one query.
      * 
      * @return List of all user's savings pigs
      */
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
     public List<SavingsPigResponse> getSavingsPigs() {
         Miku miku = authContextService.getAuthenticatedMiku();
-        
-        List<SavingsPig> pigsList = savingsPigRepository.findByMikuId(miku.getId());
 
-        return pigsList.stream()
+        return singleFlight.executeForUser("savings-pigs", miku.getId(), () -> savingsPigRepository.findByMikuId(miku.getId())
+                .stream()
                 .map(this::mapToResponse)
-                .toList();
+                .toList());
     }
 
     /**
@@ -160,6 +185,8 @@ public class SavingsPigService {
      * 
      * @return List of active savings pigs
      */
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
     public List<SavingsPigResponse> getActiveSavingsPigs() {
         Miku miku = authContextService.getAuthenticatedMiku();
         
@@ -183,8 +210,8 @@ public class SavingsPigService {
         }
     }
 
-    private void validateGoalAmount(BigDecimal goal) {
-        if (goal.compareTo(MIN_GOAL_AMOUNT) < 0) {
+    private void validateGoalAmount(Money goal) {
+        if (goal.isLessThan(MIN_GOAL_AMOUNT)) {
             throw new IllegalArgumentException("Goal amount must be at least " + MIN_GOAL_AMOUNT);
         }
     }
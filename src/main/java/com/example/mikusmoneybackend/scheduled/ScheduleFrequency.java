@@ -0,0 +1,26 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import java.time.LocalDate;
+
+/**
+ * How often a standing order repeats.
+ */
+public enum ScheduleFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Date of the n-th run (0-based) of a schedule starting on the given date.
+     * Computed from the first date rather than the previous run, so a monthly
+     * order starting on the 31st falls back to shorter months' last day and
+     * returns to the 31st afterwards.
+     */
+    public LocalDate runDate(LocalDate firstRunDate, int runIndex) {
+        return switch (this) {
+            case DAILY -> firstRunDate.plusDays(runIndex);
+            case WEEKLY -> firstRunDate.plusWeeks(runIndex);
+            case MONTHLY -> firstRunDate.plusMonths(runIndex);
+        };
+    }
+}
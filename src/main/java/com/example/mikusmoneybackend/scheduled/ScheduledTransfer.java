@@ -0,0 +1,90 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.transactions.IdempotencyService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Standing order: a transfer repeated on a fixed schedule.
+ * Each run is executed with the reserved idempotency key {@code $sched-{id}-{runIndex}},
+ * so a run can never be booked twice, nor blocked by a client using the same key.
+ */
+@Entity
+@Table(name = "scheduled_transfers", indexes = {
+        @Index(name = "idx_scheduled_transfers_due", columnList = "status, next_run_at"),
+        @Index(name = "idx_scheduled_transfers_sender", columnList = "sender_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "sender_id", nullable = false)
+    private Miku sender;
+
+    @ManyToOne
+    @JoinColumn(name = "receiver_id", nullable = false)
+    private Miku receiver;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduleFrequency frequency;
+
+    @Column(name = "first_run_date", nullable = false)
+    private LocalDate firstRunDate;
+
+    // Number of runs already processed (executed or given up on)
+    @Column(name = "run_index", nullable = false)
+    private int runIndex;
+
+    // Runs left, or null for an open-ended order
+    @Column(name = "remaining_runs")
+    private Integer remainingRuns;
+
+    // Due time of the next run: its date plus this order's offset within the spread window
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    // Claim lease or retry backoff; the order is not picked up before this time
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduledTransferStatus status;
+
+    // Failed attempts of the current run
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Idempotency key of the current run.
+     */
+    public String currentRunKey() {
+        return IdempotencyService.systemKey("sched-" + id + "-" + runIndex);
+    }
+}
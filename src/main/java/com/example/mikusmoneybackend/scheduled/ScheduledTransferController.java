@@ -0,0 +1,60 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for standing orders (scheduled, recurring transfers).
+ */
+@RestController
+@RequestMapping("/api/scheduled-transfers")
+@RequiredArgsConstructor
+public class ScheduledTransferController {
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    /**
+     * Creates a standing order for the authenticated user.
+     * Requires PIN validation.
+     * 
+     * @param request The order details and PIN
+     * @return The created order
+     */
+    @PostMapping
+    public ResponseEntity<ScheduledTransferResponse> createScheduledTransfer(
+            @Valid @RequestBody ScheduledTransferRequest request) {
+        return ResponseEntity.ok(scheduledTransferService.create(request));
+    }
+
+    /**
+     * Retrieves all standing orders of the authenticated user.
+     * 
+     * @return List of orders, most recent first
+     */
+    @GetMapping
+    public ResponseEntity<List<ScheduledTransferResponse>> getScheduledTransfers() {
+        return ResponseEntity.ok(scheduledTransferService.getScheduledTransfers());
+    }
+
+    /**
+     * Cancels a standing order.
+     * 
+     * @param id The order ID
+     * @return The cancelled order
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ScheduledTransferResponse> cancelScheduledTransfer(@PathVariable Long id) {
+        return ResponseEntity.ok(scheduledTransferService.cancel(id));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for ScheduledTransfer entity operations.
+ */
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    /**
+     * Finds all standing orders of a user, most recent first.
+     */
+    List<ScheduledTransfer> findBySenderIdOrderByIdDesc(Long senderId);
+
+    /**
+     * Counts the active standing orders of a user.
+     */
+    long countBySenderIdAndStatus(Long senderId, ScheduledTransferStatus status);
+
+    /**
+     * Locks a batch of due standing orders, skipping rows claimed by other instances.
+     * Served by the (status, next_run_at) index.
+     */
+    @Query(value = """
+        SELECT * FROM scheduled_transfers
+        WHERE status = 'ACTIVE' AND next_run_at <= :now
+          AND (locked_until IS NULL OR locked_until <= :now)
+        ORDER BY next_run_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<ScheduledTransfer> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Loads a standing order and locks its row for the rest of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ScheduledTransfer s WHERE s.id = :id")
+    Optional<ScheduledTransfer> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,39 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledTransferRequest {
+
+    @NotBlank(message = "Receiver public code is required")
+    private String receiverPublicCode;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    @Digits(integer = 17, fraction = 2, message = "Invalid amount format")
+    private BigDecimal amount;
+
+    @NotNull(message = "Frequency is required")
+    private ScheduleFrequency frequency;
+
+    @NotNull(message = "First run date is required")
+    @FutureOrPresent(message = "First run date cannot be in the past")
+    private LocalDate firstRunDate;
+
+    /**
+     * Number of runs, or null to repeat until cancelled.
+     */
+    @Min(value = 1, message = "Occurrences must be at least 1")
+    private Integer occurrences;
+
+    @NotBlank(message = "PIN code is required for scheduling transfers")
+    @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
+    private String pinCode;
+}
@@ -0,0 +1,26 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import lombok.*;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledTransferResponse {
+
+    private Long id;
+    private String receiverPublicCode;
+    private Money amount;
+    private ScheduleFrequency frequency;
+    private LocalDate firstRunDate;
+    private LocalDateTime nextRunAt;
+    private Integer remainingRuns;
+    private ScheduledTransferStatus status;
+    private String lastError;
+    private LocalDateTime createdAt;
+}
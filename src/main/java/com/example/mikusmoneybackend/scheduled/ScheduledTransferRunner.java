@@ -0,0 +1,124 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.config.ScheduledTransferProperties;
+import com.example.mikusmoneybackend.config.exception.DuplicateTransactionException;
+import com.example.mikusmoneybackend.transactions.TransactionsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background runner that executes due standing orders.
+ * 
+ * Each pass repeatedly:
+ * 1. claims a batch of due orders in a short transaction, leasing them so other instances skip them,
+ * 2. runs every order in its own transaction: the transfer and the move to the next run
+ *    commit together, under a row lock, with the run's idempotency key,
+ * 3. records a failed run in a separate transaction and retries it after a backoff.
+ * 
+ * A crash can at worst leave a lease to expire: the run either committed with its
+ * transfer or did not happen at all, so restarts never book a run twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledTransferRunner {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final ScheduledTransferService scheduledTransferService;
+    private final TransactionsService transactionsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledTransferProperties properties;
+
+    /**
+     * Runs every due order, batch after batch.
+     */
+    @Scheduled(fixedDelayString = "${scheduled-transfers.poll-interval:30s}")
+    public void runDue() {
+        List<Long> batch;
+        do {
+            batch = claim();
+            for (Long id : batch) {
+                run(id);
+            }
+        } while (batch.size() == properties.getBatchSize());
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Claims a batch and leases it.
+     * 
+     * @return IDs of the claimed orders
+     */
+    private List<Long> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ScheduledTransfer> batch = scheduledTransferRepository.claimBatch(now, properties.getBatchSize());
+            for (ScheduledTransfer order : batch) {
+                order.setLockedUntil(now.plus(properties.getLease()));
+            }
+            return batch.stream().map(ScheduledTransfer::getId).toList();
+        });
+    }
+
+    private void run(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ScheduledTransfer order = scheduledTransferRepository.findByIdForUpdate(id).orElse(null);
+
+                // Cancelled, or already run by an instance whose lease we outlived
+                if (order == null || order.getStatus() != ScheduledTransferStatus.ACTIVE
+                        || order.getNextRunAt().isAfter(LocalDateTime.now())) {
+                    return;
+                }
+
+                transactionsService.transferOnBehalfOf(
+                        order.getSender(), order.getReceiver().getId(), order.getAmount(), order.currentRunKey());
+                order.setLastError(null);
+                scheduledTransferService.advance(order);
+            });
+        } catch (DuplicateTransactionException e) {
+            // The run was booked before; only the schedule was left behind
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduledTransferRepository.findByIdForUpdate(id).ifPresent(scheduledTransferService::advance));
+        } catch (RuntimeException e) {
+            recordFailure(id, e);
+        }
+    }
+
+    /**
+     * Retries the run after the backoff, or skips it once it ran out of attempts.
+     */
+    private void recordFailure(Long id, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ScheduledTransfer order = scheduledTransferRepository.findByIdForUpdate(id).orElse(null);
+            if (order == null || order.getStatus() != ScheduledTransferStatus.ACTIVE) {
+                return;
+            }
+
+            order.setAttempts(order.getAttempts() + 1);
+            order.setLastError(truncate(String.valueOf(error.getMessage())));
+            if (order.getAttempts() >= properties.getMaxAttempts()) {
+                log.warn("Skipping run {} of scheduled transfer {} after {} attempts: {}",
+                        order.getRunIndex(), id, order.getAttempts(), error.getMessage());
+                scheduledTransferService.advance(order);
+            } else {
+                log.info("Run {} of scheduled transfer {} failed on attempt {}: {}",
+                        order.getRunIndex(), id, order.getAttempts(), error.getMessage());
+                order.setLockedUntil(LocalDateTime.now().plus(properties.getRetryBackoff()));
+            }
+        });
+    }
+
+    private String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.account.Account;
+import com.example.mikusmoneybackend.account.AccountRepository;
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.auth.AuthContextService.AuthContext;
+import com.example.mikusmoneybackend.config.ScheduledTransferProperties;
+import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
+import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.transactions.TransactionsService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for managing standing orders: creation, listing and cancellation.
+ * Execution is handled by {@link ScheduledTransferRunner}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduledTransferService {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final AccountRepository accountRepository;
+    private final AuthContextService authContextService;
+    private final TransactionsService transactionsService;
+    private final ScheduledTransferProperties properties;
+
+    // ==================== Create ====================
+
+    /**
+     * Creates a standing order for the authenticated user.
+     * Requires PIN validation, as it authorizes future money movements.
+     * 
+     * @param request The order details and PIN
+     * @return ScheduledTransferResponse with the created order
+     */
+    @Transactional
+    public ScheduledTransferResponse create(ScheduledTransferRequest request) {
+        // 1. Validate authentication and PIN
+        AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
+
+        // 2. Find and validate receiver
+        Account receiverAccount = accountRepository.findByMiku_PublicCode(request.getReceiverPublicCode())
+                .orElseThrow(() -> ResourceNotFoundException.receiverAccount());
+        if (receiverAccount.getMiku().getId().equals(context.miku().getId())) {
+            throw new IllegalArgumentException("Cannot transfer money to yourself");
+        }
+
+        // 3. Validate amount and the user's number of orders
+        Money amount = Money.of(request.getAmount());
+        transactionsService.validateMaxAmount(amount);
+        validateActiveOrdersLimit(context.miku().getId());
+
+        // 4. Create the order; the ID is needed to compute its offset in the spread window
+        ScheduledTransfer order = ScheduledTransfer.builder()
+                .sender(context.miku())
+                .receiver(receiverAccount.getMiku())
+                .amount(amount)
+                .frequency(request.getFrequency())
+                .firstRunDate(request.getFirstRunDate())
+                .runIndex(0)
+                .remainingRuns(request.getOccurrences())
+                .nextRunAt(request.getFirstRunDate().atStartOfDay())
+                .status(ScheduledTransferStatus.ACTIVE)
+                .attempts(0)
+                .build();
+
+        ScheduledTransfer saved = scheduledTransferRepository.save(order);
+        saved.setNextRunAt(runTime(saved));
+
+        return mapToResponse(saved);
+    }
+
+    // ==================== Read and Cancel ====================
+
+    /**
+     * Retrieves all standing orders of the authenticated user.
+     * 
+     * @return List of orders, most recent first
+     */
+    @Transactional
+    public List<ScheduledTransferResponse> getScheduledTransfers() {
+        Miku miku = authContextService.getAuthenticatedMiku();
+
+        return scheduledTransferRepository.findBySenderIdOrderByIdDesc(miku.getId())
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    /**
+     * Cancels a standing order of the authenticated user.
+     * A run already in progress completes; no further run starts.
+     * 
+     * @param id The order ID
+     * @return ScheduledTransferResponse with the cancelled order
+     */
+    @Transactional
+    public ScheduledTransferResponse cancel(Long id) {
+        Miku miku = authContextService.getAuthenticatedMiku();
+
+        // Locked so a cancellation cannot interleave with a run
+        ScheduledTransfer order = scheduledTransferRepository.findByIdForUpdate(id)
+                .filter(found -> found.getSender().getId().equals(miku.getId()))
+                .orElseThrow(() -> ResourceNotFoundException.byId("Scheduled transfer", id));
+        if (order.getStatus() != ScheduledTransferStatus.ACTIVE) {
+            throw new IllegalStateException("Scheduled transfer is no longer active");
+        }
+        order.setStatus(ScheduledTransferStatus.CANCELLED);
+
+        return mapToResponse(order);
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Moves an order past its current run, whether it was executed or given up on.
+     */
+    void advance(ScheduledTransfer order) {
+        order.setRunIndex(order.getRunIndex() + 1);
+        order.setAttempts(0);
+        order.setLockedUntil(null);
+
+        if (order.getRemainingRuns() != null) {
+            order.setRemainingRuns(order.getRemainingRuns() - 1);
+            if (order.getRemainingRuns() <= 0) {
+                order.setStatus(ScheduledTransferStatus.COMPLETED);
+                return;
+            }
+        }
+        order.setNextRunAt(runTime(order));
+    }
+
+    /**
+     * Due time of an order's current run: the run date at midnight plus a fixed,
+     * per-order offset within the spread window, so daily peaks are flattened
+     * and an order runs at the same time of day every period.
+     */
+    private LocalDateTime runTime(ScheduledTransfer order) {
+        LocalDateTime midnight = order.getFrequency()
+                .runDate(order.getFirstRunDate(), order.getRunIndex())
+                .atStartOfDay();
+
+        long windowSeconds = properties.getSpreadWindow().toSeconds();
+        if (windowSeconds <= 0) {
+            return midnight;
+        }
+        return midnight.plusSeconds(Math.floorMod(order.getId() * GOLDEN_GAMMA, windowSeconds));
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void validateActiveOrdersLimit(Long mikuId) {
+        long active = scheduledTransferRepository.countBySenderIdAndStatus(mikuId, ScheduledTransferStatus.ACTIVE);
+        if (active >= properties.getMaxActivePerUser()) {
+            throw new IllegalStateException("Maximum number of active scheduled transfers reached (" + properties.getMaxActivePerUser() + ")");
+        }
+    }
+
+    private ScheduledTransferResponse mapToResponse(ScheduledTransfer order) {
+        return ScheduledTransferResponse.builder()
+                .id(order.getId())
+                .receiverPublicCode(order.getReceiver().getPublicCode())
+                .amount(order.getAmount())
+                .frequency(order.getFrequency())
+                .firstRunDate(order.getFirstRunDate())
+                .nextRunAt(order.getStatus() == ScheduledTransferStatus.ACTIVE ? order.getNextRunAt() : null)
+                .remainingRuns(order.getRemainingRuns())
+                .status(order.getStatus())
+                .lastError(order.getLastError())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.mikusmoneybackend.scheduled;
+
+/**
+ * Lifecycle of a standing order.
+ */
+public enum ScheduledTransferStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELLED
+}
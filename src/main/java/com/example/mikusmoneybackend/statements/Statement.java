@@ -0,0 +1,66 @@
+package com.example.mikusmoneybackend.statements;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Closed monthly statement of an account.
+ * The opening balance is the previous statement's closing balance, so each month
+ * is computed incrementally instead of rescanning the account's history.
+ */
+@Entity
+@Table(name = "statements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_statements_account_period", columnNames = {"account_id", "period_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Statement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // First day of the month covered by this statement
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "opening_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(name = "closing_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(name = "deposits_in", nullable = false, precision = 19, scale = 2)
+    private BigDecimal depositsIn;
+
+    @Column(name = "withdrawals_out", nullable = false, precision = 19, scale = 2)
+    private BigDecimal withdrawalsOut;
+
+    @Column(name = "transfers_in", nullable = false, precision = 19, scale = 2)
+    private BigDecimal transfersIn;
+
+    @Column(name = "transfers_out", nullable = false, precision = 19, scale = 2)
+    private BigDecimal transfersOut;
+
+    // Net money moved from savings pigs back to the account (negative when more was saved)
+    @Column(name = "savings_net", nullable = false, precision = 19, scale = 2)
+    private BigDecimal savingsNet;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
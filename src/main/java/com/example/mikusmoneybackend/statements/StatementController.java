@@ -0,0 +1,31 @@
+package com.example.mikusmoneybackend.statements;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for monthly account statements.
+ */
+@RestController
+@RequestMapping("/api/account/statements")
+@RequiredArgsConstructor
+public class StatementController {
+
+    private final StatementService statementService;
+
+    /**
+     * Retrieves the closed monthly statements of the authenticated user.
+     * 
+     * @return List of statements, most recent month first
+     */
+    @GetMapping
+    public ResponseEntity<List<StatementResponse>> getStatements() {
+        return ResponseEntity.ok(statementService.getStatements());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.mikusmoneybackend.statements;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.mikusmoneybackend.config.StatementProperties;
+import com.example.mikusmoneybackend.config.WorkerThreads;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduled job that closes the previous month's statement of every account.
+ * Accounts are read in keyset-paginated chunks and the chunks are processed in
+ * parallel; each account is closed in its own transaction, so a failure only
+ * affects that account and a rerun picks up where it stopped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementJob {
+
+    private final StatementRepository statementRepository;
+    private final StatementService statementService;
+    private final StatementProperties statementProperties;
+    private final WorkerThreads workerThreads;
+
+    /**
+     * Closes the month that just ended.
+     */
+    @Scheduled(cron = "${statements.cron:0 30 0 1 * *}")
+    public void closePreviousMonth() {
+        closeMonth(LocalDate.now().withDayOfMonth(1).minusMonths(1));
+    }
+
+    /**
+     * Closes the given month for every account.
+     * 
+     * @param periodStart First day of the month to close
+     * @return Number of statements created
+     */
+    public int closeMonth(LocalDate periodStart) {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = workerThreads.newFixedPool("statements-", statementProperties.getParallelism());
+
+        try {
+            List<CompletableFuture<Void>> pending = new ArrayList<>();
+            Long afterId = 0L;
+
+            while (true) {
+                List<Long> chunk = statementRepository.findAccountIdsAfter(
+                        afterId, Limit.of(statementProperties.getChunkSize()));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1);
+
+                pending.add(CompletableFuture.runAsync(
+                        () -> closeChunk(chunk, periodStart, created, failed), executor));
+            }
+
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("Closed {} statements for {} ({} failed)", created.get(), periodStart, failed.get());
+        return created.get();
+    }
+
+    /**
+     * Closes the month for one chunk of accounts.
+     */
+    private void closeChunk(List<Long> accountIds, LocalDate periodStart,
+                            AtomicInteger created, AtomicInteger failed) {
+        for (Long accountId : accountIds) {
+            try {
+                if (statementService.closeMonth(accountId, periodStart)) {
+                    created.incrementAndGet();
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Another node closed the same statement concurrently
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("Failed to close statement of account {} for {}", accountId, periodStart, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.mikusmoneybackend.statements;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for Statement entity operations.
+ */
+@Repository
+public interface StatementRepository extends JpaRepository<Statement, Long> {
+
+    /**
+     * Finds the statement of an account for the month starting at the given day.
+     */
+    Optional<Statement> findByAccountIdAndPeriodStart(Long accountId, LocalDate periodStart);
+
+    /**
+     * Checks if the statement of an account for the given month was already closed.
+     */
+    boolean existsByAccountIdAndPeriodStart(Long accountId, LocalDate periodStart);
+
+    /**
+     * Finds all statements of an account, most recent month first.
+     */
+    List<Statement> findByAccountIdOrderByPeriodStartDesc(Long accountId);
+
+    /**
+     * Returns the next chunk of account IDs after the given one (keyset pagination).
+     */
+    @Query("SELECT a.id FROM Account a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findAccountIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Sums an account's transactions per type within [from, to).
+     * Driven by the account's balance snapshots, so only that account's rows
+     * for that month are read.
+     */
+    @Query("""
+        SELECT new com.example.mikusmoneybackend.statements.StatementTotals(
+            COALESCE(SUM(CASE WHEN d.id IS NOT NULL THEN t.amount END), 0),
+            COALESCE(SUM(CASE WHEN w.id IS NOT NULL THEN t.amount END), 0),
+            COALESCE(SUM(CASE WHEN tr.id IS NOT NULL AND tr.sender.id <> a.miku.id THEN t.amount END), 0),
+            COALESCE(SUM(CASE WHEN tr.id IS NOT NULL AND tr.sender.id = a.miku.id THEN t.amount END), 0),
+            COUNT(t.id))
+        FROM com.example.mikusmoneybackend.account.BalanceSnapshot bs
+        JOIN com.example.mikusmoneybackend.account.Account a ON a.id = bs.accountId
+        LEFT JOIN com.example.mikusmoneybackend.transactions.Transaction t ON t.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.deposit.Deposit d ON d.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.withdraw.Withdraw w ON w.id = bs.transactionId
+        LEFT JOIN com.example.mikusmoneybackend.transfer.Transfer tr ON tr.id = bs.transactionId
+        WHERE bs.accountId = :accountId AND bs.createdAt >= :from AND bs.createdAt < :to
+        """)
+    StatementTotals sumMonthlyTotals(
+            @Param("accountId") Long accountId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,23 @@
+package com.example.mikusmoneybackend.statements;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatementResponse {
+
+    private LocalDate periodStart;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private BigDecimal depositsIn;
+    private BigDecimal withdrawalsOut;
+    private BigDecimal transfersIn;
+    private BigDecimal transfersOut;
+    private BigDecimal savingsNet;
+    private long transactionCount;
+}
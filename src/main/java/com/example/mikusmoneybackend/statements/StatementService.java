@@ -0,0 +1,116 @@
+package com.example.mikusmoneybackend.statements;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.mikusmoneybackend.account.Account;
+import com.example.mikusmoneybackend.account.BalanceSnapshotService;
+import com.example.mikusmoneybackend.auth.AuthContextService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for monthly account statements.
+ * Statements are closed once per month and then served as stored rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementService {
+
+    private final StatementRepository statementRepository;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final AuthContextService authContextService;
+
+    /**
+     * Returns the closed statements of the authenticated user, most recent month first.
+     * 
+     * @return List of StatementResponse
+     */
+    public List<StatementResponse> getStatements() {
+        Account account = authContextService.getAuthenticatedAccount();
+
+        return statementRepository.findByAccountIdOrderByPeriodStartDesc(account.getId())
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    /**
+     * Closes the statement of an account for the month starting at the given day.
+     * Idempotent: an already closed month is left untouched.
+     * 
+     * Opening balance is carried over from the previous month's closing balance;
+     * the closing balance is a single snapshot seek, and the totals only read
+     * the account's own movements of that month.
+     * 
+     * @param accountId The account ID
+     * @param periodStart First day of the month to close
+     * @return true if a statement was created
+     */
+    @Transactional
+    public boolean closeMonth(Long accountId, LocalDate periodStart) {
+        if (statementRepository.existsByAccountIdAndPeriodStart(accountId, periodStart)) {
+            return false;
+        }
+
+        LocalDateTime from = periodStart.atStartOfDay();
+        LocalDateTime to = periodStart.plusMonths(1).atStartOfDay();
+
+        // 1. Opening balance: previous closing, or a snapshot seek for the first statement
+        BigDecimal opening = statementRepository
+                .findByAccountIdAndPeriodStart(accountId, periodStart.minusMonths(1))
+                .map(Statement::getClosingBalance)
+                .orElseGet(() -> balanceSnapshotService.getBalanceBefore(accountId, from).toBigDecimal());
+
+        // 2. Closing balance: last snapshot of the month
+        BigDecimal closing = balanceSnapshotService.getBalanceBefore(accountId, to).toBigDecimal();
+
+        // 3. Per-type totals of the month
+        StatementTotals totals = statementRepository.sumMonthlyTotals(accountId, from, to);
+
+        // 4. Whatever is not explained by transactions was moved to or from savings pigs
+        BigDecimal savingsNet = closing.subtract(opening)
+                .subtract(totals.depositsIn())
+                .add(totals.withdrawalsOut())
+                .subtract(totals.transfersIn())
+                .add(totals.transfersOut());
+
+        Statement statement = Statement.builder()
+                .accountId(accountId)
+                .periodStart(periodStart)
+                .openingBalance(opening)
+                .closingBalance(closing)
+                .depositsIn(totals.depositsIn())
+                .withdrawalsOut(totals.withdrawalsOut())
+                .transfersIn(totals.transfersIn())
+                .transfersOut(totals.transfersOut())
+                .savingsNet(savingsNet)
+                .transactionCount(totals.transactionCount())
+                .build();
+
+        statementRepository.save(statement);
+        return true;
+    }
+
+    /**
+     * Maps a Statement entity to StatementResponse DTO.
+     */
+    private StatementResponse mapToResponse(Statement statement) {
+        return StatementResponse.builder()
+                .periodStart(statement.getPeriodStart())
+                .openingBalance(statement.getOpeningBalance())
+                .closingBalance(statement.getClosingBalance())
+                .depositsIn(statement.getDepositsIn())
+                .withdrawalsOut(statement.getWithdrawalsOut())
+                .transfersIn(statement.getTransfersIn())
+                .transfersOut(statement.getTransfersOut())
+                .savingsNet(statement.getSavingsNet())
+                .transactionCount(statement.getTransactionCount())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.mikusmoneybackend.statements;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-type totals of an account's transactions within one month.
+ */
+public record StatementTotals(
+        BigDecimal depositsIn,
+        BigDecimal withdrawalsOut,
+        BigDecimal transfersIn,
+        BigDecimal transfersOut,
+        Long transactionCount) {
+}
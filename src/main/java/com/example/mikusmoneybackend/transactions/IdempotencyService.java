@@ -15,11 +15,26 @@ import lombok.RequiredArgsConstructor;
  * - Network issues cause request retries
  * - User accidentally clicks submit multiple times
  * - System errors cause the request to be replayed
+ * 
+ * The items of a batch are stored under derived keys ({@code key#index}); client keys
+ * may not contain the separator, so they can never collide with a batch item.
+ * Keys generated by the server (payroll rows, hold captures, standing order runs) start
+ * with {@link #SYSTEM_PREFIX}, which client keys may not, so a client cannot claim one first.
  */
 @Service
 @RequiredArgsConstructor
 public class IdempotencyService {
 
+    /**
+     * Separates a batch key from the item index in derived keys.
+     */
+    public static final char ITEM_SEPARATOR = '#';
+
+    /**
+     * Starts every key generated by the server.
+     */
+    public static final char SYSTEM_PREFIX = '$';
+
     private final TransactionRepository transactionRepository;
 
     /**
@@ -27,18 +42,64 @@ public class IdempotencyService {
      * 
      * @param idempotencyKey The unique key to validate (should be a UUID from client)
      * @throws DuplicateTransactionException if the idempotency key has already been used
-     * @throws IllegalArgumentException if the idempotency key is null or blank
+     * @throws IllegalArgumentException if the idempotency key is null, blank or reserved
      */
     public void validate(String idempotencyKey) {
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            throw new IllegalArgumentException("Idempotency key is required");
+        requireClientKey(idempotencyKey);
+        requireUnused(idempotencyKey);
+    }
+
+    /**
+     * Validates a key generated by the server with {@link #systemKey(String)}.
+     * 
+     * @param idempotencyKey The reserved key
+     * @throws DuplicateTransactionException if the idempotency key has already been used
+     * @throws IllegalArgumentException if the idempotency key is not a reserved key
+     */
+    public void validateSystemKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isEmpty() || idempotencyKey.charAt(0) != SYSTEM_PREFIX) {
+            throw new IllegalArgumentException("Not a system idempotency key: " + idempotencyKey);
         }
+        requireUnused(idempotencyKey);
+    }
 
-        if (transactionRepository.existsByIdempotencyKey(idempotencyKey)) {
-            throw new DuplicateTransactionException("Transaction already processed with this idempotency key");
+    /**
+     * Validates the key of an all-or-nothing batch. Its items are booked together,
+     * so the batch was processed if and only if its first item exists.
+     * 
+     * @param idempotencyKey The key of the whole batch
+     * @throws DuplicateTransactionException if the batch has already been processed
+     * @throws IllegalArgumentException if the idempotency key is null, blank or reserved
+     */
+    public void validateBatch(String idempotencyKey) {
+        requireClientKey(idempotencyKey);
+
+        if (transactionRepository.existsByIdempotencyKey(itemKey(idempotencyKey, 0))) {
+            throw new DuplicateTransactionException("Batch already processed with this idempotency key");
         }
     }
 
+    /**
+     * Derives the key of one item of a batch.
+     * 
+     * @param idempotencyKey The key of the whole batch
+     * @param index The item's position in the batch
+     * @return The item key
+     */
+    public String itemKey(String idempotencyKey, int index) {
+        return idempotencyKey + ITEM_SEPARATOR + index;
+    }
+
+    /**
+     * Builds a key in the server's namespace, out of reach of client keys.
+     * 
+     * @param key The key, unique among the server's keys
+     * @return The reserved key
+     */
+    public static String systemKey(String key) {
+        return SYSTEM_PREFIX + key;
+    }
+
     /**
      * Checks if an idempotency key has been used without throwing an exception.
      * 
@@ -51,4 +112,22 @@ public class IdempotencyService {
         }
         return transactionRepository.existsByIdempotencyKey(idempotencyKey);
     }
+
+    private void requireUnused(String idempotencyKey) {
+        if (transactionRepository.existsByIdempotencyKey(idempotencyKey)) {
+            throw new DuplicateTransactionException("Transaction already processed with this idempotency key");
+        }
+    }
+
+    private void requireClientKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key is required");
+        }
+        if (idempotencyKey.indexOf(ITEM_SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Idempotency key cannot contain '" + ITEM_SEPARATOR + "'");
+        }
+        if (idempotencyKey.charAt(0) == SYSTEM_PREFIX) {
+            throw new IllegalArgumentException("Idempotency key cannot start with '" + SYSTEM_PREFIX + "'");
+        }
+    }
 }
@@ -5,7 +5,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.CreationTimestamp;
 
-import java.math.BigDecimal;
+import com.example.mikusmoneybackend.money.Money;
+
 import java.time.LocalDateTime;
 
 @Entity
@@ -28,7 +29,7 @@ public abstract class Transaction {
     private LocalDateTime createdAt;
 
     @Column(name = "amount", nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(name = "idempotency_key", nullable = false, unique = true)
     private String idempotencyKey;
@@ -0,0 +1,210 @@
+package com.example.mikusmoneybackend.transactions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.config.BulkheadContext;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.exception.AuthenticationException;
+import com.example.mikusmoneybackend.transfer.TransactionHistoryResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service that streams the authenticated user's full transaction history as CSV or NDJSON.
+ * 
+ * Heap usage is constant regardless of the number of rows:
+ * - Rows come from a forward-only JDBC cursor with a bounded fetch size
+ * - Each row is a DTO, so nothing is retained by the persistence context
+ * - Output goes through a small buffer flushed every {@link #FLUSH_EVERY_ROWS} rows
+ * 
+ * Writes block while the client is not reading, which stalls the cursor as well,
+ * so slow clients naturally apply backpressure all the way to the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private final TransactionRepository transactionRepository;
+    private final AuthContextService authContextService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final LocalDate EARLIEST = LocalDate.of(1970, 1, 1);
+    private static final String CSV_HEADER = "id,transactionType,amount,createdAt,owner,from,to,balanceAfter";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    /**
+     * Builds a streaming body for the authenticated user's history within the given dates.
+     * The user is resolved here, on the request thread; the body itself runs later on
+     * an async thread and opens its own read-only transaction, in the reads bulkhead.
+     * 
+     * @param format The output format
+     * @param from First day to include (optional, defaults to the beginning of time)
+     * @param to Last day to include (optional, defaults to today)
+     * @return Body that writes the export incrementally
+     */
+    public StreamingResponseBody export(ExportFormat format, LocalDate from, LocalDate to) {
+        Long mikuId = authContextService.getAuthenticatedUserId();
+        if (mikuId == null) {
+            throw AuthenticationException.notAuthenticated();
+        }
+
+        LocalDateTime start = (from != null ? from : EARLIEST).atStartOfDay();
+        LocalDateTime end = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Export start date must not be after end date");
+        }
+
+        return outputStream -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            BulkheadContext.run(BulkheadPool.READS, () ->
+                    readOnly.executeWithoutResult(status -> writeRows(format, mikuId, start, end, outputStream)));
+        };
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void writeRows(ExportFormat format, Long mikuId, LocalDateTime start, LocalDateTime end,
+            OutputStream outputStream) {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        try (Stream<TransactionHistoryResponse> stream =
+                transactionRepository.streamHistoryByMikuId(mikuId, start, end)) {
+
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<TransactionHistoryResponse> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TransactionHistoryResponse row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writeJson(writer, row);
+                }
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // Usually the client went away; rolling back closes the cursor.
+            throw new UncheckedIOException("Transaction export aborted after " + rows + " rows", e);
+        }
+
+        log.debug("Exported {} transactions for user ID: {}", rows, mikuId);
+    }
+
+    private void writeCsv(Writer writer, TransactionHistoryResponse row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getTransactionType());
+        writer.write(',');
+        writer.write(row.getAmount().toString());
+        writer.write(',');
+        writer.write(row.getCreatedAt().toString());
+        writer.write(',');
+        writeCsvField(writer, row.getOwner());
+        writer.write(',');
+        writeCsvField(writer, row.getFrom());
+        writer.write(',');
+        writeCsvField(writer, row.getTo());
+        writer.write(',');
+        if (row.getBalanceAfter() != null) {
+            writer.write(row.getBalanceAfter().toString());
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a text field, quoted when needed. Names are user input: a field that a
+     * spreadsheet would read as a formula is prefixed with an apostrophe.
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJson(Writer writer, TransactionHistoryResponse row) throws IOException {
+        writer.write("{\"id\":");
+        writer.write(String.valueOf(row.getId()));
+        writer.write(",\"transactionType\":\"");
+        writer.write(row.getTransactionType());
+        writer.write("\",\"amount\":");
+        writer.write(row.getAmount().toString());
+        writer.write(",\"createdAt\":\"");
+        writer.write(row.getCreatedAt().toString());
+        writer.write('"');
+        writeJsonField(writer, "owner", row.getOwner());
+        writeJsonField(writer, "from", row.getFrom());
+        writeJsonField(writer, "to", row.getTo());
+        if (row.getBalanceAfter() != null) {
+            writer.write(",\"balanceAfter\":");
+            writer.write(row.getBalanceAfter().toString());
+        }
+        writer.write("}\n");
+    }
+
+    private void writeJsonField(Writer writer, String name, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write(",\"");
+        writer.write(name);
+        writer.write("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.mikusmoneybackend.transactions;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.mikusmoneybackend.transfer.TransactionHistoryResponse;
+
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for Transaction entity operations.
  * Handles all transaction types (Deposit, Withdraw, Transfer) through inheritance.
@@ -14,6 +24,84 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * Rows fetched per round-trip when streaming the export cursor.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Projects the history rows straight into {@link TransactionHistoryResponse}.
+     */
+    String HISTORY_SELECT = """
+        SELECT new com.example.mikusmoneybackend.transfer.TransactionHistoryResponse(
+            t.id,
+            CASE WHEN dm.id IS NOT NULL THEN 'DEPOSIT'
+                 WHEN wm.id IS NOT NULL THEN 'WITHDRAW'
+                 ELSE 'TRANSFER' END,
+            t.amount,
+            t.createdAt,
+            CASE WHEN dm.id IS NOT NULL THEN CONCAT(dm.name, ' ', dm.lastName)
+                 WHEN wm.id IS NOT NULL THEN CONCAT(wm.name, ' ', wm.lastName) END,
+            CASE WHEN sm.id IS NOT NULL THEN CONCAT(sm.name, ' ', sm.lastName) END,
+            CASE WHEN rm.id IS NOT NULL THEN CONCAT(rm.name, ' ', rm.lastName) END,
+            bs.balance)
+        """;
+
+    /**
+     * Joins every transaction subtype with the Miku(s) it references, so that names
+     * can be projected in the same statement instead of being loaded row by row.
+     */
+    String HISTORY_JOINS = """
+        FROM Transaction t
+        LEFT JOIN com.example.mikusmoneybackend.deposit.Deposit d ON d.id = t.id
+        LEFT JOIN d.miku dm
+        LEFT JOIN com.example.mikusmoneybackend.withdraw.Withdraw w ON w.id = t.id
+        LEFT JOIN w.miku wm
+        LEFT JOIN com.example.mikusmoneybackend.transfer.Transfer tr ON tr.id = t.id
+        LEFT JOIN tr.sender sm
+        LEFT JOIN tr.receiver rm
+        """;
+
+    /**
+     * Joins the requesting user's running balance recorded for each transaction.
+     */
+    String HISTORY_BALANCE_JOIN = """
+        JOIN com.example.mikusmoneybackend.account.Account acc ON acc.miku.id = :mikuId
+        LEFT JOIN com.example.mikusmoneybackend.account.BalanceSnapshot bs
+            ON bs.transactionId = t.id AND bs.accountId = acc.id
+        """;
+
+    /**
+     * Keeps the transactions the user is involved in (as owner, sender, or receiver).
+     */
+    String HISTORY_WHERE = """
+        WHERE (dm.id = :mikuId OR wm.id = :mikuId OR sm.id = :mikuId OR rm.id = :mikuId)
+        """;
+
+    /**
+     * Full FROM/WHERE clause of the history projections.
+     */
+    String HISTORY_FROM = HISTORY_JOINS + HISTORY_BALANCE_JOIN + HISTORY_WHERE;
+
+    /**
+     * History rows for a user, newest first. Shared by the paged and sliced history queries.
+     */
+    String HISTORY_QUERY = HISTORY_SELECT + HISTORY_FROM + "ORDER BY t.createdAt DESC";
+
+    /**
+     * Counts the rows matched by {@link #HISTORY_QUERY}; only used by the paged variant.
+     * Uses the same joins as the row query (the balance join is an inner join and can drop rows).
+     */
+    String HISTORY_COUNT_QUERY = "SELECT COUNT(t) " + HISTORY_FROM;
+
+    /**
+     * History rows for a user within [from, to), oldest first. Used by the export.
+     */
+    String HISTORY_RANGE_QUERY = HISTORY_SELECT + HISTORY_FROM + """
+        AND t.createdAt >= :from AND t.createdAt < :to
+        ORDER BY t.createdAt ASC, t.id ASC
+        """;
+
     /**
      * Checks if a transaction with the given idempotency key already exists.
      * Used to prevent duplicate transactions.
@@ -25,22 +113,47 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     /**
      * Finds all transactions where the user is involved (as owner, sender, or receiver).
-     * This query handles the polymorphic nature of transactions.
+     * This query handles the polymorphic nature of transactions and resolves the
+     * owner/sender/receiver names in the same statement.
      * 
      * @param mikuId The user ID
      * @param pageable Pagination information
-     * @return Page of transactions
-     */
-    @Query("""
-        SELECT t FROM Transaction t 
-        WHERE (TYPE(t) = com.example.mikusmoneybackend.deposit.Deposit AND 
-               TREAT(t AS com.example.mikusmoneybackend.deposit.Deposit).miku.id = :mikuId)
-           OR (TYPE(t) = com.example.mikusmoneybackend.withdraw.Withdraw AND 
-               TREAT(t AS com.example.mikusmoneybackend.withdraw.Withdraw).miku.id = :mikuId)
-           OR (TYPE(t) = com.example.mikusmoneybackend.transfer.Transfer AND 
-               (TREAT(t AS com.example.mikusmoneybackend.transfer.Transfer).sender.id = :mikuId OR 
-                TREAT(t AS com.example.mikusmoneybackend.transfer.Transfer).receiver.id = :mikuId))
-        ORDER BY t.createdAt DESC
-        """)
-    Page<Transaction> findAllByMikuId(@Param("mikuId") Long mikuId, Pageable pageable);
+     * @return Page of transaction history rows
+     */
+    @Query(value = HISTORY_QUERY, countQuery = HISTORY_COUNT_QUERY)
+    Page<TransactionHistoryResponse> findHistoryByMikuId(@Param("mikuId") Long mikuId, Pageable pageable);
+
+    /**
+     * Same as {@link #findHistoryByMikuId(Long, Pageable)} but returns a Slice.
+     * Fetches one extra row to compute hasNext and skips the COUNT query entirely.
+     * 
+     * @param mikuId The user ID
+     * @param pageable Pagination information
+     * @return Slice of transaction history rows
+     */
+    @Query(HISTORY_QUERY)
+    Slice<TransactionHistoryResponse> findHistorySliceByMikuId(@Param("mikuId") Long mikuId, Pageable pageable);
+
+    /**
+     * Streams every history row of a user within [from, to) through a forward-only cursor.
+     * Rows are DTOs, so nothing accumulates in the persistence context, and the fetch size
+     * bounds how many rows the driver buffers at once.
+     * Must be consumed inside a transaction (the PostgreSQL driver only uses a
+     * server-side cursor when autocommit is off) and closed by the caller.
+     * 
+     * @param mikuId The user ID
+     * @param from Inclusive lower bound on creation date
+     * @param to Exclusive upper bound on creation date
+     * @return Stream of transaction history rows
+     */
+    @Query(HISTORY_RANGE_QUERY)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<TransactionHistoryResponse> streamHistoryByMikuId(
+            @Param("mikuId") Long mikuId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
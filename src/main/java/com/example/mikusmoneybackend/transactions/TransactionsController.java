@@ -1,6 +1,12 @@
 package com.example.mikusmoneybackend.transactions;
 
+import java.time.LocalDate;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,9 +15,12 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.mikusmoneybackend.deposit.DepositRequest;
 import com.example.mikusmoneybackend.deposit.DepositResponse;
+import com.example.mikusmoneybackend.transfer.BatchTransferRequest;
+import com.example.mikusmoneybackend.transfer.BatchTransferResponse;
 import com.example.mikusmoneybackend.transfer.TransferMoneyRequest;
 import com.example.mikusmoneybackend.transfer.TransferResponse;
 import com.example.mikusmoneybackend.transfer.TransactionHistoryResponse;
@@ -33,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 public class TransactionsController {
 
     private final TransactionsService transactionsService;
+    private final TransactionExportService transactionExportService;
 
     private static final String IDEMPOTENCY_KEY_HEADER = "X-Idempotency-Key";
 
@@ -78,6 +88,20 @@ public class TransactionsController {
         return ResponseEntity.ok(transactionsService.transfer(request, idempotencyKey));
     }
 
+    /**
+     * Performs up to {@value BatchTransferRequest#MAX_ITEMS} transfers at once, all or nothing.
+     * 
+     * @param request The transfers, each with receiver code and amount, and the PIN
+     * @param idempotencyKey Unique key of the whole batch
+     * @return The details of every transfer
+     */
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(
+            @Valid @RequestBody BatchTransferRequest request,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey) {
+        return ResponseEntity.ok(transactionsService.transferBatch(request, idempotencyKey));
+    }
+
     /**
      * Retrieves the transaction history for the authenticated user.
      * 
@@ -89,4 +113,42 @@ public class TransactionsController {
             @RequestParam(defaultValue = "0") int page) {
         return ResponseEntity.ok(transactionsService.getTransactionHistory(page));
     }
+
+    /**
+     * Retrieves the transaction history for the authenticated user without totals.
+     * Cheaper than {@link #getTransactionHistory(int)} since it skips the COUNT query;
+     * use hasNext/last to drive paging.
+     * 
+     * @param page The page number (0-based, default 0)
+     * @return Slice of transaction history
+     */
+    @GetMapping("/history/slice")
+    public ResponseEntity<Slice<TransactionHistoryResponse>> getTransactionHistorySlice(
+            @RequestParam(defaultValue = "0") int page) {
+        return ResponseEntity.ok(transactionsService.getTransactionHistorySlice(page));
+    }
+
+    /**
+     * Streams the authenticated user's full transaction history as a file download.
+     * 
+     * @param format Output format: csv or ndjson (default csv)
+     * @param from First day to include (ISO date, optional)
+     * @param to Last day to include (ISO date, optional)
+     * @return Streaming body with the exported history
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("transactions." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(transactionExportService.export(exportFormat, from, to));
+    }
 }
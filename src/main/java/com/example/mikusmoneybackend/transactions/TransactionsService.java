@@ -1,18 +1,29 @@
 package com.example.mikusmoneybackend.transactions;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import com.example.mikusmoneybackend.account.Account;
 import com.example.mikusmoneybackend.account.AccountRepository;
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+import com.example.mikusmoneybackend.account.BalanceSnapshotService;
 import com.example.mikusmoneybackend.auth.AuthContextService;
 import com.example.mikusmoneybackend.auth.AuthContextService.AuthContext;
+import com.example.mikusmoneybackend.config.Bulkhead;
+import com.example.mikusmoneybackend.config.BulkheadPool;
+import com.example.mikusmoneybackend.config.ReadOnlyTransaction;
+import com.example.mikusmoneybackend.config.exception.AuthenticationException;
 import com.example.mikusmoneybackend.config.exception.BusinessException;
 import com.example.mikusmoneybackend.config.exception.ResourceNotFoundException;
 import com.example.mikusmoneybackend.deposit.Deposit;
@@ -20,11 +31,22 @@ import com.example.mikusmoneybackend.deposit.DepositRepository;
 import com.example.mikusmoneybackend.deposit.DepositRequest;
 import com.example.mikusmoneybackend.deposit.DepositResponse;
 import com.example.mikusmoneybackend.miku.Miku;
+import com.example.mikusmoneybackend.miku.MikuRepository;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.outbox.OutboxEventType;
+import com.example.mikusmoneybackend.outbox.OutboxService;
+import com.example.mikusmoneybackend.risk.RiskOperation;
+import com.example.mikusmoneybackend.risk.RiskScoringService;
+import com.example.mikusmoneybackend.transfer.BatchTransferItem;
+import com.example.mikusmoneybackend.transfer.BatchTransferRequest;
+import com.example.mikusmoneybackend.transfer.BatchTransferResponse;
 import com.example.mikusmoneybackend.transfer.Transfer;
 import com.example.mikusmoneybackend.transfer.TransferMoneyRequest;
 import com.example.mikusmoneybackend.transfer.TransferRepository;
 import com.example.mikusmoneybackend.transfer.TransferResponse;
 import com.example.mikusmoneybackend.transfer.TransactionHistoryResponse;
+import com.example.mikusmoneybackend.velocity.VelocityLimitService;
+import com.example.mikusmoneybackend.velocity.VelocityOperation;
 import com.example.mikusmoneybackend.withdraw.Withdraw;
 import com.example.mikusmoneybackend.withdraw.WithdrawRepository;
 import com.example.mikusmoneybackend.withdraw.WithdrawRequest;
@@ -49,11 +71,18 @@ public class TransactionsService {
     private final WithdrawRepository withdrawRepository;
     private final TransferRepository transferRepository;
     private final AccountRepository accountRepository;
+    private final MikuRepository mikuRepository;
     
     private final IdempotencyService idempotencyService;
     private final AuthContextService authContextService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final OutboxService outboxService;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final VelocityLimitService velocityLimitService;
+    private final RiskScoringService riskScoringService;
 
     private static final int PAGE_SIZE = 10;
+    private static final Money MAX_TRANSACTION_AMOUNT = Money.ofMajor(10_000);
 
     // ==================== Deposit ====================
 
@@ -65,6 +94,7 @@ public class TransactionsService {
      * @return DepositResponse with transaction details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public DepositResponse deposit(DepositRequest request, String idempotencyKey) {
         // 1. Validate idempotency key first (prevents duplicate transactions)
         idempotencyService.validate(idempotencyKey);
@@ -72,13 +102,15 @@ public class TransactionsService {
         // 2. Validate authentication and PIN
         AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
 
-        BigDecimal amount = request.getAmount();
+        Money amount = Money.of(request.getAmount());
 
         validateMaxAmount(amount);
+        velocityLimitService.reserve(context.miku().getId(), VelocityOperation.DEPOSIT, amount);
 
         // 3. Update account balance (validates amount internally)
         context.account().deposit(amount);
         accountRepository.save(context.account());
+        accountSnapshotCache.refreshAfterCommit(context.account());
 
         // 4. Create and persist transaction record
         Deposit deposit = Deposit.builder()
@@ -88,6 +120,10 @@ public class TransactionsService {
                 .build();
         
         Deposit savedDeposit = depositRepository.save(deposit);
+
+        // 5. Record the running balance and publish the event
+        balanceSnapshotService.record(context.account(), savedDeposit.getId());
+        outboxService.append(OutboxEventType.DEPOSIT, savedDeposit.getId(), context.miku().getId(), amount.toBigDecimal());
         
         return DepositResponse.builder()
                 .id(savedDeposit.getId())
@@ -105,6 +141,7 @@ public class TransactionsService {
      * @return WithdrawResponse with transaction details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public WithdrawResponse withdraw(WithdrawRequest request, String idempotencyKey) {
         // 1. Validate idempotency key first
         idempotencyService.validate(idempotencyKey);
@@ -112,11 +149,14 @@ public class TransactionsService {
         // 2. Validate authentication and PIN
         AuthContext context = authContextService.validateAuthWithPin(request.getPinCode());
         
-        BigDecimal amount = request.getAmount();
+        Money amount = Money.of(request.getAmount());
+        velocityLimitService.reserve(context.miku().getId(), VelocityOperation.WITHDRAW, amount);
+        riskScoringService.check(context.miku().getId(), null, amount, request.getStepUpPassword());
 
         // 3. Update account balance (validates sufficient funds internally)
         context.account().withdraw(amount);
         accountRepository.save(context.account());
+        accountSnapshotCache.refreshAfterCommit(context.account());
 
         // 4. Create and persist transaction record
         Withdraw withdraw = Withdraw.builder()
@@ -127,6 +167,51 @@ public class TransactionsService {
         
         Withdraw savedWithdraw = withdrawRepository.save(withdraw);
 
+        // 5. Record the running balance and publish the event
+        balanceSnapshotService.record(context.account(), savedWithdraw.getId());
+        outboxService.append(OutboxEventType.WITHDRAW, savedWithdraw.getId(), context.miku().getId(), amount.toBigDecimal());
+
+        return WithdrawResponse.builder()
+                .id(savedWithdraw.getId())
+                .amount(savedWithdraw.getAmount())
+                .build();
+    }
+
+    /**
+     * Books the capture of a hold as a withdrawal.
+     * The money was already reserved, so it is taken from the held part of the balance;
+     * limits were checked when the hold was placed.
+     * 
+     * @param miku The account owner
+     * @param account The owner's account, with the hold still on it
+     * @param amount The captured amount
+     * @param idempotencyKey Unique key of this capture
+     * @return WithdrawResponse with transaction details
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public WithdrawResponse captureHold(Miku miku, Account account, Money amount, String idempotencyKey) {
+        // 1. Validate idempotency key first
+        idempotencyService.validateSystemKey(idempotencyKey);
+
+        // 2. Take the money out of the held balance
+        account.captureHold(amount);
+        accountRepository.save(account);
+        accountSnapshotCache.refreshAfterCommit(account);
+
+        // 3. Create and persist transaction record
+        Withdraw withdraw = Withdraw.builder()
+                .amount(amount)
+                .miku(miku)
+                .idempotencyKey(idempotencyKey)
+                .build();
+
+        Withdraw savedWithdraw = withdrawRepository.save(withdraw);
+
+        // 4. Record the running balance and publish the event
+        balanceSnapshotService.record(account, savedWithdraw.getId());
+        outboxService.append(OutboxEventType.WITHDRAW, savedWithdraw.getId(), miku.getId(), amount.toBigDecimal());
+
         return WithdrawResponse.builder()
                 .id(savedWithdraw.getId())
                 .amount(savedWithdraw.getAmount())
@@ -143,6 +228,7 @@ public class TransactionsService {
      * @return TransferResponse with transaction details
      */
     @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
     public TransferResponse transfer(TransferMoneyRequest request, String idempotencyKey) {
         // 1. Validate idempotency key first
         idempotencyService.validate(idempotencyKey);
@@ -159,78 +245,228 @@ public class TransactionsService {
             throw new IllegalArgumentException("Cannot transfer money to yourself");
         }
         
-        // 5. Execute transfer (validates sufficient funds internally)
-        BigDecimal amount = request.getAmount();
+        // 5. Check limits and risk, then execute
+        Money amount = Money.of(request.getAmount());
         validateMaxAmount(amount);
-        context.account().transfer(receiverAccount, amount);
-        accountRepository.save(context.account());
+        velocityLimitService.reserve(context.miku().getId(), VelocityOperation.TRANSFER, amount);
+        riskScoringService.check(context.miku().getId(), receiverAccount.getMiku().getId(), amount, request.getStepUpPassword());
+
+        return executeTransfer(context.miku(), context.account(), receiverAccount, amount, idempotencyKey);
+    }
+
+    /**
+     * Performs a transfer on behalf of a user, without an authenticated request.
+     * Used by standing orders, which the user authorized with their PIN when creating them.
+     * Amount and velocity limits still apply. Risk scoring applies too, but as there is
+     * nobody to step up, only a blocking score stops the transfer.
+     * 
+     * @param sender The paying user
+     * @param receiverId ID of the receiving user
+     * @param amount The amount to transfer
+     * @param idempotencyKey Unique key of this execution
+     * @return TransferResponse with transaction details
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public TransferResponse transferOnBehalfOf(Miku sender, Long receiverId, Money amount, String idempotencyKey) {
+        // 1. Validate idempotency key first
+        idempotencyService.validateSystemKey(idempotencyKey);
+
+        // 2. Load both accounts
+        Account senderAccount = authContextService.getAccountByMiku(sender);
+        Account receiverAccount = accountRepository.findByMikuId(receiverId)
+                .orElseThrow(() -> ResourceNotFoundException.receiverAccount());
+
+        // 3. Check limits and risk, then execute
+        validateMaxAmount(amount);
+        velocityLimitService.reserve(sender.getId(), VelocityOperation.TRANSFER, amount);
+        riskScoringService.checkUnattended(sender.getId(), receiverId, amount);
+
+        return executeTransfer(sender, senderAccount, receiverAccount, amount, idempotencyKey);
+    }
+
+    /**
+     * Moves the money and records the transfer; callers have validated the request.
+     */
+    private TransferResponse executeTransfer(Miku sender, Account senderAccount, Account receiverAccount,
+                                             Money amount, String idempotencyKey) {
+        // 1. Execute transfer (validates sufficient funds internally)
+        senderAccount.transfer(receiverAccount, amount);
+        accountRepository.save(senderAccount);
         accountRepository.save(receiverAccount);
+        accountSnapshotCache.refreshAfterCommit(senderAccount);
+        accountSnapshotCache.refreshAfterCommit(receiverAccount);
 
-        // 6. Create and persist transaction record
+        // 2. Record it
+        return recordTransfer(sender, senderAccount, receiverAccount, amount, idempotencyKey);
+    }
+
+    /**
+     * Persists the transaction record of a transfer whose money has just been moved,
+     * with the running balance of both sides, and publishes its event.
+     */
+    private TransferResponse recordTransfer(Miku sender, Account senderAccount, Account receiverAccount,
+                                            Money amount, String idempotencyKey) {
+        // 1. Create and persist transaction record
         Transfer transfer = Transfer.builder()
                 .amount(amount)
-                .sender(context.miku())
+                .sender(sender)
                 .receiver(receiverAccount.getMiku())
                 .idempotencyKey(idempotencyKey)
                 .build();
         
         Transfer savedTransfer = transferRepository.save(transfer);
 
+        // 2. Record the running balance of both sides and publish the event
+        balanceSnapshotService.record(senderAccount, savedTransfer.getId());
+        balanceSnapshotService.record(receiverAccount, savedTransfer.getId());
+        outboxService.append(OutboxEventType.TRANSFER, savedTransfer.getId(),
+                sender.getId(), receiverAccount.getMiku().getId(), amount.toBigDecimal());
+
         return TransferResponse.builder()
                 .id(savedTransfer.getId())
                 .amount(savedTransfer.getAmount())
                 .build();
     }
 
+    // ==================== Batch Transfer ====================
+
+    /**
+     * Performs several transfers as one all-or-nothing operation.
+     * The PIN is verified once and every receiver is resolved by a single query. The
+     * sender's and receivers' accounts are then read under a lock taken in ascending ID
+     * order, before any balance is looked at, so concurrent batches cannot deadlock each
+     * other or work from a stale balance.
+     * Each item is booked as a regular transfer with the key {@code idempotencyKey#index}.
+     * 
+     * @param request The transfers, PIN and optional step-up password
+     * @param idempotencyKey Unique key of the whole batch
+     * @return BatchTransferResponse with every booked transfer
+     */
+    @Transactional
+    @Bulkhead(BulkheadPool.MONEY)
+    public BatchTransferResponse transferBatch(BatchTransferRequest request, String idempotencyKey) {
+        // 1. Validate idempotency key first
+        idempotencyService.validateBatch(idempotencyKey);
+
+        // 2. Validate authentication and PIN, once for the whole batch, without reading the account
+        if (request.getPinCode() == null || request.getPinCode().isBlank()) {
+            throw new IllegalArgumentException("PIN code is required");
+        }
+        authContextService.validatePin(request.getPinCode());
+        Miku sender = authContextService.getAuthenticatedMiku();
+        List<BatchTransferItem> items = request.getItems();
+
+        // 3. Resolve every receiver in one query
+        Set<String> publicCodes = items.stream()
+                .map(BatchTransferItem::getReceiverPublicCode)
+                .collect(Collectors.toSet());
+        Map<String, Long> receiverIds = mikuRepository.findByPublicCodeIn(publicCodes)
+                .stream()
+                .collect(Collectors.toMap(Miku::getPublicCode, Miku::getId));
+
+        if (receiverIds.size() != publicCodes.size()) {
+            throw ResourceNotFoundException.receiverAccount();
+        }
+        if (receiverIds.containsValue(sender.getId())) {
+            throw new IllegalArgumentException("Cannot transfer money to yourself");
+        }
+
+        // 4. Lock and read the sender and every receiver in a fixed order
+        Set<Long> mikuIds = new HashSet<>(receiverIds.values());
+        mikuIds.add(sender.getId());
+        Map<Long, Account> accounts = accountRepository.lockAllByMikuIdInOrderById(mikuIds)
+                .stream()
+                .collect(Collectors.toMap(account -> account.getMiku().getId(), Function.identity()));
+
+        Account senderAccount = accounts.get(sender.getId());
+        if (senderAccount == null) {
+            throw ResourceNotFoundException.account();
+        }
+        if (accounts.size() != mikuIds.size()) {
+            throw ResourceNotFoundException.receiverAccount();
+        }
+
+        // 5. Score the batch as a whole, each item seeing the ones before it
+        List<RiskOperation> riskOperations = items.stream()
+                .map(item -> new RiskOperation(receiverIds.get(item.getReceiverPublicCode()), Money.of(item.getAmount())))
+                .toList();
+        riskScoringService.check(sender.getId(), riskOperations, request.getStepUpPassword());
+
+        // 6. Check limits, then move and record each item (validates sufficient funds internally)
+        List<TransferResponse> transfers = new ArrayList<>(items.size());
+        Money total = Money.ZERO;
+        for (int i = 0; i < items.size(); i++) {
+            Account receiverAccount = accounts.get(receiverIds.get(items.get(i).getReceiverPublicCode()));
+            Money amount = Money.of(items.get(i).getAmount());
+
+            validateMaxAmount(amount);
+            velocityLimitService.reserve(sender.getId(), VelocityOperation.TRANSFER, amount);
+
+            senderAccount.transfer(receiverAccount, amount);
+            transfers.add(recordTransfer(sender, senderAccount, receiverAccount, amount,
+                    idempotencyService.itemKey(idempotencyKey, i)));
+            total = total.plus(amount);
+        }
+
+        // 7. Write the final balances through to the cache, once per account
+        accounts.values().forEach(accountSnapshotCache::refreshAfterCommit);
+
+        return BatchTransferResponse.builder()
+                .transfers(transfers)
+                .total(total)
+                .build();
+    }
+
     // ==================== Transaction History ====================
 
     /**
      * Retrieves the transaction history for the authenticated user.
      * Returns transactions in descending order by creation date.
+     * Rows are projected directly by the query, so no entity graph is loaded per row.
      * 
      * @param page The page number (0-based)
      * @return Page of transaction history responses
      */
-    @Transactional
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
     public Page<TransactionHistoryResponse> getTransactionHistory(int page) {
-        Miku miku = authContextService.getAuthenticatedMiku();
-        
-        Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
-        
-        Page<Transaction> transactions = transactionRepository.findAllByMikuId(miku.getId(), pageable);
-        
-        return transactions.map(this::mapToHistoryResponse);
+        Long userId = authContextService.getAuthenticatedUserId();
+        if (userId == null) {
+            throw AuthenticationException.notAuthenticated();
+        }
+
+        return transactionRepository.findHistoryByMikuId(userId, historyPage(page));
     }
 
     /**
-     * Maps a Transaction entity to a TransactionHistoryResponse.
-     * Handles polymorphic transaction types.
+     * Retrieves the transaction history for the authenticated user as a Slice.
+     * Unlike {@link #getTransactionHistory(int)}, no COUNT query is issued:
+     * one extra row is fetched to know whether a next page exists.
+     * 
+     * @param page The page number (0-based)
+     * @return Slice of transaction history responses
      */
-    private TransactionHistoryResponse mapToHistoryResponse(Transaction transaction) {
-        TransactionHistoryResponse.TransactionHistoryResponseBuilder builder = TransactionHistoryResponse.builder()
-                .id(transaction.getId())
-                .amount(transaction.getAmount())
-                .createdAt(transaction.getCreatedAt());
-
-        if (transaction instanceof Deposit deposit) {
-            builder.transactionType("DEPOSIT")
-                   .owner(deposit.getMiku().getFullName());
-        } else if (transaction instanceof Withdraw withdraw) {
-            builder.transactionType("WITHDRAW")
-                   .owner(withdraw.getMiku().getFullName());
-        } else if (transaction instanceof Transfer transfer) {
-            builder.transactionType("TRANSFER")
-                   .from(transfer.getSender().getFullName())
-                   .to(transfer.getReceiver().getFullName());
+    @ReadOnlyTransaction
+    @Bulkhead(BulkheadPool.READS)
+    public Slice<TransactionHistoryResponse> getTransactionHistorySlice(int page) {
+        Long userId = authContextService.getAuthenticatedUserId();
+        if (userId == null) {
+            throw AuthenticationException.notAuthenticated();
         }
 
-        return builder.build();
+        return transactionRepository.findHistorySliceByMikuId(userId, historyPage(page));
     }
 
-    public void validateMaxAmount(BigDecimal amount){
-        BigDecimal limit = new BigDecimal("10000.00");
+    /**
+     * Sorting is already part of the history query, so the page request carries none.
+     */
+    private Pageable historyPage(int page) {
+        return PageRequest.of(page, PAGE_SIZE);
+    }
 
-        if(amount == null || amount.compareTo(limit) > 0 ) {
+    public void validateMaxAmount(Money amount){
+        if(amount == null || amount.isGreaterThan(MAX_TRANSACTION_AMOUNT)) {
             throw BusinessException.overMaxAmout();
         }
     }
@@ -0,0 +1,29 @@
+package com.example.mikusmoneybackend.transfer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferRequest {
+
+    public static final int MAX_ITEMS = 50;
+
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = MAX_ITEMS, message = "A batch can hold at most " + MAX_ITEMS + " transfers")
+    private List<@Valid @NotNull BatchTransferItem> items;
+
+    @NotBlank(message = "PIN code is required for sending money")
+    @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
+    private String pinCode;
+
+    /**
+     * Account password, only required when a transfer is flagged for a step-up.
+     */
+    private String stepUpPassword;
+}
@@ -0,0 +1,17 @@
+package com.example.mikusmoneybackend.transfer;
+
+import lombok.*;
+
+import com.example.mikusmoneybackend.money.Money;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferResponse {
+
+    private List<TransferResponse> transfers;
+    private Money total;
+}
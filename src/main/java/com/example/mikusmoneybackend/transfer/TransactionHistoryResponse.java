@@ -2,9 +2,9 @@ package com.example.mikusmoneybackend.transfer;
 
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.example.mikusmoneybackend.money.Money;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 @Data
@@ -16,7 +16,7 @@ public class TransactionHistoryResponse {
 
     private Long id;
     private String transactionType;
-    private BigDecimal amount;
+    private Money amount;
     private LocalDateTime createdAt;
     
     // For deposits and withdrawals
@@ -25,4 +25,7 @@ public class TransactionHistoryResponse {
     // For send transactions
     private String from;
     private String to;
+
+    // Balance of the requesting user's account right after this transaction
+    private Money balanceAfter;
 }
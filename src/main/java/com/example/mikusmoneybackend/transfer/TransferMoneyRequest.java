@@ -22,4 +22,9 @@ public class TransferMoneyRequest {
     @NotBlank(message = "PIN code is required for sending money")
     @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
     private String pinCode;
+
+    /**
+     * Account password, only required when the operation is flagged for a step-up.
+     */
+    private String stepUpPassword;
 }
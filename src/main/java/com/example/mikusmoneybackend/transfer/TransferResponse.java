@@ -2,7 +2,7 @@ package com.example.mikusmoneybackend.transfer;
 
 import lombok.*;
 
-import java.math.BigDecimal;
+import com.example.mikusmoneybackend.money.Money;
 
 @Data
 @NoArgsConstructor
@@ -11,5 +11,5 @@ import java.math.BigDecimal;
 public class TransferResponse {
 
     private Long id;
-    private BigDecimal amount;
+    private Money amount;
 }
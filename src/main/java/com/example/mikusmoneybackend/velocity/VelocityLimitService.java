@@ -0,0 +1,255 @@
+package com.example.mikusmoneybackend.velocity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mikusmoneybackend.account.BalanceSnapshotRepository;
+import com.example.mikusmoneybackend.config.VelocityProperties;
+import com.example.mikusmoneybackend.config.exception.BusinessException;
+import com.example.mikusmoneybackend.holds.HoldRepository;
+import com.example.mikusmoneybackend.money.Money;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enforces per-user hourly and daily amount and count caps on money movements.
+ * 
+ * Each user has, per operation type, a minute-granular window over the last hour
+ * and an hour-granular window over the last day, kept in memory. A check costs a
+ * fixed number of bucket reads and never touches the database, except for the first
+ * operation of a user (or the first after the user's counters were dropped for being
+ * idle), which seeds the windows from the last day of transactions.
+ * 
+ * Amounts are reserved when checked and released again if the surrounding
+ * transaction rolls back, so concurrent operations of the same user cannot
+ * both slip under the limit.
+ * 
+ * A hold counts as one withdrawal from its placement: capturing it keeps the count and
+ * gives back the uncaptured remainder, releasing or expiring it gives back everything.
+ * Seeding follows the same rule, counting pending holds and captured holds' withdrawals.
+ * 
+ * Counters are local to the instance: with several instances, each one enforces
+ * the limits on the operations it served since it seeded the user.
+ */
+@Slf4j
+@Service
+public class VelocityLimitService {
+
+    private static final long MINUTE_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final VelocityProperties properties;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final HoldRepository holdRepository;
+
+    /**
+     * Amount limits in minor units, converted once rather than on every check.
+     */
+    private final Map<VelocityOperation, AmountLimits> amountLimits = new EnumMap<>(VelocityOperation.class);
+
+    private final Map<Long, UserCounters> counters = new ConcurrentHashMap<>();
+
+    public VelocityLimitService(VelocityProperties properties, BalanceSnapshotRepository balanceSnapshotRepository,
+                                HoldRepository holdRepository) {
+        this.properties = properties;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.holdRepository = holdRepository;
+        properties.getLimits().forEach((operation, limit) -> amountLimits.put(operation, new AmountLimits(
+                Money.of(limit.getHourlyAmount()).minorUnits(), Money.of(limit.getDailyAmount()).minorUnits())));
+    }
+
+    // ==================== Check ====================
+
+    /**
+     * Reserves an operation against the user's limits.
+     * Must be called inside the transaction that performs the operation.
+     * 
+     * @param mikuId The user ID
+     * @param operation The operation type
+     * @param amount The operation amount
+     * @throws BusinessException if the operation would exceed a limit
+     */
+    public void reserve(Long mikuId, VelocityOperation operation, Money amount) {
+        VelocityProperties.Limit limit = properties.getLimits().get(operation);
+        if (!properties.isEnabled() || limit == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        OperationCounters operationCounters = countersOf(mikuId, now).get(operation);
+        long minor = amount.minorUnits();
+
+        // 1. Add first, then check: two concurrent operations can both be rejected, never both accepted
+        long minuteSlot = operationCounters.lastHour.slotOf(now);
+        long hourSlot = operationCounters.lastDay.slotOf(now);
+        operationCounters.lastHour.add(minuteSlot, minor, 1);
+        operationCounters.lastDay.add(hourSlot, minor, 1);
+
+        // 2. Check both windows, including this operation
+        String exceeded = exceeded(limit, amountLimits.get(operation),
+                operationCounters.lastHour.sum(minuteSlot), operationCounters.lastDay.sum(hourSlot));
+        if (exceeded != null) {
+            operationCounters.release(minuteSlot, hourSlot, minor, 1);
+            throw BusinessException.velocityLimitExceeded(operation.name().toLowerCase(), exceeded);
+        }
+
+        // 3. Give the reservation back if the operation does not commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        operationCounters.release(minuteSlot, hourSlot, minor, 1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gives back part or all of an earlier reservation once the surrounding transaction
+     * commits (immediately when there is none), e.g. when a hold ends without being
+     * fully captured. The amount is taken from the slots of the reservation's time,
+     * so nothing happens once they have left the window.
+     * 
+     * @param mikuId The user ID
+     * @param operation The operation type of the reservation
+     * @param amount The amount to give back
+     * @param count 1 to give back the operation itself as well, 0 to keep counting it
+     * @param reservedAt When the reservation was made
+     */
+    public void releaseAfterCommit(Long mikuId, VelocityOperation operation, Money amount, int count,
+                                   LocalDateTime reservedAt) {
+        if (!properties.isEnabled() || properties.getLimits().get(operation) == null) {
+            return;
+        }
+        long at = reservedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long minor = amount.minorUnits();
+        Runnable release = () -> {
+            UserCounters user = counters.get(mikuId);
+            // Counters seeded after this commit do not include the reservation anyway
+            if (user != null) {
+                OperationCounters operationCounters = user.operations.get(operation);
+                operationCounters.release(
+                        operationCounters.lastHour.slotOf(at), operationCounters.lastDay.slotOf(at), minor, count);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release.run();
+            }
+        });
+    }
+
+    private String exceeded(VelocityProperties.Limit limit, AmountLimits amounts, long[] lastHour, long[] lastDay) {
+        if (lastHour[1] > limit.getHourlyCount()) {
+            return "hourly count";
+        }
+        if (lastHour[0] > amounts.hourly()) {
+            return "hourly amount";
+        }
+        if (lastDay[1] > limit.getDailyCount()) {
+            return "daily count";
+        }
+        if (lastDay[0] > amounts.daily()) {
+            return "daily amount";
+        }
+        return null;
+    }
+
+    // ==================== Counters ====================
+
+    private Map<VelocityOperation, OperationCounters> countersOf(Long mikuId, long now) {
+        UserCounters existing = counters.get(mikuId);
+        if (existing == null) {
+            // Seeded outside the map so the query does not block other users' entries;
+            // if another request seeded the same user meanwhile, its counters win
+            UserCounters seeded = seed(mikuId, now);
+            existing = counters.putIfAbsent(mikuId, seeded);
+            if (existing == null) {
+                existing = seeded;
+            }
+        }
+        existing.lastUsed = now;
+        return existing.operations;
+    }
+
+    private UserCounters seed(Long mikuId, long now) {
+        UserCounters seeded = new UserCounters();
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofDays(1));
+        ZoneId zone = ZoneId.systemDefault();
+
+        List<VelocitySeedRow> rows = new ArrayList<>(balanceSnapshotRepository.findVelocitySeed(mikuId, since));
+        rows.addAll(holdRepository.findVelocitySeed(mikuId, since));
+        for (VelocitySeedRow row : rows) {
+            OperationCounters operationCounters = seeded.operations.get(VelocityOperation.valueOf(row.operation()));
+            long at = row.createdAt().atZone(zone).toInstant().toEpochMilli();
+            long minor = row.amount().minorUnits();
+            operationCounters.lastHour.add(operationCounters.lastHour.slotOf(at), minor, 1);
+            operationCounters.lastDay.add(operationCounters.lastDay.slotOf(at), minor, 1);
+        }
+
+        log.debug("Seeded velocity counters of user {}", mikuId);
+        return seeded;
+    }
+
+    /**
+     * Drops the counters of users without recent activity.
+     */
+    @Scheduled(fixedDelayString = "${velocity.eviction-interval:5m}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - properties.getIdleTimeout().toMillis();
+        counters.values().removeIf(user -> user.lastUsed < cutoff);
+    }
+
+    /**
+     * Number of users with counters in memory.
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    private record AmountLimits(long hourly, long daily) {
+    }
+
+    private static final class UserCounters {
+
+        private final Map<VelocityOperation, OperationCounters> operations = new EnumMap<>(VelocityOperation.class);
+
+        private volatile long lastUsed;
+
+        private UserCounters() {
+            for (VelocityOperation operation : VelocityOperation.values()) {
+                operations.put(operation, new OperationCounters());
+            }
+        }
+    }
+
+    private static final class OperationCounters {
+
+        private final VelocityWindow lastHour = new VelocityWindow(MINUTE_MILLIS, 60);
+        private final VelocityWindow lastDay = new VelocityWindow(HOUR_MILLIS, 24);
+
+        private void release(long minuteSlot, long hourSlot, long minor, int count) {
+            lastHour.remove(minuteSlot, minor, count);
+            lastDay.remove(hourSlot, minor, count);
+        }
+    }
+}
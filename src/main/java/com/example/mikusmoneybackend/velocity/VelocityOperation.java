@@ -0,0 +1,11 @@
+package com.example.mikusmoneybackend.velocity;
+
+/**
+ * Money movements subject to velocity limits.
+ * Transfers only count for the sender.
+ */
+public enum VelocityOperation {
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER
+}
@@ -0,0 +1,11 @@
+package com.example.mikusmoneybackend.velocity;
+
+import java.time.LocalDateTime;
+
+import com.example.mikusmoneybackend.money.Money;
+
+/**
+ * Recent money movement of a user, used to seed the velocity counters.
+ */
+public record VelocitySeedRow(String operation, Money amount, LocalDateTime createdAt) {
+}
@@ -0,0 +1,86 @@
+package com.example.mikusmoneybackend.velocity;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free sliding-window counter of amount and count.
+ * Time is split into fixed-size slots kept in a ring; a bucket belonging to an
+ * older slot is treated as empty and reused by the next slot mapped to it.
+ * Buckets are immutable and replaced by compare-and-set, so concurrent updates
+ * never lose increments and never block.
+ */
+class VelocityWindow {
+
+    private final long slotMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    VelocityWindow(long slotMillis, int slots) {
+        this.slotMillis = slotMillis;
+        this.buckets = new AtomicReferenceArray<>(slots);
+    }
+
+    /**
+     * Slot of the given instant; pass it back to {@link #add} and {@link #remove}.
+     */
+    long slotOf(long epochMillis) {
+        return epochMillis / slotMillis;
+    }
+
+    /**
+     * Adds to the bucket of the given slot.
+     */
+    void add(long slot, long amount, long count) {
+        int index = (int) (slot % buckets.length());
+        while (true) {
+            Bucket current = buckets.get(index);
+            Bucket next = current == null || current.slot() < slot
+                    ? new Bucket(slot, amount, count)
+                    : current.slot() == slot ? new Bucket(slot, current.amount() + amount, current.count() + count) : null;
+
+            // A newer slot already owns the bucket: the value is out of the window anyway
+            if (next == null || buckets.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a previous {@link #add}, if its slot is still in the ring.
+     */
+    void remove(long slot, long amount, long count) {
+        int index = (int) (slot % buckets.length());
+        while (true) {
+            Bucket current = buckets.get(index);
+            if (current == null || current.slot() != slot) {
+                return;
+            }
+            Bucket next = new Bucket(slot, current.amount() - amount, current.count() - count);
+            if (buckets.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sums the buckets of the last {@code ring size} slots, ending at the given one.
+     * Runs over a fixed number of buckets, independent of the user's activity.
+     * 
+     * @return {amount, count}
+     */
+    long[] sum(long currentSlot) {
+        long oldest = currentSlot - buckets.length() + 1;
+        long amount = 0;
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.slot() >= oldest && bucket.slot() <= currentSlot) {
+                amount += bucket.amount();
+                count += bucket.count();
+            }
+        }
+        return new long[] {amount, count};
+    }
+
+    private record Bucket(long slot, long amount, long count) {
+    }
+}
@@ -19,4 +19,9 @@ public class WithdrawRequest {
     @NotBlank(message = "PIN code is required for withdrawal")
     @Pattern(regexp = "^\\d{4,6}$", message = "PIN code must be 4-6 digits")
     private String pinCode;
+
+    /**
+     * Account password, only required when the operation is flagged for a step-up.
+     */
+    private String stepUpPassword;
 }
@@ -2,7 +2,7 @@ package com.example.mikusmoneybackend.withdraw;
 
 import lombok.*;
 
-import java.math.BigDecimal;
+import com.example.mikusmoneybackend.money.Money;
 
 @Data
 @NoArgsConstructor
@@ -11,5 +11,5 @@ import java.math.BigDecimal;
 public class WithdrawResponse {
 
     private Long id;
-    private BigDecimal amount;
+    private Money amount;
 }
@@ -0,0 +1,167 @@
+package com.example.mikusmoneybackend;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcProperties;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.MockMvcBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Base class of the integration tests: the whole application on an in-memory
+ * database (profile {@code test}), driven through MockMvc.
+ * All subclasses share one application context, so every test registers its own users.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(IntegrationTest.MockMvcConfig.class)
+public abstract class IntegrationTest {
+
+    public static final String PIN = "1234";
+    public static final String PASSWORD = "password1";
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JsonMapper jsonMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * A registered user and the cookie carrying their access token.
+     */
+    public record TestUser(Long id, String email, String publicCode, Cookie cookie) {
+    }
+
+    // ==================== Users ====================
+
+    protected TestUser register(String name) throws Exception {
+        return register(name, null);
+    }
+
+    /**
+     * Registers a user with the given email, e.g. one listed in the configuration.
+     */
+    protected TestUser register(String name, String fixedEmail) throws Exception {
+        int n = USERS.incrementAndGet();
+        String email = fixedEmail != null ? fixedEmail : name.toLowerCase() + n + "@test.local";
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"name":"%s","lastName":"Hatsune","birthDate":"1990-01-01",
+                             "email":"%s","phoneNumber":"+1555%07d",
+                             "password":"%s","passwordConfirmation":"%s",
+                             "pinCode":"%s","pinCodeConfirmation":"%s"}
+                            """.formatted(name, email, n, PASSWORD, PASSWORD, PIN, PIN)))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie cookie = result.getResponse().getCookie("AUTH-TOKEN");
+
+        JsonNode me = json(mockMvc.perform(get("/api/auth/me").cookie(cookie))
+                .andExpect(status().isOk())
+                .andReturn());
+        return new TestUser(me.get("id").asLong(), email, me.get("publicCode").asString(), cookie);
+    }
+
+    // ==================== Requests ====================
+
+    protected ResultActions perform(TestUser user, MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.cookie(user.cookie()));
+    }
+
+    protected ResultActions postJson(TestUser user, String path, String idempotencyKey, String body) throws Exception {
+        MockHttpServletRequestBuilder request = post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+        if (idempotencyKey != null) {
+            request.header("X-Idempotency-Key", idempotencyKey);
+        }
+        return perform(user, request);
+    }
+
+    protected void deposit(TestUser user, String amount) throws Exception {
+        postJson(user, "/api/transactions/deposit", key(),
+                "{\"amount\":" + amount + ",\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk());
+    }
+
+    protected void transfer(TestUser from, TestUser to, String amount) throws Exception {
+        postJson(from, "/api/transactions/transfer", key(),
+                "{\"amount\":" + amount + ",\"pinCode\":\"" + PIN + "\",\"receiverPublicCode\":\"" + to.publicCode() + "\"}")
+                .andExpect(status().isOk());
+    }
+
+    protected JsonNode account(TestUser user) throws Exception {
+        return json(perform(user, get("/api/account")).andExpect(status().isOk()).andReturn());
+    }
+
+    protected JsonNode json(MvcResult result) throws Exception {
+        return jsonMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    protected static String key() {
+        return "test-" + java.util.UUID.randomUUID();
+    }
+
+    // ==================== Statistics ====================
+
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Runs the action and returns the number of JDBC statements Hibernate prepared meanwhile.
+     */
+    protected long countStatements(ThrowingRunnable action) throws Exception {
+        long before = statistics().getPrepareStatementCount();
+        action.run();
+        return statistics().getPrepareStatementCount() - before;
+    }
+
+    @FunctionalInterface
+    protected interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    // ==================== Configuration ====================
+
+    /**
+     * MockMvc builds its own dispatcher servlet; apply the application's setting so that
+     * request-handled events (which load the principal) are not published in tests either.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MockMvcConfig {
+
+        @Bean
+        MockMvcBuilderCustomizer requestHandledEventsCustomizer(WebMvcProperties properties) {
+            return builder -> builder.addDispatcherServletCustomizer(
+                    servlet -> servlet.setPublishEvents(properties.isPublishRequestHandledEvents()));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.mikusmoneybackend.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+import com.example.mikusmoneybackend.config.AdaptiveConcurrencyLimit;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Atomic batches report nothing as done when they roll back, and cannot mix reads with writes.
+ * Bodies above the maximum are refused before they are buffered.
+ */
+class BatchServiceTest extends IntegrationTest {
+
+    private static final String PATH = "/api/batch";
+
+    @Autowired
+    private AdaptiveConcurrencyLimit adaptiveConcurrencyLimit;
+
+    @Test
+    void rolledBackOperationsAreNotReportedAsDone() throws Exception {
+        TestUser user = register("Miku");
+        deposit(user, "10");
+
+        JsonNode response = json(postJson(user, PATH, null, """
+                {"operations":[
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":5,"pinCode":"%s"}},
+                  {"method":"POST","path":"/api/transactions/withdraw","idempotencyKey":"%s","body":{"amount":100,"pinCode":"%s"}},
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":5,"pinCode":"%s"}}]}
+                """.formatted(key(), PIN, key(), PIN, key(), PIN))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        JsonNode results = response.get("results");
+        assertThat(response.get("successful").asBoolean()).isFalse();
+        assertThat(results.get(0).get("status").asInt()).isEqualTo(409);
+        assertThat(results.get(0).has("body")).isFalse();
+        assertThat(results.get(1).get("status").asInt()).isBetween(400, 499);
+        assertThat(results.get(1).has("error")).isTrue();
+        assertThat(results.get(2).get("status").asInt()).isEqualTo(424);
+        assertThat(account(user).get("totalMoney").decimalValue()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void atomicBatchCannotMixReadsWithWrites() throws Exception {
+        TestUser user = register("Rin");
+
+        postJson(user, PATH, null, """
+                {"operations":[
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":5,"pinCode":"%s"}},
+                  {"method":"GET","path":"/api/transactions/history"}]}
+                """.formatted(key(), PIN))
+                .andExpect(status().isBadRequest());
+
+        assertThat(account(user).get("totalMoney").decimalValue()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void nonAtomicBatchMayMixReadsWithWrites() throws Exception {
+        TestUser user = register("Len");
+
+        JsonNode response = json(postJson(user, PATH, null, """
+                {"atomic":false,"operations":[
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":5,"pinCode":"%s"}},
+                  {"method":"GET","path":"/api/account"}]}
+                """.formatted(key(), PIN))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        assertThat(response.get("successful").asBoolean()).isTrue();
+        assertThat(response.get("results").get(1).get("body").get("totalMoney").decimalValue()).isEqualByComparingTo("5");
+    }
+
+    @Test
+    void oversizedBodyIsRefused() throws Exception {
+        TestUser user = register("Luka");
+        String padding = " ".repeat(64 * 1024);
+
+        postJson(user, PATH, null, """
+                {"operations":[
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":5,"pinCode":"%s"}}]%s}
+                """.formatted(key(), PIN, padding))
+                .andExpect(status().isContentTooLarge());
+
+        assertThat(adaptiveConcurrencyLimit.getInFlight()).isZero();
+        assertThat(account(user).get("totalMoney").decimalValue()).isEqualByComparingTo("0");
+    }
+}
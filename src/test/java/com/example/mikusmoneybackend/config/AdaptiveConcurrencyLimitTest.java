@@ -0,0 +1,89 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final int WINDOW = 8;
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(10).toNanos();
+
+    private final LoadSheddingProperties properties = new LoadSheddingProperties();
+    private AdaptiveConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        properties.setInitialLimit(12);
+        properties.setMinLimit(WINDOW);
+        properties.setMaxLimit(16);
+        properties.setTolerance(2.0);
+        properties.setSmoothing(1.0);
+        properties.setWindow(Duration.ZERO);
+        properties.setWindowSamples(WINDOW);
+        limit = new AdaptiveConcurrencyLimit(properties);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsUpToTheMaximum() {
+        window(FAST);
+        assertThat(limit.getLimit()).isEqualTo(15);
+
+        window(FAST);
+        assertThat(limit.getLimit()).isEqualTo(16);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesDownToTheMinimum() {
+        window(FAST);
+        window(SLOW);
+        assertThat(limit.getLimit()).isLessThan(15);
+
+        for (int i = 0; i < 5; i++) {
+            window(SLOW);
+        }
+        assertThat(limit.getLimit()).isEqualTo(WINDOW);
+    }
+
+    @Test
+    void quietWindowsLeaveTheLimitAlone() {
+        window(FAST);
+        for (int i = 0; i < WINDOW; i++) {
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+            limit.release(SLOW);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(15);
+    }
+
+    @Test
+    void shareCapsThePermitsOfItsCallers() {
+        for (int i = 0; i < 6; i++) {
+            assertThat(limit.tryAcquire(0.5)).isTrue();
+        }
+
+        assertThat(limit.tryAcquire(0.5)).isFalse();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        assertThat(limit.fitsShare(1.0)).isTrue();
+        assertThat(limit.fitsShare(0.5)).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(7);
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Closes one window with all of its samples in flight at once, so the window counts.
+     */
+    private void window(long rttNanos) {
+        for (int i = 0; i < WINDOW; i++) {
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+        }
+        for (int i = 0; i < WINDOW; i++) {
+            limit.release(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final BulkheadProperties properties = new BulkheadProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        properties.setMaxConnections(Map.of(BulkheadPool.READS, 2, BulkheadPool.MONEY, 1));
+        properties.setAcquireTimeout(Duration.ofMillis(100));
+        dataSource = new BulkheadDataSource(target, properties);
+        dataSource.registerMetrics(meterRegistry);
+    }
+
+    @Test
+    void exhaustedPartitionDoesNotTakeFromTheOthers() throws SQLException {
+        connect(BulkheadPool.READS);
+        connect(BulkheadPool.READS);
+
+        assertThatThrownBy(() -> connect(BulkheadPool.READS))
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("reads");
+        assertThat(connect(BulkheadPool.MONEY)).isNotNull();
+        assertThat(dataSource.getInUse(BulkheadPool.READS)).isEqualTo(2);
+        assertThat(meterRegistry.counter("db.bulkhead.rejected", "pool", "reads").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("db.bulkhead.rejected", "pool", "money").count()).isZero();
+    }
+
+    @Test
+    void closingAConnectionReturnsItsPermitOnce() throws SQLException {
+        Connection first = connect(BulkheadPool.MONEY);
+
+        first.close();
+        first.close();
+        connect(BulkheadPool.MONEY);
+
+        assertThat(dataSource.getInUse(BulkheadPool.MONEY)).isEqualTo(1);
+        assertThatThrownBy(() -> connect(BulkheadPool.MONEY)).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void waitingCallerGetsThePermitOnceReleased() throws Exception {
+        properties.setAcquireTimeout(Duration.ofSeconds(5));
+        dataSource = new BulkheadDataSource(target, properties);
+        Connection held = connect(BulkheadPool.MONEY);
+
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return connect(BulkheadPool.MONEY);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.getWaiting(BulkheadPool.MONEY) == 0) {
+            Thread.sleep(5);
+        }
+        held.close();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(dataSource.getInUse(BulkheadPool.MONEY)).isEqualTo(1);
+    }
+
+    @Test
+    void failedConnectReturnsThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("database down"));
+
+        assertThatThrownBy(() -> connect(BulkheadPool.MONEY)).hasMessage("database down");
+        assertThat(dataSource.getInUse(BulkheadPool.MONEY)).isZero();
+    }
+
+    @Test
+    void unlistedPartitionGetsOneConnection() {
+        assertThat(dataSource.getMaxConnections(BulkheadPool.JOBS)).isEqualTo(1);
+        assertThat(dataSource.getMaxConnections(BulkheadPool.READS)).isEqualTo(2);
+    }
+
+    // ==================== Private Helpers ====================
+
+    private Connection connect(BulkheadPool pool) throws SQLException {
+        BulkheadPool previous = BulkheadContext.enter(pool);
+        try {
+            return dataSource.getConnection();
+        } finally {
+            BulkheadContext.restore(previous);
+        }
+    }
+}
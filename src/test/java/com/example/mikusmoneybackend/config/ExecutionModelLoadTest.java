@@ -0,0 +1,115 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * Drives the running server over HTTP with many concurrent clients and reports
+ * throughput and latency percentiles of one execution model (see {@link ThreadingConfig}).
+ * Subclasses pick the model; compare their log lines to compare the models.
+ * 
+ * The database is the in-memory H2 of the test profile, so the figures compare the
+ * models with each other, not with production.
+ * 
+ * Tagged {@code load}: left out of the default build, run with {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class ExecutionModelLoadTest extends IntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModelLoadTest.class);
+
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int WARM_UP_REQUESTS = 100;
+
+    @LocalServerPort
+    private int port;
+
+    /**
+     * @return Name of the execution model in the report
+     */
+    protected abstract String model();
+
+    @Test
+    void servesConcurrentClients() throws Exception {
+        TestUser sender = register("Miku");
+        TestUser receiver = register("Rin");
+        deposit(sender, "100");
+        for (int i = 0; i < 5; i++) {
+            transfer(sender, receiver, "1");
+        }
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/transactions/history/slice"))
+                .header("Cookie", sender.cookie().getName() + "=" + sender.cookie().getValue())
+                .GET()
+                .build();
+
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        List<Future<Integer>> failures = new ArrayList<>(CLIENTS);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                failures.add(executor.submit(() -> {
+                    int failed = 0;
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[offset + i] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            failed++;
+                        }
+                    }
+                    return failed;
+                }));
+            }
+
+            int failed = 0;
+            for (Future<Integer> result : failures) {
+                failed += result.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            log.info("{}: {} requests from {} clients in {} ms, {} req/s, p50 {} ms, p99 {} ms",
+                    model(), latencies.length, CLIENTS, elapsed / 1_000_000,
+                    Math.round(latencies.length / (elapsed / 1e9)),
+                    percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99));
+
+            assertThat(failed).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return Math.round(sorted[index] / 10_000.0) / 100.0;
+    }
+}
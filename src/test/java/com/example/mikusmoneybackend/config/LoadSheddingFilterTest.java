@@ -0,0 +1,123 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+class LoadSheddingFilterTest {
+
+    private static final int LIMIT = 10;
+
+    private final LoadSheddingProperties properties = new LoadSheddingProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private AdaptiveConcurrencyLimit limit;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setInitialLimit(LIMIT);
+        properties.setMinLimit(LIMIT);
+        properties.setMaxLimit(LIMIT);
+        properties.setDefaultShare(0.8);
+        properties.setBulkShare(0.5);
+        properties.setRetryAfter(Duration.ofMillis(1500));
+        limit = new AdaptiveConcurrencyLimit(properties);
+        filter = new LoadSheddingFilter(limit, properties, new BatchProperties(), jsonMapper, meterRegistry);
+    }
+
+    @Test
+    void bulkReadsAreShedFirst() throws Exception {
+        hold(5);
+
+        MockHttpServletResponse history = send(get("/api/transactions/history"));
+        MockHttpServletResponse account = send(get("/api/account"));
+
+        assertThat(history.getStatus()).isEqualTo(503);
+        assertThat(history.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(history.getContentAsString()).contains("OVERLOADED");
+        assertThat(account.getStatus()).isEqualTo(200);
+        assertThat(shed("bulk")).isEqualTo(1);
+        assertThat(limit.getInFlight()).isEqualTo(5);
+    }
+
+    @Test
+    void moneyMovementsUseTheWholeLimit() throws Exception {
+        hold(8);
+
+        assertThat(send(get("/api/account")).getStatus()).isEqualTo(503);
+        assertThat(send(post("/api/transactions/transfer", "{}")).getStatus()).isEqualTo(200);
+
+        hold(2);
+        assertThat(send(post("/api/transactions/transfer", "{}")).getStatus()).isEqualTo(503);
+        assertThat(shed("default")).isEqualTo(1);
+        assertThat(shed("money")).isEqualTo(1);
+    }
+
+    @Test
+    void batchTakesThePriorityOfItsLeastImportantOperation() throws Exception {
+        hold(5);
+
+        MockHttpServletResponse reads = send(post("/api/batch", """
+                {"operations":[{"method":"POST","path":"/api/transactions/deposit"},
+                               {"method":"GET","path":"/api/transactions/history"}]}
+                """));
+        MockHttpServletResponse deposits = send(post("/api/batch", """
+                {"operations":[{"method":"POST","path":"/api/transactions/deposit"}]}
+                """));
+
+        assertThat(reads.getStatus()).isEqualTo(503);
+        assertThat(deposits.getStatus()).isEqualTo(200);
+        assertThat(limit.getInFlight()).isEqualTo(5);
+    }
+
+    @Test
+    void healthChecksAreNeverShed() throws Exception {
+        hold(LIMIT);
+
+        assertThat(send(get("/actuator/health")).getStatus()).isEqualTo(200);
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Takes permits as if other requests were in flight.
+     */
+    private void hold(int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+        }
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private static MockHttpServletRequest post(String path, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private double shed(String priority) {
+        return meterRegistry.counter("http.requests.shed", "priority", priority).count();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.mikusmoneybackend.config;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Requests served by Tomcat's platform thread pool.
+ */
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "load-shedding.enabled=false"
+})
+class PlatformThreadsLoadTest extends ExecutionModelLoadTest {
+
+    @Override
+    protected String model() {
+        return "platform threads";
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * Read/write splitting over two in-memory databases. The replica is a copy of the
+ * primary taken by the test, so both diverge as soon as the primary is written to:
+ * a read shows which database served it. The replica's lag is read from a table
+ * the test controls.
+ */
+@TestPropertySource(properties = {
+    "replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+    "replica.username=sa",
+    "replica.password=",
+    "replica.lag-query=SELECT seconds FROM replica_lag",
+    "replica.max-lag=2s",
+    "replica.sticky-window=300ms",
+    "replica.lag-check-interval=1h"
+})
+class ReplicaRoutingTest extends IntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:mikusmoney-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final long STICKY_WINDOW_MILLIS = 300;
+
+    @Autowired
+    private ReplicaConfig.Pools pools;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    /**
+     * Users are registered while the replica is out of use: registering is not sticky,
+     * and a stale copy does not know the new user yet.
+     */
+    @BeforeEach
+    void bypassReplica() {
+        replica.execute("DROP TABLE IF EXISTS replica_lag");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void readsGoToTheReplicaOutsideTheStickyWindow() throws Exception {
+        TestUser user = register("Miku");
+        deposit(user, "10");
+        replicate(0);
+        deposit(user, "20");
+
+        assertThat(historySize(user)).isEqualTo(2);
+
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+        assertThat(historySize(user)).isEqualTo(1);
+    }
+
+    @Test
+    void readsGoToThePrimaryWhileTheReplicaLags() throws Exception {
+        TestUser user = register("Rin");
+        deposit(user, "10");
+        replicate(10);
+        deposit(user, "20");
+
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+        assertThat(historySize(user)).isEqualTo(2);
+
+        setLag(0);
+        assertThat(historySize(user)).isEqualTo(1);
+    }
+
+    @Test
+    void readsGoToThePrimaryWhenTheReplicaIsDown() throws Exception {
+        TestUser user = register("Len");
+        deposit(user, "10");
+        replicate(0);
+        deposit(user, "20");
+        replica.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.check();
+
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+        assertThat(replicaLagMonitor.isUsable()).isFalse();
+        assertThat(historySize(user)).isEqualTo(2);
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Replaces the replica with a copy of the primary and reports the given lag.
+     */
+    private void replicate(int lagSeconds) {
+        List<String> script = new JdbcTemplate(pools.primary()).queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+        replica.execute("CREATE TABLE replica_lag (seconds INT NOT NULL)");
+        replica.update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        replicaLagMonitor.check();
+    }
+
+    private void setLag(int lagSeconds) {
+        replica.update("UPDATE replica_lag SET seconds = ?", lagSeconds);
+        replicaLagMonitor.check();
+    }
+
+    private int historySize(TestUser user) throws Exception {
+        return json(perform(user, get("/api/transactions/history/slice"))
+                .andExpect(status().isOk())
+                .andReturn()).get("content").size();
+    }
+}
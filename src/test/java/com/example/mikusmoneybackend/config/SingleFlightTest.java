@@ -0,0 +1,143 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final String FLIGHT = "test";
+    private static final int FOLLOWERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccountCacheProperties properties = new AccountCacheProperties();
+    private final UserChangeTracker tracker = new UserChangeTracker(mock(AccountSnapshotCache.class), properties);
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry, tracker);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> callers = startCallers(() -> singleFlight.execute(FLIGHT, 1L, () -> {
+            runs.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        release.countDown();
+
+        for (Future<String> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void followersGetTheLeadersException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> callers = startCallers(() -> singleFlight.execute(FLIGHT, 1L, () -> {
+            await(release);
+            throw failure;
+        }));
+        release.countDown();
+
+        for (Future<String> caller : callers) {
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+    }
+
+    @Test
+    void finishedComputationIsNotCached() {
+        AtomicInteger runs = new AtomicInteger();
+
+        singleFlight.execute(FLIGHT, 1L, runs::incrementAndGet);
+        singleFlight.execute(FLIGHT, 1L, runs::incrementAndGet);
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void callerAfterAChangeDoesNotJoinAnEarlierComputation() throws Exception {
+        properties.setTtl(Duration.ofHours(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> before = executor.submit(() -> singleFlight.executeForUser(FLIGHT, 1L, () -> {
+            started.countDown();
+            await(release);
+            return "before";
+        }));
+        await(started);
+        tracker.markChangedAfterCommit(1L);
+
+        String after = singleFlight.executeForUser(FLIGHT, 1L, () -> "after");
+        release.countDown();
+
+        assertThat(after).isEqualTo("after");
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Starts a leader, then followers once it is in flight, and waits until all followers joined it.
+     */
+    private List<Future<String>> startCallers(Supplier<String> call) throws InterruptedException {
+        List<Future<String>> callers = new ArrayList<>();
+        callers.add(executor.submit(call::get));
+        while (calls("leader") < 1) {
+            Thread.sleep(5);
+        }
+        for (int i = 0; i < FOLLOWERS; i++) {
+            callers.add(executor.submit(call::get));
+        }
+        while (calls("follower") < FOLLOWERS) {
+            Thread.sleep(5);
+        }
+        return callers;
+    }
+
+    private double calls(String role) {
+        return meterRegistry.counter("singleflight.calls", "flight", FLIGHT, "role", role).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Latch not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
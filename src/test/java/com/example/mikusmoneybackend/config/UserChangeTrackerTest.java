@@ -0,0 +1,51 @@
+package com.example.mikusmoneybackend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.account.AccountSnapshotCache;
+
+class UserChangeTrackerTest {
+
+    private final AccountCacheProperties properties = new AccountCacheProperties();
+    private final UserChangeTracker tracker = new UserChangeTracker(mock(AccountSnapshotCache.class), properties);
+
+    @Test
+    void changeProducesANewTag() {
+        properties.setTtl(Duration.ofHours(1));
+        String before = tracker.currentTag(1L);
+
+        tracker.markChangedAfterCommit(1L);
+
+        assertThat(tracker.currentTag(1L)).isNotEqualTo(before);
+        assertThat(tracker.currentTag(2L)).isNotEqualTo(tracker.currentTag(1L));
+    }
+
+    @Test
+    void countersOfTheCurrentWindowAreKept() {
+        properties.setTtl(Duration.ofHours(1));
+        tracker.markChangedAfterCommit(1L, 2L);
+        String tag = tracker.currentTag(1L);
+
+        tracker.evictStale();
+
+        assertThat(tracker.size()).isEqualTo(2);
+        assertThat(tracker.currentTag(1L)).isEqualTo(tag);
+    }
+
+    @Test
+    void countersOfEarlierWindowsAreDropped() throws InterruptedException {
+        properties.setTtl(Duration.ofMillis(500));
+        tracker.markChangedAfterCommit(1L, 2L, 3L);
+
+        Thread.sleep(600);
+        tracker.markChangedAfterCommit(3L);
+        tracker.evictStale();
+
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.mikusmoneybackend.config;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Requests served on virtual threads, with connections throttled by {@link ThrottledDataSource}.
+ * Spring Boot only honours the setting on Java 21 or later, so the test does not run before.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "load-shedding.enabled=false"
+})
+class VirtualThreadsLoadTest extends ExecutionModelLoadTest {
+
+    @Override
+    protected String model() {
+        return "virtual threads";
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mikusmoneybackend.holds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Holds reserve money without moving it, until they are captured or released.
+ */
+class HoldServiceTest extends IntegrationTest {
+
+    @Test
+    void partialCaptureBooksTheCapturedAmountAndReleasesTheRest() throws Exception {
+        TestUser user = register("Miku");
+        deposit(user, "100");
+
+        long holdId = place(user, "30");
+        JsonNode held = account(user);
+        assertThat(held.get("totalMoney").decimalValue()).isEqualByComparingTo("100");
+        assertThat(held.get("availableMoney").decimalValue()).isEqualByComparingTo("70");
+
+        JsonNode captured = json(postJson(user, "/api/holds/" + holdId + "/capture", null,
+                "{\"amount\":10,\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(captured.get("status").asString()).isEqualTo("CAPTURED");
+        assertThat(captured.get("withdrawId").isNull()).isFalse();
+
+        JsonNode after = account(user);
+        assertThat(after.get("totalMoney").decimalValue()).isEqualByComparingTo("90");
+        assertThat(after.get("availableMoney").decimalValue()).isEqualByComparingTo("90");
+        assertThat(after.get("heldMoney").decimalValue()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void captureIsNotBlockedByAClientUsingTheSameKey() throws Exception {
+        TestUser user = register("Kaito");
+        TestUser other = register("Meiko");
+        deposit(user, "100");
+        long holdId = place(user, "30");
+
+        postJson(other, "/api/transactions/deposit", "hold-" + holdId, "{\"amount\":1,\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk());
+        postJson(user, "/api/holds/" + holdId + "/capture", null, "{\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk());
+
+        assertThat(account(user).get("totalMoney").decimalValue()).isEqualByComparingTo("70");
+    }
+
+    @Test
+    void releaseReturnsTheMoney() throws Exception {
+        TestUser user = register("Rin");
+        deposit(user, "50");
+        long holdId = place(user, "50");
+
+        perform(user, post("/api/holds/" + holdId + "/release")).andExpect(status().isOk());
+
+        JsonNode after = account(user);
+        assertThat(after.get("totalMoney").decimalValue()).isEqualByComparingTo("50");
+        assertThat(after.get("availableMoney").decimalValue()).isEqualByComparingTo("50");
+        perform(user, post("/api/holds/" + holdId + "/release")).andExpect(status().isConflict());
+    }
+
+    @Test
+    void heldMoneyCannotBeSpent() throws Exception {
+        TestUser user = register("Len");
+        TestUser receiver = register("Luka");
+        deposit(user, "50");
+        place(user, "40");
+
+        postJson(user, "/api/transactions/transfer", key(),
+                "{\"amount\":20,\"pinCode\":\"" + PIN + "\",\"receiverPublicCode\":\"" + receiver.publicCode() + "\"}")
+                .andExpect(status().is4xxClientError());
+
+        assertThat(account(user).get("availableMoney").decimalValue()).isEqualByComparingTo("10");
+    }
+
+    private long place(TestUser user, String amount) throws Exception {
+        JsonNode hold = json(postJson(user, "/api/holds", null,
+                "{\"amount\":" + amount + ",\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk())
+                .andReturn());
+        return hold.get("id").asLong();
+    }
+}
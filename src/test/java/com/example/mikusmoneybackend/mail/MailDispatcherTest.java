@@ -0,0 +1,138 @@
+package com.example.mikusmoneybackend.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Queued mails reach an in-process SMTP server, a batch at a time, and stay queued
+ * for a retry while the server is unreachable.
+ */
+@TestPropertySource(properties = {
+    "spring.mail.port=3025",
+    "mail.queue.batch-size=2"
+})
+class MailDispatcherTest extends IntegrationTest {
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private MailQueueService mailQueueService;
+
+    @Autowired
+    private MailMessageRepository mailMessageRepository;
+
+    private final GreenMail smtp = new GreenMail(ServerSetupTest.SMTP);
+
+    @BeforeEach
+    void startSmtp() {
+        smtp.start();
+    }
+
+    @AfterEach
+    void stopSmtp() {
+        smtp.stop();
+    }
+
+    @Test
+    void passwordResetIsDeliveredOverSmtp() throws Exception {
+        TestUser user = register("Miku");
+
+        mockMvc.perform(post("/api/auth/forgot-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.email() + "\"}"))
+                .andExpect(status().isOk());
+        mailDispatcher.dispatch();
+
+        List<MimeMessage> received = receivedBy(user.email());
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getSubject()).isEqualTo(MailTemplate.PASSWORD_RESET.getSubject());
+        assertThat(GreenMailUtil.getBody(received.get(0))).contains("Hi Miku", "Your reset code is: ");
+        assertThat(statusOf(user.email())).containsExactly(MailStatus.SENT);
+    }
+
+    @Test
+    void queueIsDrainedBatchByBatch() {
+        List<String> recipients = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "batch" + i + "@mail.test.local")
+                .toList();
+        recipients.forEach(recipient -> mailQueueService.enqueue(recipient, MailTemplate.TRANSACTION_RECEIPT, receipt()));
+
+        mailDispatcher.dispatch();
+
+        for (String recipient : recipients) {
+            assertThat(receivedBy(recipient)).hasSize(1);
+            assertThat(statusOf(recipient)).containsExactly(MailStatus.SENT);
+        }
+    }
+
+    @Test
+    void duplicateIsQueuedOnce() {
+        String recipient = "dedup@mail.test.local";
+
+        assertThat(mailQueueService.enqueue(recipient, MailTemplate.TRANSACTION_RECEIPT, receipt(), "receipt-dedup")).isTrue();
+        assertThat(mailQueueService.enqueue(recipient, MailTemplate.TRANSACTION_RECEIPT, receipt(), "receipt-dedup")).isFalse();
+        mailDispatcher.dispatch();
+
+        assertThat(receivedBy(recipient)).hasSize(1);
+    }
+
+    @Test
+    void mailStaysQueuedWhileServerIsDown() {
+        String recipient = "down@mail.test.local";
+        smtp.stop();
+
+        mailQueueService.enqueue(recipient, MailTemplate.TRANSACTION_RECEIPT, receipt());
+        mailDispatcher.dispatch();
+
+        MailMessage mail = mailFor(recipient).get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isNotBlank();
+    }
+
+    // ==================== Private Helpers ====================
+
+    private static Map<String, String> receipt() {
+        return Map.of(
+                "name", "Miku",
+                "operation", "deposit",
+                "amount", "10.00",
+                "transactionId", "39",
+                "date", "2024-08-31 00:00");
+    }
+
+    private List<MimeMessage> receivedBy(String recipient) {
+        // Matches on the end of the address, so a full address selects its own mails
+        return List.of(smtp.getReceivedMessagesForDomain(recipient));
+    }
+
+    private List<MailMessage> mailFor(String recipient) {
+        return mailMessageRepository.findAll().stream()
+                .filter(mail -> mail.getRecipient().equals(recipient))
+                .toList();
+    }
+
+    private List<MailStatus> statusOf(String recipient) {
+        return mailFor(recipient).stream().map(MailMessage::getStatus).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mikusmoneybackend.miku;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+import com.example.mikusmoneybackend.account.Account;
+import com.example.mikusmoneybackend.credentials.Credential;
+
+/**
+ * The one-to-ones of {@link Miku} load lazily: each endpoint runs at most the statements
+ * it ran once they were made lazy, and never loads an association it does not use.
+ * A cached account is served without loading the user at all.
+ */
+class MikuAssociationsTest extends IntegrationTest {
+
+    @Test
+    void loginDoesNotLoadTheAccount() throws Exception {
+        TestUser user = register("Miku");
+
+        Loads loads = measure(() -> mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.email() + "\",\"pinCode\":\"" + PIN + "\"}"))
+                .andExpect(status().isOk()));
+
+        assertThat(loads.statements()).isLessThanOrEqualTo(1);
+        assertThat(loads.accounts()).isZero();
+    }
+
+    @Test
+    void currentUserDoesNotLoadTheAssociations() throws Exception {
+        TestUser user = register("Rin");
+
+        Loads loads = measure(() -> perform(user, get("/api/auth/me")).andExpect(status().isOk()));
+
+        assertThat(loads.statements()).isLessThanOrEqualTo(1);
+        assertThat(loads.accounts() + loads.credentials()).isZero();
+    }
+
+    @Test
+    void transferLoadsOnlyTheSendersCredential() throws Exception {
+        TestUser sender = register("Len");
+        TestUser receiver = register("Luka");
+        deposit(sender, "100");
+
+        Loads loads = measure(() -> transfer(sender, receiver, "1"));
+
+        assertThat(loads.statements()).isLessThanOrEqualTo(12);
+        assertThat(loads.credentials()).isEqualTo(1);
+        assertThat(loads.accounts()).isEqualTo(2);
+    }
+
+    @Test
+    void passwordRecoveryDoesNotLoadTheAccount() throws Exception {
+        TestUser user = register("Kaito");
+
+        Loads loads = measure(() -> mockMvc.perform(post("/api/auth/forgot-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.email() + "\"}"))
+                .andExpect(status().isOk()));
+
+        assertThat(loads.statements()).isLessThanOrEqualTo(4);
+        assertThat(loads.accounts()).isZero();
+    }
+
+    @Test
+    void readsDoNotLoadTheCredential() throws Exception {
+        TestUser user = register("Meiko");
+        deposit(user, "100");
+        postJson(user, "/api/savings-pigs", null, "{\"goal\":50,\"nameGoal\":\"Leek\"}")
+                .andExpect(status().isOk());
+
+        perform(user, get("/api/account")).andExpect(status().isOk());
+
+        Loads account = measure(() -> perform(user, get("/api/account")).andExpect(status().isOk()));
+        Loads history = measure(() -> perform(user, get("/api/transactions/history/slice")).andExpect(status().isOk()));
+        Loads pigs = measure(() -> perform(user, get("/api/savings-pigs")).andExpect(status().isOk()));
+
+        assertThat(account.statements()).isZero();
+        assertThat(history.statements()).isEqualTo(1);
+        assertThat(pigs.statements()).isLessThanOrEqualTo(2);
+        assertThat(account.credentials() + history.credentials() + pigs.credentials()).isZero();
+        assertThat(history.accounts() + pigs.accounts()).isZero();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Statements prepared and entities loaded by one request.
+     */
+    private record Loads(long statements, long accounts, long credentials) {
+    }
+
+    private Loads measure(ThrowingRunnable action) throws Exception {
+        long accounts = loadCount(Account.class);
+        long credentials = loadCount(Credential.class);
+        long statements = countStatements(action);
+        return new Loads(statements, loadCount(Account.class) - accounts, loadCount(Credential.class) - credentials);
+    }
+
+    private long loadCount(Class<?> entity) {
+        return statistics().getEntityStatistics(entity.getName()).getLoadCount();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.mikusmoneybackend.money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.mikusmoneybackend.account.Account;
+
+/**
+ * Compares a transfer on {@link Money} with the {@link BigDecimal} arithmetic it replaced:
+ * check the limit, check the funds, debit one balance and credit the other.
+ * Each invocation transfers there and back, so the balances never run out.
+ * 
+ * Not part of the regular build; run it with
+ * {@code mvn test -Dtest=MoneyBenchmark -Dbenchmark=true}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final Money MAX_TRANSACTION_AMOUNT = Money.ofMajor(10_000);
+
+    private BigDecimal decimalFrom;
+    private BigDecimal decimalTo;
+    private BigDecimal decimalAmount;
+
+    private Account from;
+    private Account to;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        decimalFrom = new BigDecimal("5000.00");
+        decimalTo = new BigDecimal("5000.00");
+        decimalAmount = new BigDecimal("12.34");
+
+        from = Account.builder().totalMoney(Money.ofMajor(5_000)).heldMoney(Money.ZERO).build();
+        to = Account.builder().totalMoney(Money.ofMajor(5_000)).heldMoney(Money.ZERO).build();
+        amount = Money.ofMinor(1_234);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        decimalTransfer(true);
+        decimalTransfer(false);
+        blackhole.consume(decimalFrom);
+    }
+
+    @Benchmark
+    public void money(Blackhole blackhole) {
+        moneyTransfer(from, to);
+        moneyTransfer(to, from);
+        blackhole.consume(from.getTotalMoney());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * The arithmetic of the transfer path before {@link Money}, limit parsed on every call.
+     */
+    private void decimalTransfer(boolean forward) {
+        BigDecimal limit = new BigDecimal("10000.00");
+        if (decimalAmount.compareTo(limit) > 0) {
+            throw new IllegalArgumentException("Over the limit");
+        }
+        BigDecimal source = forward ? decimalFrom : decimalTo;
+        if (source.compareTo(decimalAmount) < 0) {
+            throw new IllegalStateException("Insufficient balance");
+        }
+        if (forward) {
+            decimalFrom = decimalFrom.subtract(decimalAmount);
+            decimalTo = decimalTo.add(decimalAmount);
+        } else {
+            decimalTo = decimalTo.subtract(decimalAmount);
+            decimalFrom = decimalFrom.add(decimalAmount);
+        }
+    }
+
+    private void moneyTransfer(Account source, Account destination) {
+        if (amount.isGreaterThan(MAX_TRANSACTION_AMOUNT)) {
+            throw new IllegalArgumentException("Over the limit");
+        }
+        source.transfer(destination, amount);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.mikusmoneybackend.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class MoneyTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void decimalsConvertToMinorUnits() {
+        assertThat(Money.of(new BigDecimal("12.34")).minorUnits()).isEqualTo(1234);
+        assertThat(Money.of(new BigDecimal("12.3")).minorUnits()).isEqualTo(1230);
+        assertThat(Money.of(new BigDecimal("12")).minorUnits()).isEqualTo(1200);
+        assertThat(Money.of(new BigDecimal("12.3400")).minorUnits()).isEqualTo(1234);
+        assertThat(Money.of(new BigDecimal("-0.01")).minorUnits()).isEqualTo(-1);
+        assertThat(Money.of(new BigDecimal("1E+3")).minorUnits()).isEqualTo(100_000);
+    }
+
+    @Test
+    void tooPreciseOrTooLargeDecimalsAreRejected() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("decimal places");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+17")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Amount out of range");
+        assertThatThrownBy(() -> Money.of(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void convertsBackWithTwoFractionDigits() {
+        assertThat(Money.ofMinor(5).toBigDecimal()).isEqualTo(new BigDecimal("0.05"));
+        assertThat(Money.ofMajor(10_000).toString()).isEqualTo("10000.00");
+        assertThat(Money.ofMinor(-150).toString()).isEqualTo("-1.50");
+    }
+
+    @Test
+    void arithmeticIsOverflowChecked() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThat(Money.ofMinor(1_050).plus(Money.ofMinor(2)).minorUnits()).isEqualTo(1_052);
+        assertThat(Money.ofMinor(1).minus(Money.ofMinor(2)).isNegative()).isTrue();
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).hasMessage("Amount out of range");
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).negate()).hasMessage("Amount out of range");
+        assertThatThrownBy(() -> Money.ofMajor(Long.MAX_VALUE / 10)).hasMessage("Amount out of range");
+    }
+
+    @Test
+    void jsonKeepsTheDecimalFormat() {
+        assertThat(jsonMapper.writeValueAsString(Money.ofMinor(1_234))).isEqualTo("12.34");
+        assertThat(jsonMapper.readValue("12.34", Money.class)).isEqualTo(Money.ofMinor(1_234));
+        assertThat(jsonMapper.readValue("7", Money.class)).isEqualTo(Money.ofMajor(7));
+    }
+
+    @Test
+    void converterMapsToTheDecimalColumn() {
+        assertThat(converter.convertToDatabaseColumn(Money.ofMinor(1_234))).isEqualTo(new BigDecimal("12.34"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("12.34"))).isEqualTo(Money.ofMinor(1_234));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.mikusmoneybackend.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * A failing listener only affects its own event: the rest of the batch is delivered,
+ * the failure is recorded, and the event is dead-lettered after the last attempt.
+ */
+@TestPropertySource(properties = "outbox.max-attempts=2")
+class OutboxDispatcherTest extends IntegrationTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FlakyListener listener;
+
+    @Test
+    void failingListenerDoesNotUndoTheRestOfTheBatch() {
+        append(101L);
+        append(102L);
+        append(103L);
+        listener.failFor(102L);
+
+        outboxDispatcher.dispatch();
+
+        assertThat(listener.deliveries(101L)).isEqualTo(1);
+        assertThat(listener.deliveries(103L)).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId)
+                .containsExactly(102L);
+
+        OutboxEvent failed = event(102L);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(failed.getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void eventIsDeadLetteredAfterTheLastAttempt() {
+        append(201L);
+        listener.failFor(201L);
+
+        outboxDispatcher.dispatch();
+        makeAvailable(201L);
+        outboxDispatcher.dispatch();
+
+        OutboxEvent dead = event(201L);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(dead.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+
+        // Never claimed again
+        makeAvailable(201L);
+        outboxDispatcher.dispatch();
+        assertThat(event(201L).getAttempts()).isEqualTo(2);
+    }
+
+    // ==================== Helpers ====================
+
+    private void append(Long aggregateId) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.append(OutboxEventType.SAVINGS_PIG_CREATED, aggregateId, 1L, BigDecimal.ONE));
+    }
+
+    private OutboxEvent event(Long aggregateId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(aggregateId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void makeAvailable(Long aggregateId) {
+        OutboxEvent event = event(aggregateId);
+        event.setAvailableAt(LocalDateTime.now().minusSeconds(1));
+        outboxEventRepository.save(event);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ListenerConfig {
+
+        @Bean
+        FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+
+    /**
+     * Joins the dispatcher's transaction like the mail queue does, so a failure
+     * marks that transaction rollback-only.
+     */
+    static class FlakyListener implements OutboxListener {
+
+        private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+        private final Map<Long, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+        @Override
+        @Transactional
+        public void onEvent(OutboxEvent event) {
+            if (failing.contains(event.getAggregateId())) {
+                throw new IllegalStateException("Listener unavailable");
+            }
+            deliveries.computeIfAbsent(event.getAggregateId(), id -> new AtomicInteger()).incrementAndGet();
+        }
+
+        void failFor(Long aggregateId) {
+            failing.add(aggregateId);
+        }
+
+        int deliveries(Long aggregateId) {
+            AtomicInteger count = deliveries.get(aggregateId);
+            return count != null ? count.get() : 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.mikusmoneybackend.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+import com.example.mikusmoneybackend.transactions.IdempotencyService;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Payroll jobs credit every valid row once, whatever keys clients used before:
+ * a row that cannot be booked fails alone, and a resumed job skips the rows already credited.
+ */
+class PayrollProcessorTest extends IntegrationTest {
+
+    private static final String ADMIN_EMAIL = "admin@test.local";
+    private static final long JOB_TIMEOUT_MILLIS = 10_000;
+
+    private static TestUser admin;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PayrollProcessor payrollProcessor;
+
+    @Test
+    void clientCannotClaimThePayrollKeys() throws Exception {
+        TestUser employee = register("Miku");
+        long nextRowId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM payroll_rows", Long.class);
+
+        depositWithKey(employee, IdempotencyService.systemKey("payroll-" + nextRowId), 400);
+        depositWithKey(employee, "payroll-" + nextRowId, 200);
+
+        JsonNode job = runJob(employee.publicCode() + ",100.00\n");
+
+        assertThat(job.get("creditedRows").asLong()).isEqualTo(1);
+        assertThat(job.get("failedRows").asLong()).isZero();
+        assertThat(balance(employee)).isEqualByComparingTo("101");
+    }
+
+    @Test
+    void failingRowDoesNotBlockTheOthers() throws Exception {
+        TestUser first = register("Rin");
+        TestUser second = register("Len");
+        TestUser third = register("Luka");
+        long nextRowId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM payroll_rows", Long.class);
+
+        // The second row's key is taken, so booking it fails
+        jdbcTemplate.update("INSERT INTO transactions (type, amount, idempotency_key, created_at) VALUES ('DEPOSIT', 1, ?, ?)",
+                IdempotencyService.systemKey("payroll-" + (nextRowId + 1)), LocalDateTime.now());
+        JsonNode job = runJob(first.publicCode() + ",100.00\n"
+                + second.publicCode() + ",200.00\n"
+                + third.publicCode() + ",300.00\n");
+
+        assertThat(job.get("creditedRows").asLong()).isEqualTo(2);
+        assertThat(job.get("failedRows").asLong()).isEqualTo(1);
+        assertThat(job.get("failures").get(0).get("publicCode").asString()).isEqualTo(second.publicCode());
+        assertThat(balance(first)).isEqualByComparingTo("100");
+        assertThat(balance(second)).isEqualByComparingTo("0");
+        assertThat(balance(third)).isEqualByComparingTo("300");
+    }
+
+    @Test
+    void resumedJobCreditsOnlyThePendingRows() throws Exception {
+        TestUser first = register("Kaito");
+        TestUser second = register("Meiko");
+        long jobId = runJob(first.publicCode() + ",100.00\n").get("id").asLong();
+
+        // As if the job had stopped after its first chunk: one more row is still pending
+        jdbcTemplate.update("""
+                INSERT INTO payroll_rows (job_id, line_number, public_code, amount, account_id, status)
+                VALUES (?, 3, ?, 200.00, ?, 'PENDING')
+                """, jobId, second.publicCode(), account(second).get("id").asLong());
+        jdbcTemplate.update("UPDATE payroll_jobs SET status = 'RUNNING', finished_at = NULL WHERE id = ?", jobId);
+        payrollProcessor.resumeInterruptedJobs();
+        JsonNode job = awaitJob(jobId);
+
+        assertThat(job.get("creditedRows").asLong()).isEqualTo(2);
+        assertThat(job.get("pendingRows").asLong()).isZero();
+        assertThat(balance(first)).isEqualByComparingTo("100");
+        assertThat(balance(second)).isEqualByComparingTo("200");
+    }
+
+    // ==================== Private Helpers ====================
+
+    private BigDecimal balance(TestUser user) throws Exception {
+        return account(user).get("totalMoney").decimalValue();
+    }
+
+    private void depositWithKey(TestUser user, String key, int expectedStatus) throws Exception {
+        postJson(user, "/api/transactions/deposit", key, "{\"amount\":1,\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().is(expectedStatus));
+    }
+
+    /**
+     * Uploads a payroll file and waits until its job has finished.
+     */
+    private JsonNode runJob(String rows) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "payroll.csv", "text/csv",
+                ("receiverPublicCode,amount\n" + rows).getBytes(StandardCharsets.UTF_8));
+        long jobId = json(mockMvc.perform(multipart("/api/admin/payroll").file(file).cookie(admin().cookie()))
+                .andExpect(status().isAccepted())
+                .andReturn()).get("id").asLong();
+        return awaitJob(jobId);
+    }
+
+    private JsonNode awaitJob(long jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+        JsonNode job;
+        do {
+            Thread.sleep(50);
+            job = json(perform(admin(), get("/api/admin/payroll/" + jobId)).andExpect(status().isOk()).andReturn());
+        } while (!"COMPLETED".equals(job.get("status").asString()) && System.currentTimeMillis() < deadline);
+        return job;
+    }
+
+    private TestUser admin() throws Exception {
+        if (admin == null) {
+            admin = register("Admin", ADMIN_EMAIL);
+        }
+        return admin;
+    }
+}
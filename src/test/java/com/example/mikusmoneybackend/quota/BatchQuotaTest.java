@@ -0,0 +1,46 @@
+package com.example.mikusmoneybackend.quota;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * A batch is charged one token per operation, from each operation's own group.
+ */
+@TestPropertySource(properties = {
+        "quotas.enabled=true",
+        "quotas.groups.money.user.capacity=2",
+        "quotas.groups.money.user.refill-per-second=0.001",
+        "quotas.groups.auth.ip.capacity=100"
+})
+class BatchQuotaTest extends IntegrationTest {
+
+    @Test
+    void readsDoNotDrawTheMoneyQuota() throws Exception {
+        TestUser user = register("Miku");
+
+        postJson(user, "/api/batch", null, """
+                {"operations":[
+                  {"method":"GET","path":"/api/account"},
+                  {"method":"GET","path":"/api/account"},
+                  {"method":"GET","path":"/api/account"}]}
+                """)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void eachMoneyOperationDrawsTheMoneyQuota() throws Exception {
+        TestUser user = register("Rin");
+
+        postJson(user, "/api/batch", null, """
+                {"operations":[
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":1,"pinCode":"%s"}},
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":1,"pinCode":"%s"}},
+                  {"method":"POST","path":"/api/transactions/deposit","idempotencyKey":"%s","body":{"amount":1,"pinCode":"%s"}}]}
+                """.formatted(key(), PIN, key(), PIN, key(), PIN))
+                .andExpect(status().isTooManyRequests());
+    }
+}
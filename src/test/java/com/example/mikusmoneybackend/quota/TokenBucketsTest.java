@@ -0,0 +1,57 @@
+package com.example.mikusmoneybackend.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+
+    private static final double NO_REFILL = 1e-9;
+
+    @Test
+    void concurrentConsumersNeverTakeMoreThanTheCapacity() throws Exception {
+        TokenBuckets buckets = new TokenBuckets(1000, 4);
+        long now = System.nanoTime();
+        List<Future<Integer>> results = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    int taken = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (buckets.tryConsume("user", 50, NO_REFILL, now).allowed()) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+
+            int taken = 0;
+            for (Future<Integer> result : results) {
+                taken += result.get();
+            }
+            assertThat(taken).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        TokenBuckets buckets = new TokenBuckets(1000, 4);
+        buckets.tryConsume("old", 5, 1, 0);
+        buckets.tryConsume("new", 5, 1, 2_000);
+
+        buckets.evictIdle(1_000);
+
+        assertThat(buckets.size()).isEqualTo(1);
+    }
+}
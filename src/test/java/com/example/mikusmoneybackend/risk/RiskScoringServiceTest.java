@@ -0,0 +1,69 @@
+package com.example.mikusmoneybackend.risk;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.config.RiskProperties;
+import com.example.mikusmoneybackend.config.exception.RiskException;
+import com.example.mikusmoneybackend.money.Money;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RiskScoringServiceTest {
+
+    private static final Long USER = 1L;
+
+    private final RiskProperties properties = new RiskProperties();
+    private RiskScoringService service;
+
+    @BeforeEach
+    void setUp() {
+        // Three distinct receivers in the burst window reach the step-up score, nothing else applies
+        properties.setBurstReceivers(3);
+        properties.setStepUpScore(40);
+        properties.setBlockScore(80);
+        service = new RiskScoringService(properties, mock(AuthContextService.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void batchIsScoredAsAWhole() {
+        List<RiskOperation> batch = List.of(pay(10L), pay(11L), pay(12L));
+
+        assertThatThrownBy(() -> service.check(USER, batch, null))
+                .isInstanceOf(RiskException.class)
+                .extracting("errorCode").isEqualTo("STEP_UP_REQUIRED");
+    }
+
+    @Test
+    void rejectedBatchLeavesTheFeaturesUntouched() {
+        assertThatThrownBy(() -> service.check(USER, List.of(pay(10L), pay(11L), pay(12L)), null))
+                .isInstanceOf(RiskException.class);
+
+        assertThatCode(() -> service.check(USER, List.of(pay(13L), pay(14L)), null))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void unattendedTransferIsOnlyStoppedAtTheBlockScore() {
+        service.checkUnattended(USER, 10L, Money.ofMajor(5));
+        service.checkUnattended(USER, 11L, Money.ofMajor(5));
+        assertThatCode(() -> service.checkUnattended(USER, 12L, Money.ofMajor(5)))
+                .doesNotThrowAnyException();
+
+        properties.setBlockScore(40);
+        assertThatThrownBy(() -> service.checkUnattended(USER, 13L, Money.ofMajor(5)))
+                .isInstanceOf(RiskException.class)
+                .extracting("errorCode").isEqualTo("RISK_BLOCKED");
+    }
+
+    private static RiskOperation pay(Long receiverId) {
+        return new RiskOperation(receiverId, Money.ofMajor(5));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.mikusmoneybackend.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * Runs of standing orders: each run books one transfer and moves the order to its next
+ * date, a failed run is retried and then skipped, and a run is never booked twice.
+ */
+@TestPropertySource(properties = {
+    "scheduled-transfers.max-attempts=2",
+    "scheduled-transfers.retry-backoff=0s"
+})
+class ScheduledTransferRunnerTest extends IntegrationTest {
+
+    @Autowired
+    private ScheduledTransferRunner scheduledTransferRunner;
+
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void dueRunIsBookedAndTheOrderMovesToTheNextDate() throws Exception {
+        TestUser sender = register("Miku");
+        TestUser receiver = register("Rin");
+        deposit(sender, "100");
+        Long id = schedule(sender, receiver, "10", 2);
+
+        scheduledTransferRunner.runDue();
+        scheduledTransferRunner.runDue();
+
+        assertThat(balance(sender)).isEqualByComparingTo("90");
+        assertThat(balance(receiver)).isEqualByComparingTo("10");
+        ScheduledTransfer order = order(id);
+        assertThat(order.getStatus()).isEqualTo(ScheduledTransferStatus.ACTIVE);
+        assertThat(order.getRunIndex()).isEqualTo(1);
+        assertThat(order.getRemainingRuns()).isEqualTo(1);
+        assertThat(order.getNextRunAt()).isEqualTo(LocalDate.now().plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void orderCompletesAfterItsLastRun() throws Exception {
+        TestUser sender = register("Len");
+        TestUser receiver = register("Luka");
+        deposit(sender, "100");
+        Long id = schedule(sender, receiver, "10", 1);
+
+        scheduledTransferRunner.runDue();
+
+        assertThat(balance(receiver)).isEqualByComparingTo("10");
+        assertThat(order(id).getStatus()).isEqualTo(ScheduledTransferStatus.COMPLETED);
+    }
+
+    @Test
+    void failedRunIsRetriedThenSkipped() throws Exception {
+        TestUser sender = register("Kaito");
+        TestUser receiver = register("Meiko");
+        deposit(sender, "5");
+        Long id = schedule(sender, receiver, "10", null);
+
+        scheduledTransferRunner.runDue();
+
+        ScheduledTransfer failed = order(id);
+        assertThat(failed.getRunIndex()).isZero();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isNotBlank();
+
+        Thread.sleep(10);
+        scheduledTransferRunner.runDue();
+
+        ScheduledTransfer skipped = order(id);
+        assertThat(skipped.getRunIndex()).isEqualTo(1);
+        assertThat(skipped.getAttempts()).isZero();
+        assertThat(skipped.getStatus()).isEqualTo(ScheduledTransferStatus.ACTIVE);
+        assertThat(balance(sender)).isEqualByComparingTo("5");
+        assertThat(balance(receiver)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void runBookedBeforeIsNotBookedAgain() throws Exception {
+        TestUser sender = register("Gumi");
+        TestUser receiver = register("Teto");
+        deposit(sender, "100");
+        Long id = schedule(sender, receiver, "10", null);
+        scheduledTransferRunner.runDue();
+
+        // As if the schedule had not been saved after the transfer was booked
+        transactionTemplate.executeWithoutResult(status -> {
+            ScheduledTransfer order = scheduledTransferRepository.findById(id).orElseThrow();
+            order.setRunIndex(0);
+            order.setNextRunAt(LocalDateTime.now().minusMinutes(1));
+        });
+        scheduledTransferRunner.runDue();
+
+        assertThat(balance(receiver)).isEqualByComparingTo("10");
+        assertThat(order(id).getRunIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void runIsNotBlockedByAClientUsingTheSameKey() throws Exception {
+        TestUser sender = register("Miki");
+        TestUser receiver = register("Iroha");
+        TestUser other = register("Yuki");
+        deposit(sender, "100");
+        Long id = schedule(sender, receiver, "10", null);
+
+        postJson(other, "/api/transactions/deposit", "sched-" + id + "-0", "{\"amount\":1,\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk());
+        scheduledTransferRunner.runDue();
+
+        assertThat(balance(receiver)).isEqualByComparingTo("10");
+        assertThat(order(id).getLastError()).isNull();
+    }
+
+    @Test
+    void cancelledOrderDoesNotRun() throws Exception {
+        TestUser sender = register("Haku");
+        TestUser receiver = register("Neru");
+        deposit(sender, "100");
+        Long id = schedule(sender, receiver, "10", null);
+
+        perform(sender, delete("/api/scheduled-transfers/" + id)).andExpect(status().isOk());
+        scheduledTransferRunner.runDue();
+
+        assertThat(balance(receiver)).isEqualByComparingTo("0");
+        assertThat(order(id).getStatus()).isEqualTo(ScheduledTransferStatus.CANCELLED);
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Schedules a daily order starting today, so its first run is due at once.
+     */
+    private Long schedule(TestUser sender, TestUser receiver, String amount, Integer occurrences) throws Exception {
+        String body = """
+            {"receiverPublicCode":"%s","amount":%s,"frequency":"DAILY","firstRunDate":"%s",
+             "occurrences":%s,"pinCode":"%s"}
+            """.formatted(receiver.publicCode(), amount, LocalDate.now(), occurrences, PIN);
+        return json(postJson(sender, "/api/scheduled-transfers", null, body)
+                .andExpect(status().isOk())
+                .andReturn()).get("id").asLong();
+    }
+
+    private ScheduledTransfer order(Long id) {
+        return scheduledTransferRepository.findById(id).orElseThrow();
+    }
+
+    private BigDecimal balance(TestUser user) throws Exception {
+        return account(user).get("totalMoney").decimalValue();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.mikusmoneybackend.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * A closed month explains its balance with its totals, opens at the previous month's
+ * closing balance, and is never closed twice.
+ */
+class StatementServiceTest extends IntegrationTest {
+
+    private static final LocalDate THIS_MONTH = LocalDate.now().withDayOfMonth(1);
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private StatementRepository statementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void totalsExplainTheMonth() throws Exception {
+        TestUser sender = register("Miku");
+        TestUser receiver = register("Rin");
+        deposit(sender, "100");
+        withdraw(sender, "20");
+        transfer(sender, receiver, "30");
+        deposit(receiver, "5");
+
+        assertThat(statementService.closeMonth(accountId(sender), THIS_MONTH)).isTrue();
+        assertThat(statementService.closeMonth(accountId(receiver), THIS_MONTH)).isTrue();
+
+        Statement sent = statement(sender, THIS_MONTH);
+        assertThat(sent.getOpeningBalance()).isEqualByComparingTo("0");
+        assertThat(sent.getClosingBalance()).isEqualByComparingTo("50");
+        assertThat(sent.getDepositsIn()).isEqualByComparingTo("100");
+        assertThat(sent.getWithdrawalsOut()).isEqualByComparingTo("20");
+        assertThat(sent.getTransfersIn()).isEqualByComparingTo("0");
+        assertThat(sent.getTransfersOut()).isEqualByComparingTo("30");
+        assertThat(sent.getSavingsNet()).isEqualByComparingTo("0");
+        assertThat(sent.getTransactionCount()).isEqualTo(3);
+
+        Statement received = statement(receiver, THIS_MONTH);
+        assertThat(received.getClosingBalance()).isEqualByComparingTo("35");
+        assertThat(received.getDepositsIn()).isEqualByComparingTo("5");
+        assertThat(received.getTransfersIn()).isEqualByComparingTo("30");
+        assertThat(received.getTransactionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nextMonthOpensAtThePreviousClosingBalance() throws Exception {
+        TestUser user = register("Len");
+        deposit(user, "100");
+        statementService.closeMonth(accountId(user), THIS_MONTH);
+
+        // The opening balance comes from the stored statement, not from the snapshots
+        jdbcTemplate.update("UPDATE statements SET closing_balance = 40 WHERE account_id = ? AND period_start = ?",
+                accountId(user), THIS_MONTH);
+        assertThat(statementService.closeMonth(accountId(user), THIS_MONTH.plusMonths(1))).isTrue();
+
+        Statement next = statement(user, THIS_MONTH.plusMonths(1));
+        assertThat(next.getOpeningBalance()).isEqualByComparingTo("40");
+        assertThat(next.getClosingBalance()).isEqualByComparingTo("100");
+        assertThat(next.getTransactionCount()).isZero();
+        assertThat(next.getSavingsNet()).isEqualByComparingTo("60");
+    }
+
+    @Test
+    void closedMonthIsLeftUntouched() throws Exception {
+        TestUser user = register("Luka");
+        deposit(user, "100");
+        statementService.closeMonth(accountId(user), THIS_MONTH);
+
+        deposit(user, "50");
+
+        assertThat(statementService.closeMonth(accountId(user), THIS_MONTH)).isFalse();
+        assertThat(statementRepository.findByAccountIdOrderByPeriodStartDesc(accountId(user))).hasSize(1);
+        assertThat(statement(user, THIS_MONTH).getClosingBalance()).isEqualByComparingTo("100");
+    }
+
+    // ==================== Private Helpers ====================
+
+    private void withdraw(TestUser user, String amount) throws Exception {
+        postJson(user, "/api/transactions/withdraw", key(), "{\"amount\":" + amount + ",\"pinCode\":\"" + PIN + "\"}")
+                .andExpect(status().isOk());
+    }
+
+    private Long accountId(TestUser user) throws Exception {
+        return account(user).get("id").asLong();
+    }
+
+    private Statement statement(TestUser user, LocalDate periodStart) throws Exception {
+        return statementRepository.findByAccountIdAndPeriodStart(accountId(user), periodStart).orElseThrow();
+    }
+}
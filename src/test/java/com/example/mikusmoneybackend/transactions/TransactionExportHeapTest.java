@@ -0,0 +1,108 @@
+package com.example.mikusmoneybackend.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.mikusmoneybackend.auth.AuthContextService;
+import com.example.mikusmoneybackend.money.Money;
+import com.example.mikusmoneybackend.transfer.TransactionHistoryResponse;
+
+/**
+ * The export holds a constant amount of heap however many rows it writes.
+ * 
+ * Rows are generated lazily instead of read from the in-memory database, which would
+ * buffer the sorted result on the same heap and hide what the export itself retains
+ * (see {@link TransactionExportTest} for the export of real rows). Runs in its own fork
+ * with a fixed heap (execution {@code export-heap} in pom.xml), not beside other tests.
+ */
+class TransactionExportHeapTest {
+
+    private static final Long USER = 1L;
+    private static final long ROWS = 1_000_000;
+    private static final long SAMPLE_EVERY_ROWS = 100_000;
+    private static final long MAX_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final AuthContextService authContextService = mock(AuthContextService.class);
+
+    private final TransactionExportService service = new TransactionExportService(
+            transactionRepository, authContextService, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void heapDoesNotGrowWithRows() throws Exception {
+        when(authContextService.getAuthenticatedUserId()).thenReturn(USER);
+        when(transactionRepository.streamHistoryByMikuId(eq(USER), any(), any())).thenReturn(rows());
+
+        StreamingResponseBody body = service.export(ExportFormat.CSV, null, null);
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream();
+        long baselineUsed = output.usedAfterGc();
+        body.writeTo(output);
+
+        assertThat(output.lines).isEqualTo(ROWS + 1);
+        assertThat(output.peakUsed - baselineUsed).isLessThan(MAX_GROWTH_BYTES);
+    }
+
+    // ==================== Private Helpers ====================
+
+    private static Stream<TransactionHistoryResponse> rows() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return LongStream.rangeClosed(1, ROWS).mapToObj(id -> TransactionHistoryResponse.builder()
+                .id(id)
+                .transactionType("SEND")
+                .amount(Money.ofMinor(id))
+                .createdAt(start.plusSeconds(id))
+                .from("Miku Hatsune")
+                .to("Rin Kagamine")
+                .balanceAfter(Money.ofMinor(ROWS - id))
+                .build());
+    }
+
+    /**
+     * Discards the output, counting lines, and measures the heap left after a collection
+     * every {@link #SAMPLE_EVERY_ROWS} lines.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        private long lines;
+        private long peakUsed;
+
+        @Override
+        public void write(int b) {
+            if (b != '\n') {
+                return;
+            }
+            if (++lines % SAMPLE_EVERY_ROWS == 0) {
+                peakUsed = Math.max(peakUsed, usedAfterGc());
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+
+        private long usedAfterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mikusmoneybackend.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+import com.example.mikusmoneybackend.auth.TokenAuthentication;
+import com.example.mikusmoneybackend.miku.MikuRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The export streams the rows of the database, from its own read-only transaction
+ * in the reads bulkhead, once the request thread has handed the body over.
+ */
+class TransactionExportTest extends IntegrationTest {
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private MikuRepository mikuRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void streamsTheHistoryInTheReadsBulkhead() throws Exception {
+        TestUser sender = register("Miku");
+        TestUser receiver = register("Rin");
+        deposit(sender, "100");
+        transfer(sender, receiver, "30");
+
+        StreamingResponseBody body = export(sender, ExportFormat.CSV);
+        BulkheadSamplingOutputStream output = new BulkheadSamplingOutputStream();
+        body.writeTo(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,transactionType,amount");
+        assertThat(lines.subList(1, 3)).anyMatch(line -> line.contains(",100.00,"));
+        assertThat(lines.subList(1, 3)).anyMatch(line -> line.contains(",30.00,"));
+        assertThat(output.readsInUse).isEqualTo(1);
+        assertThat(readsInUse()).isZero();
+    }
+
+    @Test
+    void streamsOnlyTheUsersOwnRows() throws Exception {
+        TestUser sender = register("Len");
+        TestUser receiver = register("Luka");
+        deposit(sender, "100");
+        transfer(sender, receiver, "30");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        export(receiver, ExportFormat.NDJSON).writeTo(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(1);
+        assertThat(jsonMapper.readTree(lines.get(0)).get("amount").decimalValue()).isEqualByComparingTo("30");
+    }
+
+    // ==================== Private Helpers ====================
+
+    /**
+     * Builds the body as the controller does, on a thread authenticated as the user,
+     * then drops the authentication: the body runs later, without it.
+     */
+    private StreamingResponseBody export(TestUser user, ExportFormat format) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TokenAuthentication(user.id(), null, () -> mikuRepository.findById(user.id()).orElse(null)));
+        try {
+            return transactionExportService.export(format, null, null);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private int readsInUse() {
+        return (int) meterRegistry.get("db.bulkhead.in-use").tag("pool", "reads").gauge().value();
+    }
+
+    /**
+     * Keeps the output and records how many reads connections were in use while it was written.
+     */
+    private final class BulkheadSamplingOutputStream extends ByteArrayOutputStream {
+
+        private int readsInUse;
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            readsInUse = Math.max(readsInUse, readsInUse());
+            super.write(buffer, offset, length);
+        }
+    }
+}
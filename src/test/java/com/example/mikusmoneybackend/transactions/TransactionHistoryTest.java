@@ -0,0 +1,75 @@
+package com.example.mikusmoneybackend.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * The history is projected into DTOs in one statement (plus the count for pages),
+ * however many rows and counterparties it holds.
+ */
+class TransactionHistoryTest extends IntegrationTest {
+
+    @Test
+    void historyStatementCountDoesNotGrowWithRows() throws Exception {
+        TestUser few = register("Miku");
+        TestUser many = register("Rin");
+        TestUser receiver = register("Len");
+        deposit(few, "100");
+        withRows(many, receiver, 12);
+
+        long fewStatements = countStatements(() -> perform(few, get("/api/transactions/history/slice")).andExpect(status().isOk()));
+        long manyStatements = countStatements(() -> perform(many, get("/api/transactions/history/slice")).andExpect(status().isOk()));
+
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    @Test
+    void pageRunsOneCountMoreThanSlice() throws Exception {
+        TestUser user = register("Luka");
+        TestUser receiver = register("Gumi");
+        withRows(user, receiver, 12);
+
+        long sliceStatements = countStatements(() -> perform(user, get("/api/transactions/history/slice")).andExpect(status().isOk()));
+        long pageStatements = countStatements(() -> perform(user, get("/api/transactions/history")).andExpect(status().isOk()));
+
+        assertThat(pageStatements).isEqualTo(sliceStatements + 1);
+    }
+
+    @Test
+    void pageTotalMatchesReturnedRows() throws Exception {
+        TestUser sender = register("Kaito");
+        TestUser receiver = register("Meiko");
+        withRows(sender, receiver, 12);
+
+        JsonNode first = json(perform(sender, get("/api/transactions/history")).andExpect(status().isOk()).andReturn());
+        JsonNode second = json(perform(sender, get("/api/transactions/history?page=1")).andExpect(status().isOk()).andReturn());
+        JsonNode receiverPage = json(perform(receiver, get("/api/transactions/history")).andExpect(status().isOk()).andReturn());
+
+        assertThat(first.get("content").size() + second.get("content").size()).isEqualTo(12);
+        assertThat(totalElements(first)).isEqualTo(12);
+        assertThat(receiverPage.get("content").size()).isEqualTo(10);
+        assertThat(totalElements(receiverPage)).isEqualTo(11);
+    }
+
+    /**
+     * Gives the user one deposit and {@code rows - 1} transfers to the receiver.
+     */
+    private void withRows(TestUser user, TestUser receiver, int rows) throws Exception {
+        deposit(user, "500");
+        for (int i = 1; i < rows; i++) {
+            transfer(user, receiver, "1");
+        }
+    }
+
+    private static long totalElements(JsonNode page) {
+        JsonNode metadata = page.has("page") ? page.get("page") : page;
+        return metadata.get("totalElements").asLong();
+    }
+}
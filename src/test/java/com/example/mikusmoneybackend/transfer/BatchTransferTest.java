@@ -0,0 +1,87 @@
+package com.example.mikusmoneybackend.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.IntegrationTest;
+
+/**
+ * Batch transfers book every item or none, and their keys cannot collide with single transfers.
+ */
+class BatchTransferTest extends IntegrationTest {
+
+    private static final String PATH = "/api/transactions/transfer/batch";
+
+    @Test
+    void booksEveryItem() throws Exception {
+        TestUser sender = register("Miku");
+        TestUser first = register("Rin");
+        TestUser second = register("Len");
+        deposit(sender, "100");
+
+        postJson(sender, PATH, key(), batch(first, "30", second, "20")).andExpect(status().isOk());
+
+        assertThat(balance(sender)).isEqualByComparingTo("50");
+        assertThat(balance(first)).isEqualByComparingTo("30");
+        assertThat(balance(second)).isEqualByComparingTo("20");
+    }
+
+    @Test
+    void booksNothingWhenAnItemFails() throws Exception {
+        TestUser sender = register("Luka");
+        TestUser first = register("Gumi");
+        TestUser second = register("Kaito");
+        deposit(sender, "40");
+
+        postJson(sender, PATH, key(), batch(first, "30", second, "20")).andExpect(status().is4xxClientError());
+
+        assertThat(balance(sender)).isEqualByComparingTo("40");
+        assertThat(balance(first)).isEqualByComparingTo("0");
+        assertThat(balance(second)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void replayedBatchIsRejected() throws Exception {
+        TestUser sender = register("Meiko");
+        TestUser receiver = register("Teto");
+        deposit(sender, "100");
+        String key = key();
+
+        postJson(sender, PATH, key, batch(receiver, "10", receiver, "10")).andExpect(status().isOk());
+        int replayed = postJson(sender, PATH, key, batch(receiver, "10", receiver, "10")).andReturn().getResponse().getStatus();
+
+        assertThat(replayed).isNotEqualTo(200);
+        assertThat(balance(sender)).isEqualByComparingTo("80");
+    }
+
+    @Test
+    void singleTransferCannotUseAnItemKey() throws Exception {
+        TestUser sender = register("Neru");
+        TestUser receiver = register("Haku");
+        deposit(sender, "100");
+        String key = key();
+
+        postJson(sender, PATH, key, batch(receiver, "10", receiver, "10")).andExpect(status().isOk());
+        postJson(sender, "/api/transactions/transfer", key + "#0",
+                "{\"amount\":5,\"pinCode\":\"" + PIN + "\",\"receiverPublicCode\":\"" + receiver.publicCode() + "\"}")
+                .andExpect(status().isBadRequest());
+
+        assertThat(balance(sender)).isEqualByComparingTo("80");
+    }
+
+    private static String batch(TestUser first, String firstAmount, TestUser second, String secondAmount) {
+        return """
+            {"pinCode":"%s","items":[
+              {"receiverPublicCode":"%s","amount":%s},
+              {"receiverPublicCode":"%s","amount":%s}]}
+            """.formatted(PIN, first.publicCode(), firstAmount, second.publicCode(), secondAmount);
+    }
+
+    private BigDecimal balance(TestUser user) throws Exception {
+        return account(user).get("totalMoney").decimalValue();
+    }
+}
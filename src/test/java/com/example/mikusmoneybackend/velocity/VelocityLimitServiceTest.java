@@ -0,0 +1,73 @@
+package com.example.mikusmoneybackend.velocity;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.mikusmoneybackend.account.BalanceSnapshotRepository;
+import com.example.mikusmoneybackend.config.VelocityProperties;
+import com.example.mikusmoneybackend.config.exception.BusinessException;
+import com.example.mikusmoneybackend.holds.HoldRepository;
+import com.example.mikusmoneybackend.money.Money;
+
+class VelocityLimitServiceTest {
+
+    private static final Long USER = 1L;
+
+    private final VelocityProperties properties = new VelocityProperties();
+    private final HoldRepository holdRepository = mock(HoldRepository.class);
+    private VelocityLimitService service;
+
+    @BeforeEach
+    void setUp() {
+        VelocityProperties.Limit limit = properties.getLimits().get(VelocityOperation.WITHDRAW);
+        limit.setHourlyCount(1);
+        limit.setHourlyAmount(BigDecimal.valueOf(100));
+        service = new VelocityLimitService(properties, mock(BalanceSnapshotRepository.class), holdRepository);
+    }
+
+    @Test
+    void releasedHoldNoLongerCounts() {
+        LocalDateTime placedAt = LocalDateTime.now();
+        service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(60));
+
+        service.releaseAfterCommit(USER, VelocityOperation.WITHDRAW, Money.ofMajor(60), 1, placedAt);
+
+        assertThatCode(() -> service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(60)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void partlyCapturedHoldKeepsCountingOnce() {
+        LocalDateTime placedAt = LocalDateTime.now();
+        service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(60));
+
+        // Captured 10 of 60: the remainder is given back, the operation still counts
+        service.releaseAfterCommit(USER, VelocityOperation.WITHDRAW, Money.ofMajor(50), 0, placedAt);
+        properties.getLimits().get(VelocityOperation.WITHDRAW).setHourlyCount(2);
+
+        assertThatCode(() -> service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(90)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(1)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void pendingHoldsAreSeeded() {
+        when(holdRepository.findVelocitySeed(eq(USER), any()))
+                .thenReturn(List.of(new VelocitySeedRow("WITHDRAW", Money.ofMajor(5), LocalDateTime.now())));
+
+        assertThatThrownBy(() -> service.reserve(USER, VelocityOperation.WITHDRAW, Money.ofMajor(5)))
+                .isInstanceOf(BusinessException.class);
+    }
+}